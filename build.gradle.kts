@@ -53,6 +53,16 @@ dependencies {
     compileOnly("org.jetbrains:annotations:26.0.2")
     compileOnly("me.clip:placeholderapi:2.11.5")
     compileOnly("com.mojang:authlib:6.0.58")
+
+    testImplementation(platform("org.junit:junit-bom:5.10.2"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    testImplementation("io.papermc.paper:paper-api:1.18.2-R0.1-SNAPSHOT")
+    testCompileOnly("org.jetbrains:annotations:26.0.2")
+}
+
+tasks.test {
+    useJUnitPlatform()
 }
 
 tasks.runServer {
@@ -1,8 +1,13 @@
 package xyz.overdyn.dyngui;
 
+import org.bukkit.entity.Entity;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.scheduler.RegionExecutor;
 import xyz.overdyn.dyngui.scheduler.TaskScheduler;
+import xyz.overdyn.dyngui.scheduler.TaskSchedulerImpl;
+
+import java.util.function.Supplier;
 
 public interface DynGui {
 
@@ -10,6 +15,33 @@ public interface DynGui {
 
     TaskScheduler createTaskScheduler();
 
+    /**
+     * Creates a scheduler whose synchronous tasks run for an owner entity, e.g. on the
+     * viewer's region on Folia.
+     *
+     * @param owner supplies the current owner, or {@code null} while there is none
+     * @return scheduler running on {@link #getRegionExecutor()}
+     */
+    default TaskScheduler createTaskScheduler(@NotNull Supplier<? extends Entity> owner) {
+        return new TaskSchedulerImpl(getRegionExecutor(), owner);
+    }
+
+    /**
+     * Returns the executor for work scheduled by DynGui itself.
+     *
+     * <p>The default detects the executor once per instance and reuses it.</p>
+     *
+     * @return region executor of the running server
+     */
+    default @NotNull RegionExecutor getRegionExecutor() {
+        Holder.Detected detected = Holder.detected;
+        if (detected == null || detected.owner() != this) {
+            detected = new Holder.Detected(this, RegionExecutor.detect(getPlugin()));
+            Holder.detected = detected;
+        }
+        return detected.executor();
+    }
+
     void dispose();
 
     boolean isSupportedPlaceholder();
@@ -43,6 +75,12 @@ public interface DynGui {
     final class Holder {
         static volatile DynGui INSTANCE;
 
+        /** Executor detected by the default {@link #getRegionExecutor()}. */
+        static volatile Detected detected;
+
+        record Detected(DynGui owner, RegionExecutor executor) {
+        }
+
         private Holder() {
         }
     }
@@ -4,9 +4,13 @@ import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.java.JavaPlugin;
+import xyz.overdyn.dyngui.abstracts.GuiPool;
+import xyz.overdyn.dyngui.animation.AnimationClock;
 import xyz.overdyn.dyngui.dupe.ItemMarker;
+import xyz.overdyn.dyngui.form.v2.cache.TextureCache;
 import xyz.overdyn.dyngui.listener.GuiListener;
 import xyz.overdyn.dyngui.manager.SessionManager;
+import xyz.overdyn.dyngui.scheduler.RegionExecutor;
 import xyz.overdyn.dyngui.scheduler.TaskScheduler;
 import xyz.overdyn.dyngui.scheduler.TaskSchedulerImpl;
 
@@ -16,10 +20,13 @@ public class DynGuiBootstrap implements DynGui {
     private final JavaPlugin plugin;
     @Getter
     private final boolean supportedPlaceholder;
+    @Getter
+    private final RegionExecutor regionExecutor;
     private final GuiListener listener;
 
     private DynGuiBootstrap(JavaPlugin plugin) {
         this.plugin = plugin;
+        this.regionExecutor = RegionExecutor.detect(plugin);
         this.listener = new GuiListener();
         Bukkit.getPluginManager().registerEvents(listener, plugin);
         ItemMarker.init(plugin);
@@ -34,6 +41,9 @@ public class DynGuiBootstrap implements DynGui {
     public void dispose() {
         HandlerList.unregisterAll(listener);
         SessionManager.dispose();
+        GuiPool.clearAll();
+        AnimationClock.global().stop();
+        TextureCache.shared().save();
         DynGui.Holder.INSTANCE = null;
     }
 
@@ -38,6 +38,11 @@ import java.util.Objects;
  * </ul>
  *
  * <p>
+ * Layouts shown to several players at once are built with
+ * {@link xyz.overdyn.dyngui.shared.SharedBoard}, which opens one view per player.
+ * </p>
+ *
+ * <p>
  * The class is responsible for:
  * </p>
  * <ul>
@@ -49,7 +54,8 @@ import java.util.Objects;
  * </ul>
  *
  * <p>
- * <b>Threading:</b> All methods must be invoked from the Bukkit main thread.
+ * <b>Threading:</b> All methods must be invoked from the thread owning the viewer: the
+ * Bukkit main thread on Paper, the viewer's region thread on Folia.
  * </p>
  */
 public abstract class AbstractGui implements InventoryHolder {
@@ -62,7 +68,7 @@ public abstract class AbstractGui implements InventoryHolder {
      * </p>
      */
     protected final TaskScheduler scheduler =
-            DynGui.getInstance().createTaskScheduler();
+            DynGui.getInstance().createTaskScheduler(this::getViewer);
 
     /**
      * Inventory size for chest-based inventories.
@@ -88,6 +94,16 @@ public abstract class AbstractGui implements InventoryHolder {
      */
     private Inventory inventory;
 
+    /**
+     * Title the {@link #inventory} was created with, shown by the client when it is opened.
+     */
+    private @NotNull Component inventoryTitle;
+
+    /**
+     * Title the viewer's client currently shows, or {@code null} if the GUI is not open.
+     */
+    private @Nullable Component sentTitle;
+
     /**
      * Policy defining allowed interactions and behavior.
      */
@@ -100,7 +116,17 @@ public abstract class AbstractGui implements InventoryHolder {
      * {@code null} if the GUI is not open.
      * </p>
      */
-    private @Nullable Player viewer;
+    private volatile @Nullable Player viewer;
+
+    /**
+     * Pool this GUI is returned to after it is closed, or {@code null} if not pooled.
+     */
+    @Nullable GuiPool<?> pool;
+
+    /**
+     * Whether this GUI currently sits idle in its {@link #pool} and must not be used.
+     */
+    volatile boolean idle;
 
     /**
      * Creates a chest-based GUI with default size (54).
@@ -164,6 +190,7 @@ public abstract class AbstractGui implements InventoryHolder {
      * @return newly created inventory
      */
     private Inventory createInventory() {
+        inventoryTitle = title;
         return type != null
                 ? Bukkit.createInventory(this, type, title)
                 : Bukkit.createInventory(this, size, title);
@@ -210,6 +237,10 @@ public abstract class AbstractGui implements InventoryHolder {
             throw new IllegalArgumentException("GUI can only be opened for Player");
         }
 
+        if (idle) {
+            throw new IllegalStateException("This GUI instance was returned to its pool and must be acquired again");
+        }
+
         if (viewer != null && viewer != player) {
             throw new IllegalStateException(
                     "This GUI instance is already bound to another player: " + viewer.getName()
@@ -221,6 +252,7 @@ public abstract class AbstractGui implements InventoryHolder {
         }
 
         this.viewer = player;
+        this.sentTitle = inventoryTitle;
         player.openInventory(inventory);
         SessionManager.register(player, this);
     }
@@ -258,16 +290,32 @@ public abstract class AbstractGui implements InventoryHolder {
         if (policy.interaction().isEnabled(
                 InteractionPolicy.InteractionType.UPDATE_AFTER_CLOSE
         )) {
-            Bukkit.getScheduler().runTaskLater(
-                    DynGui.getInstance().getPlugin(),
-                    player::updateInventory,
-                    1
-            );
+            DynGui.getInstance().getRegionExecutor().runFor(player, player::updateInventory, 1L, 0L);
         }
 
         scheduler.cancelAll();
         viewer = null;
+        sentTitle = null;
         SessionManager.unregister(player);
+
+        if (pool != null) pool.scheduleRecycle(this, player);
+    }
+
+    /**
+     * Resets this GUI before it is returned to its {@link GuiPool}.
+     *
+     * <p>
+     * Called on the main thread after the GUI was closed and all close handlers ran.
+     * Implementations must clear any state tied to the previous viewer, so the next
+     * {@link GuiPool#acquire()} gets an instance that behaves like a fresh one.
+     * The inventory, registered items and handlers are kept unless cleared here.
+     * </p>
+     *
+     * <p>
+     * If this method throws, the instance is discarded instead of pooled.
+     * </p>
+     */
+    protected void reset() {
     }
 
     /**
@@ -291,6 +339,11 @@ public abstract class AbstractGui implements InventoryHolder {
     /**
      * Updates the GUI title without rebuilding the inventory.
      *
+     * <p>
+     * The title is sent immediately. For titles that change often, prefer
+     * {@link #requestTitle(Component)}.
+     * </p>
+     *
      * @param newTitle new title component
      * @return {@code true} if the title was successfully updated
      */
@@ -300,10 +353,39 @@ public abstract class AbstractGui implements InventoryHolder {
         if (!isOpen()) return false;
 
         boolean result = InventoryTitleUpdater.updateTitle(viewer, title);
+        // The open screen packet makes the client reopen the container empty,
+        // so its contents have to be sent again on every version.
         viewer.updateInventory();
+        if (result) sentTitle = title;
         return result;
     }
 
+    /**
+     * Sets a new title and sends it on the next tick.
+     *
+     * <p>
+     * Any number of requests within one tick result in at most one title update, carrying
+     * the last requested title. Nothing is sent if the client already shows that title.
+     * </p>
+     *
+     * @param newTitle new title component
+     * @see TitleCoalescer
+     */
+    public final void requestTitle(@NotNull Component newTitle) {
+        this.title = newTitle;
+        if (isOpen()) TitleCoalescer.submit(this);
+    }
+
+    /**
+     * Sends the current title if the client shows a different one.
+     *
+     * @return {@code true} if a title update was sent
+     */
+    final boolean flushTitle() {
+        if (!isOpen() || title.equals(sentTitle)) return false;
+        return updateTitle(title);
+    }
+
     /**
      * Updates the GUI title using the current title value.
      *
@@ -4,6 +4,11 @@ import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.DynGui;
+import xyz.overdyn.dyngui.content.ContentSource;
+import xyz.overdyn.dyngui.content.CursorSource;
+import xyz.overdyn.dyngui.content.LiveSource;
 import xyz.overdyn.dyngui.items.GuiItem;
 import xyz.overdyn.dyngui.policy.GuiPolicy;
 
@@ -20,10 +25,24 @@ import java.util.List;
  *     <li>Slot allocation for where items may appear</li>
  *     <li>Per-page logic hook before displaying content</li>
  *     <li>Efficient removal by key</li>
+ *     <li>Live updates from a {@link LiveSource}</li>
  * </ul>
  *
  * <p>To use this, populate content via {@link #addItemToContent(GuiItem)},
  * specify allowed slot via {@link #setAllowedSlots(int...)}, and call {@link #open(Player)}.</p>
+ *
+ * <p>Pages are virtual: only the items of the page being shown are fetched and placed.
+ * Large or external content can be supplied through a {@link ContentSource} instead of the
+ * built-in list, see {@link #setContentSource(ContentSource)}.</p>
+ *
+ * <p>A {@link LiveSource}, such as an {@link xyz.overdyn.dyngui.content.OrderedContent} or a
+ * {@link xyz.overdyn.dyngui.content.ContentView}, is followed while the GUI is open: a change
+ * before the end of the visible window reflows the page on the next tick, writing only the
+ * slots that differ; a change behind it only runs {@link #everyPageLogic()}, e.g. for the page
+ * counter. Changes made within one tick are applied together.</p>
+ *
+ * <p>Content that changes while viewers flip pages can be paged by key instead, see
+ * {@link #setCursorSource(CursorSource)}.</p>
  */
 public abstract class AbstractGuiContent extends AbstractGuiPaginator {
 
@@ -32,11 +51,54 @@ public abstract class AbstractGuiContent extends AbstractGuiPaginator {
      */
     private final List<GuiItem> content = new ArrayList<>();
 
+    /**
+     * Source view of the {@link #content} list.
+     */
+    private final ContentSource<GuiItem> listSource = ContentSource.of(content);
+
+    /**
+     * Source of the pages; the {@link #content} list unless replaced.
+     */
+    private ContentSource<GuiItem> source = listSource;
+
+    /**
+     * Keyset paging; replaces the {@link #source} while set.
+     */
+    private @Nullable CursorPaging<?, GuiItem> cursor;
+
     /**
      * Slots allowed for placing content items (per page).
      */
     private int[] allowedSlots;
 
+    /**
+     * Receives changes of a bound {@link LiveSource} while the GUI is open and hands them to
+     * the viewer's thread; a source may be shared by GUIs of different regions.
+     */
+    private final LiveSource.Listener liveListener = index -> {
+        Player viewer = getViewer();
+        if (viewer == null) return;
+        DynGui.getInstance().getRegionExecutor().execute(viewer, () -> contentChanged(index));
+    };
+
+    /**
+     * Whether a pending change touches the visible window.
+     */
+    private boolean windowDirty;
+
+    /**
+     * Whether pending changes are scheduled to be applied.
+     */
+    private boolean changesScheduled;
+
+    {
+        onClose(event -> {
+            unbindLive();
+            windowDirty = false;
+            changesScheduled = false;
+        });
+    }
+
     /**
      * Constructs a paginated GUI with the given component title and policy.
      *
@@ -74,9 +136,74 @@ public abstract class AbstractGuiContent extends AbstractGuiPaginator {
      * Call {@link #open(Player)} again to refresh the UI.
      *
      * @param wrapper item to add
+     * @throws IllegalStateException if the content comes from a custom {@link ContentSource}
      */
     public void addItemToContent(GuiItem wrapper) {
+        requireListSource();
         content.add(wrapper);
+        invalidatePageCache();
+    }
+
+    /**
+     * Replaces the built-in content list with a paged source.
+     * Call {@link #refreshPage()} to show the new content in an open GUI.
+     *
+     * @param source source of the content items; items get their slot assigned when shown
+     */
+    public void setContentSource(@NotNull ContentSource<GuiItem> source) {
+        unbindLive();
+        this.cursor = null;
+        this.source = source;
+        if (isOpen()) bindLive();
+        invalidatePageCache();
+    }
+
+    /**
+     * Pages the content by key: every page is fetched relative to the first or last key of
+     * the open page, so entries added or removed elsewhere do not shift the pages while the
+     * viewer flips them. Call {@link #refreshPage()} to show the new content in an open GUI.
+     *
+     * <p>The total number of pages is not known in this mode: {@link #pages()} counts the
+     * open page and, if there are more entries, one more page. Jumping several pages ahead
+     * fetches the pages in between.</p>
+     *
+     * <p>The {@linkplain #enablePageCache(int, boolean) page cache} is bypassed in this mode:
+     * a page is sought from the open page every time, so a cached page could show entries
+     * that moved since.</p>
+     *
+     * @param source source of the content items; items get their slot assigned when shown
+     */
+    public void setCursorSource(@NotNull CursorSource<?, GuiItem> source) {
+        unbindLive();
+        this.source = listSource;
+        this.cursor = new CursorPaging<>(source);
+        invalidatePageCache();
+    }
+
+    /**
+     * Pages fetched by key depend on the open page, not only on their index.
+     */
+    @Override
+    protected boolean cachesPages() {
+        return cursor == null;
+    }
+
+    /**
+     * Returns the source of the pages.
+     *
+     * @return content source; the built-in list while a {@link CursorSource} is set
+     */
+    public @NotNull ContentSource<GuiItem> getContentSource() {
+        return source;
+    }
+
+    /**
+     * Returns the number of content slots per page.
+     *
+     * @return page size, 0 if no slots are set
+     */
+    public int pageSize() {
+        return allowedSlots == null ? 0 : allowedSlots.length;
     }
 
     /**
@@ -97,78 +224,157 @@ public abstract class AbstractGuiContent extends AbstractGuiPaginator {
     @Override
     public void openPage(int page) {
         super.openPage(page);
+
+        // Entries before the open page were removed: it is the first page now.
+        if (cursor != null && currentPage > 0 && cursor.atStart(openItems())) {
+            currentPage = 0;
+            invalidatePageCache();
+        }
         everyPageLogic();
     }
 
     /**
-     * Removes all items from content (and visible pages) that match the given key.
+     * Removes all items from content that match the given key and refreshes the open page.
      *
      * @param key unique key to remove by
      * @return number of items removed
+     * @throws IllegalStateException if the content comes from a custom {@link ContentSource}
      */
     public int removeContentByKey(@NotNull String key) {
-        int page = currentPage();
+        requireListSource();
 
-        List<GuiItem> toRemove = new ArrayList<>();
-        for (GuiItem item : content) {
-            if (key.equals(item.key())) {
-                toRemove.add(item);
-            }
+        int before = content.size();
+        content.removeIf(item -> key.equals(item.key()));
+        int removedCount = before - content.size();
+
+        if (removedCount > 0 && currentPage() >= 0) refreshPage();
+        return removedCount;
+    }
+
+    @Override
+    protected int pageCount() {
+        int perPage = pageSize();
+        if (perPage == 0) return 0;
+        if (cursor != null) return cursor.pageCount(currentPage(), openItems(), perPage);
+        return (source.count() + perPage - 1) / perPage;
+    }
+
+    /**
+     * Fetches the items of a single page from the {@link #source} and assigns them into
+     * {@link #allowedSlots}.
+     */
+    @Override
+    protected @NotNull List<GuiItem> pageItems(int pageIndex) {
+        int perPage = pageSize();
+        List<GuiItem> items = cursor != null
+                ? cursor.page(currentPage(), openItems(), pageIndex, perPage)
+                : source.fetch(pageIndex * perPage, perPage);
+
+        int count = Math.min(items.size(), perPage);
+        for (int i = 0; i < count; i++) {
+            items.get(i).setSlots(Collections.singleton(allowedSlots[i]));
         }
+        return count == items.size() ? items : items.subList(0, count);
+    }
 
-        if (toRemove.isEmpty()) return 0;
+    /**
+     * Called when the bound {@link LiveSource} changed.
+     *
+     * @param index first position that may have changed
+     */
+    protected void contentChanged(int index) {
+        invalidatePageCache();
+        if (currentPage() < 0 || index < (currentPage() + 1) * pageSize()) windowDirty = true;
 
-        int removedCount = 0;
+        if (changesScheduled) return;
+        changesScheduled = true;
+        scheduler.runTask(this::applyContentChanges);
+    }
 
-        for (GuiItem item : toRemove) {
-            if (!pages.isEmpty()) {
-                List<GuiItem> pageItems = pages.get(page).controllers();
+    private void applyContentChanges() {
+        changesScheduled = false;
+        if (!isOpen()) return;
 
-                if (pageItems.contains(item)) {
-                    pageItems.remove(item);
-                    content.remove(item);
-                    for (int slot : item.getSlots()) {
-                        unregisterItem(slot);
-                    }
+        if (windowDirty) {
+            windowDirty = false;
+            refreshPage();
+        } else {
+            everyPageLogic();
+        }
+    }
 
-                    removedCount++;
-                }
+    private void bindLive() {
+        if (source instanceof LiveSource<GuiItem> live) live.addListener(liveListener);
+    }
 
-                for (Page pageS : pages) {
-                    pageS.controllers().remove(item);
-                }
-            }
+    private void unbindLive() {
+        if (source instanceof LiveSource<GuiItem> live) live.removeListener(liveListener);
+    }
+
+    private void requireListSource() {
+        if (source != listSource || cursor != null) {
+            throw new IllegalStateException("Content is provided by a ContentSource and cannot be modified here");
         }
-        return removedCount;
     }
 
     /**
-     * Generates paginated pages from the current {@link #content} list.
-     * Items are assigned into {@link #allowedSlots}.
+     * Keyset paging over a {@link CursorSource}, relative to the items of the open page.
      */
-    private void generatePages() {
-        pages.clear();
+    static final class CursorPaging<K, T> {
+
+        private final CursorSource<K, T> source;
 
-        int perPage = allowedSlots.length;
-        int totalItems = content.size();
-        int totalPages = (int) Math.ceil((double) totalItems / perPage);
+        CursorPaging(CursorSource<K, T> source) {
+            this.source = source;
+        }
 
-        for (int p = 0; p < totalPages; p++) {
-            List<GuiItem> items = new ArrayList<>();
+        int pageCount(int current, List<T> shown, int perPage) {
+            if (current < 0 || shown.isEmpty()) {
+                int ahead = source.after(null, perPage + 1).size();
+                return ahead == 0 ? 0 : ahead > perPage ? 2 : 1;
+            }
+            return current + (source.after(lastKey(shown), 1).isEmpty() ? 1 : 2);
+        }
 
-            int from = p * perPage;
-            int to = Math.min(from + perPage, totalItems);
-            int index = 0;
+        List<T> page(int current, List<T> shown, int target, int perPage) {
+            if (current < 0 || shown.isEmpty() || target == 0) return forward(null, target, perPage);
 
-            for (int i = from; i < to; i++) {
-                int slot = allowedSlots[index++];
-                var item = content.get(i);
-                item.setSlots(Collections.singleton(slot));
+            if (target > current) return forward(lastKey(shown), target - current - 1, perPage);
 
-                items.add(item);
+            if (target < current) {
+                K to = source.keyOf(shown.get(0));
+                List<T> page = List.of();
+                for (int i = current; i > target; i--) {
+                    page = source.before(to, perPage);
+                    // Ran into the start: there are fewer pages before than the index says.
+                    if (page.size() < perPage) return source.after(null, perPage);
+                    to = source.keyOf(page.get(0));
+                }
+                return page;
             }
 
-            addPage(items);
+            // Same page again: from the entry preceding the first shown one.
+            List<T> previous = source.before(source.keyOf(shown.get(0)), 1);
+            return source.after(previous.isEmpty() ? null : source.keyOf(previous.get(0)), perPage);
+        }
+
+        boolean atStart(List<T> shown) {
+            return shown.isEmpty() || source.before(source.keyOf(shown.get(0)), 1).isEmpty();
+        }
+
+        /**
+         * Skips {@code skip} pages after a key and returns the next one.
+         */
+        private List<T> forward(@Nullable K from, int skip, int perPage) {
+            List<T> page = source.after(from, perPage);
+            for (int i = 0; i < skip && !page.isEmpty(); i++) {
+                page = source.after(lastKey(page), perPage);
+            }
+            return page;
+        }
+
+        private K lastKey(List<T> items) {
+            return source.keyOf(items.get(items.size() - 1));
         }
     }
 
@@ -179,13 +385,14 @@ public abstract class AbstractGuiContent extends AbstractGuiPaginator {
     protected void everyPageLogic() {}
 
     /**
-     * Regenerates pages and opens the GUI for the given player.
+     * Opens the GUI for the given player on the first page.
      *
      * @param player player to open for
      */
     public final void open(@NotNull Player player) {
-        generatePages();
         super.open(player);
+        unbindLive();
+        bindLive();
         openPage(0);
     }
 }
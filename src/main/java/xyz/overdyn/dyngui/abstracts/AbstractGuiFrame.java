@@ -2,14 +2,15 @@ package xyz.overdyn.dyngui.abstracts;
 
 import net.kyori.adventure.text.Component;
 import org.bukkit.event.inventory.InventoryType;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.animation.Animation;
+import xyz.overdyn.dyngui.animation.Easing;
+import xyz.overdyn.dyngui.animation.Timeline;
 import xyz.overdyn.dyngui.items.GuiItem;
 import xyz.overdyn.dyngui.policy.GuiPolicy;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -21,12 +22,19 @@ import java.util.List;
  * </p>
  *
  * <p>
+ * All animations of a frame are compiled into {@link Animation}s and played on one
+ * {@link Timeline}, driven by a single ticker. Each method returns the
+ * {@link Timeline.Track} of its animation, which can be cancelled on its own.
+ * </p>
+ *
+ * <p>
  * All tasks are automatically cancelled when GUI closes.
  * </p>
  */
 public abstract class AbstractGuiFrame extends AbstractGuiLayer {
 
-    private final List<BukkitTask> tasks = new ArrayList<>();
+    /** Timeline playing all animations of this frame; actions are skipped while the GUI is closed. */
+    protected final Timeline timeline = new Timeline(scheduler, this::isOpen);
 
     {
         onClose(e -> stopAllFrames());
@@ -52,28 +60,25 @@ public abstract class AbstractGuiFrame extends AbstractGuiLayer {
     /* ===================== SCHEDULER UTILS ================== */
     /* ========================================================= */
 
+    /** Play an animation on this frame's timeline */
+    protected final Timeline.Track play(Animation animation) {
+        return timeline.play(animation);
+    }
+
     /** Schedule a single task after a delay (ticks) */
-    protected final void after(long delay, Runnable action) {
-        BukkitTask task = scheduler.runTask(() -> {
-            if (!isOpen()) return;
-            action.run();
-        }, delay);
-        tasks.add(task);
+    protected final Timeline.Track after(long delay, Runnable action) {
+        return timeline.play(Animation.at(0, action), delay);
     }
 
-    /** Schedule a repeating task with delay and period */
-    protected final void every(long delay, long period, Runnable action) {
-        BukkitTask task = scheduler.runTask(() -> {
-            if (!isOpen()) return;
-            action.run();
-        }, delay, period);
-        tasks.add(task);
+    /** Schedule a repeating task with delay and period; a period of 0 or less runs it once, like {@link #after} */
+    protected final Timeline.Track every(long delay, long period, Runnable action) {
+        if (period <= 0) return after(delay, action);
+        return timeline.play(Animation.builder().at(0, action).length(period).build().loop(), delay);
     }
 
     /** Stop all scheduled tasks for this frame */
     protected final void stopAllFrames() {
-        tasks.forEach(BukkitTask::cancel);
-        tasks.clear();
+        timeline.cancelAll();
     }
 
     /* ========================================================= */
@@ -96,56 +101,43 @@ public abstract class AbstractGuiFrame extends AbstractGuiLayer {
         });
     }
 
-    /** Move single GuiItem from one slot to another */
+    /** Move the content of one slot to another, without cloning or re-rendering it */
     protected final void moveItem(int from, int to) {
-        GuiItem item = getItem(from).clone();
-        if (item == null) return;
-
-        unregisterSlotOnly(from);
-        unregisterItem(from);
-        item.clearSlots();
-        item.addSlot(to);
-        registerItem(item);
+        relocateSlot(from, to);
     }
 
-    /** Swap two GuiItems */
+    /** Swap the contents of two slots, without cloning or re-rendering them */
     protected final void swapItems(int a, int b) {
-        GuiItem itemA = getItem(a).clone();
-        GuiItem itemB = getItem(b).clone();
-
-        if (itemA != null) unregisterSlotOnly(a);
-        if (itemB != null) unregisterSlotOnly(b);
-
-        if (itemA != null) {
-            itemA.clearSlots();
-            itemA.addSlot(b);
-            registerItem(itemA);
-        }
-        if (itemB != null) {
-            itemB.clearSlots();
-            itemB.addSlot(a);
-            registerItem(itemB);
-        }
+        swapSlots(a, b);
     }
 
     /** Move multiple items with optional delay between each */
-    protected final void moveMultiple(List<Integer> fromSlots, List<Integer> toSlots, long delay) {
+    protected final Timeline.Track moveMultiple(List<Integer> fromSlots, List<Integer> toSlots, long delay) {
         int size = Math.min(fromSlots.size(), toSlots.size());
+        List<Runnable> steps = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
             int from = fromSlots.get(i);
             int to = toSlots.get(i);
-            after(i * delay, () -> moveItem(from, to));
+            steps.add(() -> moveItem(from, to));
         }
+        return play(Animation.steps(delay, steps));
     }
 
     /** Swap multiple pairs of items with optional delay */
-    protected final void swapMultiple(List<Integer> slotsA, List<Integer> slotsB, long delay) {
+    protected final Timeline.Track swapMultiple(List<Integer> slotsA, List<Integer> slotsB, long delay) {
         int size = Math.min(slotsA.size(), slotsB.size());
+        List<Runnable> steps = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
             int a = slotsA.get(i);
             int b = slotsB.get(i);
-            after(i * delay, () -> swapItems(a, b));
+            steps.add(() -> swapItems(a, b));
         }
+        return play(Animation.steps(delay, steps));
+    }
+
+    /** Move the item at the first slot of a path along the path, eased over a duration */
+    protected final Timeline.Track moveAlong(List<Integer> path, long duration, Easing easing) {
+        return play(Animation.path(path, duration, easing, this::moveItem));
     }
 
     /* ========================================================= */
@@ -153,83 +145,66 @@ public abstract class AbstractGuiFrame extends AbstractGuiLayer {
     /* ========================================================= */
 
     /** Fill slots sequentially with GuiItem and period */
-    protected final void fillSequential(List<Integer> slots, GuiItem item, long period) {
-        Iterator<Integer> it = slots.iterator();
-        every(0, period, () -> {
-            if (!it.hasNext()) {
-                stopAllFrames();
-                return;
-            }
-            int slot = it.next();
-            GuiItem copy = item.clone();
-            copy.clearSlots();
-            copy.addSlot(slot);
-            register(copy);
-        });
+    protected final Timeline.Track fillSequential(List<Integer> slots, GuiItem item, long period) {
+        List<Runnable> steps = new ArrayList<>(slots.size());
+        for (int slot : slots) {
+            steps.add(() -> {
+                GuiItem copy = item.clone();
+                copy.clearSlots();
+                copy.addSlot(slot);
+                register(copy);
+            });
+        }
+        return play(Animation.steps(period, steps));
     }
 
     /** Clear slots sequentially */
-    protected final void clearSequential(List<Integer> slots, long period) {
-        Iterator<Integer> it = slots.iterator();
-        every(0, period, () -> {
-            if (!it.hasNext()) {
-                stopAllFrames();
-                return;
-            }
-            unregisterItem(it.next());
-        });
+    protected final Timeline.Track clearSequential(List<Integer> slots, long period) {
+        List<Runnable> steps = new ArrayList<>(slots.size());
+        for (int slot : slots) {
+            steps.add(() -> unregisterItem(slot));
+        }
+        return play(Animation.steps(period, steps));
     }
 
     /** Blink GuiItem in slot periodically */
-    protected final void blink(int slot, long period) {
+    protected final Timeline.Track blink(int slot, long period) {
         GuiItem original = getItem(slot);
-        if (original == null) return;
-
-        every(0, period, new Runnable() {
-            boolean visible = true;
-
-            @Override
-            public void run() {
-                if (!isOpen()) {
-                    stopAllFrames();
-                    return;
-                }
-                if (visible) unregisterItem(slot);
-                else registerItem(original.clone());
-                visible = !visible;
-            }
-        });
+        if (original == null) return play(Animation.empty());
+
+        return play(Animation.builder()
+                .at(0, () -> unregisterItem(slot))
+                .at(period, () -> registerItem(original.clone()))
+                .length(period * 2)
+                .build()
+                .loop());
     }
 
     /** Wave animation across slots sequentially */
-    protected final void wave(List<Integer> slots, long period) {
-        Iterator<Integer> it = slots.iterator();
-        every(0, period, new Runnable() {
-            Integer prev = null;
-
-            @Override
-            public void run() {
-                if (!it.hasNext()) {
-                    stopAllFrames();
-                    return;
-                }
+    protected final Timeline.Track wave(List<Integer> slots, long period) {
+        if (slots.isEmpty()) return play(Animation.empty());
+        GuiItem item = getItem(slots.get(0));
+        if (item == null) return play(Animation.empty());
+
+        List<Runnable> steps = new ArrayList<>(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            Integer prev = i == 0 ? null : slots.get(i - 1);
+            int slot = slots.get(i);
+            steps.add(() -> {
                 if (prev != null) unregisterItem(prev);
-                prev = it.next();
-                GuiItem item = getItem(slots.get(0));
-                if (item != null) {
-                    registerItem(item.clone().clearSlots().addSlot(prev));
-                }
-            }
-        });
+                registerItem(item.clone().clearSlots().addSlot(slot));
+            });
+        }
+        return play(Animation.steps(period, steps));
     }
 
     /** Wind / spiral animation */
-    protected final void windAnimation(List<List<Integer>> layers, GuiItem item, long step) {
+    protected final Timeline.Track windAnimation(List<List<Integer>> layers, GuiItem item, long step) {
+        Animation.Builder animation = Animation.builder();
         long tick = 0;
         for (List<Integer> layer : layers) {
             for (int slot : layer) {
-                long currentTick = tick;
-                after(currentTick, () -> {
+                animation.at(tick, () -> {
                     GuiItem copy = item.clone();
                     copy.clearSlots();
                     copy.addSlot(slot);
@@ -238,5 +213,6 @@ public abstract class AbstractGuiFrame extends AbstractGuiLayer {
             }
             tick += step;
         }
+        return play(animation.build());
     }
 }
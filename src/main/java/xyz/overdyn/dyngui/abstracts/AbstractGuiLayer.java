@@ -3,14 +3,18 @@ package xyz.overdyn.dyngui.abstracts;
 import net.kyori.adventure.text.Component;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import xyz.overdyn.dyngui.items.GuiItem;
 import xyz.overdyn.dyngui.items.ItemWrapper;
 import xyz.overdyn.dyngui.policy.GuiPolicy;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Abstract GUI layer with dynamic item support and optional auto-update.
@@ -28,6 +32,9 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
     /** List of all registered GUI items for this layer. */
     private final List<GuiItem> items = new ArrayList<>();
 
+    /** Registered item of each slot, indexed by slot; grown on demand. */
+    private GuiItem[] slotIndex = new GuiItem[0];
+
     /** Scheduled task that periodically updates GUI items when auto-update is enabled. */
     private BukkitTask taskUpdate;
 
@@ -161,11 +168,25 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
      * @param item the {@link GuiItem} to register
      */
     public void registerItem(@NotNull GuiItem item) {
+        registerItem(item, null);
+    }
+
+    /**
+     * Registers a GUI item with a stack rendered in advance, using hard replacement strategy.
+     *
+     * <p>Behaves like {@link #registerItem(GuiItem)}, but places the given stack into the
+     * item's slots instead of rendering the item, e.g. for pages prepared in the background.</p>
+     *
+     * @param item     the {@link GuiItem} to register
+     * @param rendered the rendered stack, or {@code null} to render the item now
+     */
+    public void registerItem(@NotNull GuiItem item, @Nullable ItemStack rendered) {
         for (int slot : item.getSlots()) {
             GuiItem existing = getItem(slot);
             if (existing != null) {
                 for (int s : existing.getSlots()) {
                     getInventory().clear(s);
+                    unindex(s, existing);
                 }
                 removeSlotHandlers(existing.getSlots());
                 items.remove(existing);
@@ -173,13 +194,99 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
             getInventory().clear(slot);
         }
 
-        item.render(getViewer());
+        ItemStack stack = rendered;
+        if (stack == null) {
+            item.render(getViewer());
+            stack = item.baseItemStack();
+        }
 
         setSlotHandlers(item.getSlots(), item::handleClick);
         items.add(item);
+        index(item);
 
         for (int slot : item.getSlots()) {
-            getInventory().setItem(slot, item.baseItemStack());
+            getInventory().setItem(slot, stack);
+        }
+    }
+
+    /**
+     * Replaces a set of registered items with another one, writing only changed slots.
+     *
+     * <p>The outgoing items are detached first, without clearing their slots. The incoming
+     * items are then bound like with {@link #registerItem(GuiItem, ItemStack)}, but a slot is
+     * only written if it does not already show an equal stack. Slots left empty by the swap
+     * are cleared at the end. Handlers of unchanged slots are rebound in memory only, so the
+     * client sees no flicker on slots that look the same before and after.</p>
+     *
+     * @param outgoing items to remove; unregistered ones are ignored
+     * @param incoming items to register
+     * @param rendered stacks of the incoming items by index, {@code null} or with {@code null}
+     *                 entries for items to render now
+     */
+    public void replaceItems(@NotNull Collection<GuiItem> outgoing,
+                             @NotNull List<GuiItem> incoming,
+                             @Nullable ItemStack[] rendered) {
+        attachItems(incoming, rendered, detachItems(outgoing));
+    }
+
+    /**
+     * First half of {@link #replaceItems}: unbinds items from their current slots without
+     * clearing them. Called before the incoming items get their slots assigned when the
+     * same item objects may be reused at other slots.
+     *
+     * @param outgoing items to remove; unregistered ones are ignored
+     * @return slots the items occupied
+     */
+    final @NotNull Set<Integer> detachItems(@NotNull Collection<GuiItem> outgoing) {
+        Set<Integer> vacated = new HashSet<>();
+        for (GuiItem item : outgoing) {
+            if (!items.remove(item)) continue;
+            for (int slot : item.getSlots()) {
+                unindex(slot, item);
+                vacated.add(slot);
+            }
+            removeSlotHandlers(item.getSlots());
+        }
+        return vacated;
+    }
+
+    /**
+     * Second half of {@link #replaceItems}: binds the incoming items and clears the vacated
+     * slots no incoming item took.
+     *
+     * @param incoming items to register
+     * @param rendered stacks of the incoming items by index, or {@code null}
+     * @param vacated  slots returned by {@link #detachItems(Collection)}
+     */
+    final void attachItems(@NotNull List<GuiItem> incoming,
+                           @Nullable ItemStack[] rendered,
+                           @NotNull Set<Integer> vacated) {
+        for (int i = 0; i < incoming.size(); i++) {
+            GuiItem item = incoming.get(i);
+
+            for (int slot : item.getSlots()) {
+                GuiItem existing = getItem(slot);
+                if (existing != null) unregisterItem(existing);
+            }
+
+            ItemStack stack = rendered != null && i < rendered.length ? rendered[i] : null;
+            if (stack == null) {
+                item.render(getViewer());
+                stack = item.baseItemStack();
+            }
+
+            setSlotHandlers(item.getSlots(), item::handleClick);
+            items.add(item);
+            index(item);
+
+            for (int slot : item.getSlots()) {
+                vacated.remove(slot);
+                if (!stack.equals(getInventory().getItem(slot))) getInventory().setItem(slot, stack);
+            }
+        }
+
+        for (int slot : vacated) {
+            if (getItem(slot) == null) getInventory().clear(slot);
         }
     }
 
@@ -206,6 +313,7 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
 
             if (existing != null) {
                 existing.getSlots().remove(slot);
+                unindex(slot, existing);
 
                 getInventory().clear(slot);
                 removeSlotHandlers(Collections.singleton(slot));
@@ -221,6 +329,7 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
 
         setSlotHandlers(item.getSlots(), item::handleClick);
         items.add(item);
+        index(item);
 
         for (int slot : item.getSlots()) {
             getInventory().setItem(slot, item.baseItemStack());
@@ -242,6 +351,7 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
         if (item == null) return;
 
         item.getSlots().remove(slot);
+        unindex(slot, item);
 
         removeSlotHandler(slot);
 
@@ -272,6 +382,7 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
         }
 
         items.clear();
+        Arrays.fill(slotIndex, null);
     }
 
 
@@ -296,6 +407,7 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
     public void unregisterItem(@NotNull GuiItem item) {
         if (!items.contains(item)) return;
         items.remove(item);
+        for (int slot : item.getSlots()) unindex(slot, item);
         removeSlotHandlers(item.getSlots());
         item.getSlots().forEach(getInventory()::clear);
     }
@@ -341,6 +453,19 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
         for (int s : item.getSlots()) getInventory().setItem(s, item.baseItemStack());
     }
 
+    /**
+     * Re-renders a single registered item into its slots for the current viewer.
+     *
+     * <p>Does nothing if the GUI is not open or the item is not registered.</p>
+     *
+     * @param item Item to update
+     */
+    public void updateItem(@NotNull GuiItem item) {
+        if (getViewer() == null || !items.contains(item)) return;
+        item.render(getViewer());
+        for (int s : item.getSlots()) getInventory().setItem(s, item.baseItemStack());
+    }
+
     /**
      * Retrieves the {@link GuiItem} occupying a given slot.
      *
@@ -348,12 +473,99 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
      * @return The {@link GuiItem} occupying the slot, or null if none
      */
     public GuiItem getItem(int slot) {
+        GuiItem indexed = slot >= 0 && slot < slotIndex.length ? slotIndex[slot] : null;
+        if (indexed == null || indexed.getSlots().contains(slot)) return indexed;
+
+        // The item's slots were changed directly after it was registered; fall back to a scan.
         for (GuiItem item : items) {
             if (item.getSlots().contains(slot)) return item;
         }
         return null;
     }
 
+    /**
+     * Moves the content of a slot to another slot without re-rendering it.
+     *
+     * <p>The rendered stack, the click handler and the slot ownership of the item are
+     * relocated as they are; the item keeps its other slots. An item occupying the target
+     * slot loses that slot, as with {@link #unregisterSlotOnly(int)}.</p>
+     *
+     * @param from Slot to move from
+     * @param to   Slot to move to
+     * @return {@code true} if an item was moved
+     */
+    public boolean relocateSlot(int from, int to) {
+        GuiItem item = getItem(from);
+        if (item == null || from == to) return false;
+
+        if (getItem(to) != null) unregisterSlotOnly(to);
+
+        item.getSlots().remove(from);
+        item.getSlots().add(to);
+        unindex(from, item);
+        put(to, item);
+
+        Consumer<InventoryClickEvent> handler = getSlotHandler(from);
+        removeSlotHandler(from);
+        if (handler != null) setSlotHandler(to, handler);
+
+        getInventory().setItem(to, getInventory().getItem(from));
+        getInventory().clear(from);
+        return true;
+    }
+
+    /**
+     * Swaps the contents of two slots without re-rendering them.
+     *
+     * <p>Rendered stacks, click handlers and slot ownership are exchanged as they are.
+     * Either slot may be empty.</p>
+     *
+     * @param a First slot
+     * @param b Second slot
+     * @return {@code true} if anything was swapped
+     */
+    public boolean swapSlots(int a, int b) {
+        GuiItem itemA = getItem(a);
+        GuiItem itemB = getItem(b);
+        if (itemA == itemB) return false;
+
+        if (itemA == null) return relocateSlot(b, a);
+        if (itemB == null) return relocateSlot(a, b);
+
+        itemA.getSlots().remove(a);
+        itemA.getSlots().add(b);
+        itemB.getSlots().remove(b);
+        itemB.getSlots().add(a);
+        put(a, itemB);
+        put(b, itemA);
+
+        Consumer<InventoryClickEvent> handlerA = getSlotHandler(a);
+        Consumer<InventoryClickEvent> handlerB = getSlotHandler(b);
+        removeSlotHandler(a);
+        removeSlotHandler(b);
+        if (handlerA != null) setSlotHandler(b, handlerA);
+        if (handlerB != null) setSlotHandler(a, handlerB);
+
+        ItemStack stackA = getInventory().getItem(a);
+        getInventory().setItem(a, getInventory().getItem(b));
+        getInventory().setItem(b, stackA);
+        return true;
+    }
+
+    private void index(GuiItem item) {
+        for (int slot : item.getSlots()) put(slot, item);
+    }
+
+    private void put(int slot, GuiItem item) {
+        if (slot < 0) return;
+        if (slot >= slotIndex.length) slotIndex = Arrays.copyOf(slotIndex, Math.max(slot + 1, getInventory().getSize()));
+        slotIndex[slot] = item;
+    }
+
+    private void unindex(int slot, GuiItem item) {
+        if (slot >= 0 && slot < slotIndex.length && slotIndex[slot] == item) slotIndex[slot] = null;
+    }
+
     /**
      * Checks if a bulk update operation is currently in progress.
      *
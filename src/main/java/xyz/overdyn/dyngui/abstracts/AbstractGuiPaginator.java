@@ -1,7 +1,9 @@
 package xyz.overdyn.dyngui.abstracts;
 
 import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -9,9 +11,7 @@ import xyz.overdyn.dyngui.items.GuiItem;
 import xyz.overdyn.dyngui.items.ItemWrapper;
 import xyz.overdyn.dyngui.policy.GuiPolicy;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 /**
  * A paginated extension of {@link AbstractGuiLayer} that manages multiple pages of {@link ItemWrapper}s.
@@ -39,6 +39,35 @@ public abstract class AbstractGuiPaginator extends AbstractGuiLayer {
      */
     protected int currentPage = -1;
 
+    /**
+     * Items registered by the currently open page.
+     */
+    private List<GuiItem> openItems = List.of();
+
+    /**
+     * Rendered pages by index, least recently used first; {@code null} while the cache is disabled.
+     */
+    private LinkedHashMap<Integer, RenderedPage> renderedPages;
+
+    /**
+     * Pages being rendered in advance.
+     */
+    private final Set<Integer> rendering = new HashSet<>();
+
+    /**
+     * Whether pages are rendered off the main thread.
+     */
+    private boolean asyncRender;
+
+    /**
+     * Incremented on invalidation, so renders started before it are discarded.
+     */
+    private int cacheGeneration;
+
+    {
+        onClose(event -> invalidatePageCache());
+    }
+
     /**
      * Constructs a paginated GUI with the given component title and policy.
      *
@@ -78,9 +107,38 @@ public abstract class AbstractGuiPaginator extends AbstractGuiLayer {
      */
     @Contract(pure = true)
     public final int pages() {
+        return pageCount();
+    }
+
+    /**
+     * Returns the number of pages. Subclasses providing pages on demand override this
+     * together with {@link #pageItems(int)}.
+     *
+     * @return total number of pages
+     */
+    protected int pageCount() {
         return pages.size();
     }
 
+    /**
+     * Returns the items of a page, with their slots assigned.
+     *
+     * @param pageIndex page index in {@code [0; pageCount())}
+     * @return items of the page
+     */
+    protected @NotNull List<GuiItem> pageItems(int pageIndex) {
+        return pages.get(pageIndex).controllers();
+    }
+
+    /**
+     * Returns the items of the currently open page.
+     *
+     * @return open page items, empty if no page is open
+     */
+    protected final @NotNull List<GuiItem> openItems() {
+        return Collections.unmodifiableList(openItems);
+    }
+
     /**
      * Returns the index of the currently active page.
      *
@@ -115,7 +173,7 @@ public abstract class AbstractGuiPaginator extends AbstractGuiLayer {
      * @return true if page changed, false otherwise
      */
     public boolean nextPage() {
-        if (currentPage < pages.size() - 1) {
+        if (currentPage < pageCount() - 1) {
             openPage(currentPage + 1);
             return true;
         }
@@ -142,25 +200,184 @@ public abstract class AbstractGuiPaginator extends AbstractGuiLayer {
      * @param pageIndex target page index (0-based)
      */
     public void openPage(int pageIndex) {
-        if (pageIndex < 0 || pageIndex >= pages.size()) {
+        if (pageIndex < 0 || pageIndex >= pageCount()) {
             return;
         }
 
-        // Unregister current page items
-        if (currentPage >= 0 && currentPage < pages.size()) {
-            Page current = pages.get(currentPage);
-            for (GuiItem item : current.controllers()) {
-                unregisterItem(item);
+        // Keep the page being left, so navigating back is instant
+        if (renderedPages != null && cachesPages() && currentPage >= 0 && currentPage != pageIndex && !openItems.isEmpty()) {
+            cachePage(currentPage, snapshot(openItems));
+        }
+
+        // Swap the page items in one pass, writing only slots that change;
+        // prepared pages are placed without rendering. The open items are detached before the
+        // target page is fetched: fetching may reassign slots of the same item objects.
+        Set<Integer> vacated = detachItems(openItems);
+        RenderedPage prepared = renderedPages != null && cachesPages() ? renderedPages.remove(pageIndex) : null;
+        List<GuiItem> target = prepared != null ? prepared.items() : new ArrayList<>(pageItems(pageIndex));
+        attachItems(target, prepared != null ? prepared.stacks() : null, vacated);
+
+        this.openItems = target;
+        this.currentPage = pageIndex;
+
+        prefetch(pageIndex - 1);
+        prefetch(pageIndex + 1);
+    }
+
+    /**
+     * Enables the rendered-page cache.
+     *
+     * <p>After a page is shown, its neighbours are rendered in advance, and pages that are
+     * left are kept rendered, so flipping back and forth places prepared stacks without
+     * rendering. At most {@code capacity} pages are kept, least recently used ones are dropped.</p>
+     *
+     * <p>With {@code asyncRender}, pages are rendered off the main thread on copies of their
+     * items, taken on the GUI thread; the items' placeholders must then be safe to resolve
+     * asynchronously. Otherwise they are rendered on the next tick, outside the click that
+     * changed the page.</p>
+     *
+     * @param capacity    maximum number of cached pages
+     * @param asyncRender whether to render off the main thread
+     */
+    public void enablePageCache(int capacity, boolean asyncRender) {
+        if (capacity <= 0) throw new IllegalArgumentException("Page cache capacity must be positive: " + capacity);
+
+        this.asyncRender = asyncRender;
+        this.renderedPages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, RenderedPage> eldest) {
+                return size() > capacity;
             }
+        };
+        cacheGeneration++;
+    }
+
+    /**
+     * Disables the rendered-page cache and drops all rendered pages.
+     */
+    public void disablePageCache() {
+        renderedPages = null;
+        rendering.clear();
+        cacheGeneration++;
+    }
+
+    /**
+     * Drops all rendered pages, e.g. after the content or the viewer changed.
+     */
+    public void invalidatePageCache() {
+        if (renderedPages != null) renderedPages.clear();
+        rendering.clear();
+        cacheGeneration++;
+    }
+
+    /**
+     * Tells whether pages may currently be cached by index. Subclasses whose page content
+     * depends on more than the index, e.g. on the page open before, return {@code false};
+     * the cache then stays enabled but is bypassed.
+     *
+     * @return true if rendered pages can be reused
+     */
+    protected boolean cachesPages() {
+        return true;
+    }
+
+    /**
+     * Renders a page in advance, if it exists and is neither shown, cached nor being rendered.
+     */
+    private void prefetch(int pageIndex) {
+        if (renderedPages == null || !cachesPages() || pageIndex < 0 || pageIndex >= pageCount()) return;
+        if (pageIndex == currentPage || renderedPages.containsKey(pageIndex)) return;
+
+        Player viewer = getViewer();
+        if (viewer == null || !rendering.add(pageIndex)) return;
+
+        List<GuiItem> items = new ArrayList<>(pageItems(pageIndex));
+        int generation = cacheGeneration;
+
+        if (!asyncRender) {
+            scheduler.runTask(() -> {
+                if (generation != cacheGeneration) return;
+                rendering.remove(pageIndex);
+                if (pageIndex != currentPage) cachePage(pageIndex, render(items, items, viewer));
+            });
+            return;
+        }
+
+        // The shared items must not be touched off the owning thread; copy them here and
+        // render only the copies asynchronously.
+        List<GuiItem> copies = new ArrayList<>(items.size());
+        for (GuiItem item : items) copies.add(item.clone());
+
+        scheduler.runTaskAsync(() -> {
+            RenderedPage page = render(items, copies, viewer);
+            scheduler.runTask(() -> {
+                if (generation != cacheGeneration) return;
+                rendering.remove(pageIndex);
+                if (pageIndex != currentPage) cachePage(pageIndex, page);
+            });
+        });
+    }
+
+    private void cachePage(int pageIndex, RenderedPage page) {
+        if (renderedPages != null) renderedPages.put(pageIndex, page);
+    }
+
+    /**
+     * Renders a page.
+     *
+     * @param items    page items the result belongs to
+     * @param rendered items to render, either {@code items} or copies of them
+     */
+    private static RenderedPage render(List<GuiItem> items, List<GuiItem> rendered, Player viewer) {
+        ItemStack[] stacks = new ItemStack[items.size()];
+        for (int i = 0; i < stacks.length; i++) {
+            GuiItem item = rendered.get(i);
+            item.render(viewer);
+            stacks[i] = item.baseItemStack().clone();
         }
+        return new RenderedPage(items, stacks);
+    }
 
-        // Register new page items
-        Page target = pages.get(pageIndex);
-        for (GuiItem item : target.controllers()) {
-            registerItem(item);
+    /**
+     * Captures the stacks currently shown by registered page items.
+     */
+    private RenderedPage snapshot(List<GuiItem> items) {
+        ItemStack[] stacks = new ItemStack[items.size()];
+        for (int i = 0; i < stacks.length; i++) {
+            GuiItem item = items.get(i);
+            ItemStack shown = item.getSlots().isEmpty() ? null : getInventory().getItem(item.getSlots().iterator().next());
+            stacks[i] = shown != null ? shown.clone() : null;
         }
+        return new RenderedPage(items, stacks);
+    }
 
-        this.currentPage = pageIndex;
+    /**
+     * A page rendered in advance.
+     *
+     * @param items  items of the page, with their slots assigned
+     * @param stacks rendered stack of each item; {@code null} entries are rendered on registration
+     */
+    private record RenderedPage(List<GuiItem> items, ItemStack[] stacks) {
+    }
+
+    /**
+     * Re-renders the current page, e.g. after the content changed. If the page no longer
+     * exists, the last page is opened instead; without pages, the page items are removed.
+     */
+    public void refreshPage() {
+        invalidatePageCache();
+
+        int count = pageCount();
+        if (count == 0) {
+            for (GuiItem item : openItems) {
+                unregisterItem(item);
+            }
+            openItems = List.of();
+            currentPage = -1;
+            return;
+        }
+
+        openPage(Math.max(0, Math.min(currentPage, count - 1)));
     }
 
     /**
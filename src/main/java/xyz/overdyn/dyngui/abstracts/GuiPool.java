@@ -0,0 +1,202 @@
+package xyz.overdyn.dyngui.abstracts;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.DynGui;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of reusable GUI instances of one class.
+ *
+ * <p>
+ * Menus that are opened very often (confirm dialogs, profile views) can be pooled to
+ * avoid creating a new {@link org.bukkit.inventory.Inventory}, scheduler, handler maps and
+ * item lists for every open. A GUI taken from {@link #acquire()} is returned to the pool
+ * automatically one tick after its viewer closes it: {@link AbstractGui#reset()} is called
+ * and the instance, with its inventory and internal structures, waits for the next
+ * {@link #acquire()}. If the pool is full, the instance is simply dropped.
+ * </p>
+ *
+ * <p>
+ * The single-viewer contract of {@link AbstractGui} is kept: an instance is handed out to
+ * one caller at a time, a GUI that was reopened before it got recycled stays with its
+ * viewer, and opening an instance that sits idle in the pool throws.
+ * </p>
+ *
+ * <p>
+ * <b>Threading:</b> any thread. A closed GUI is reset and recycled on the thread of the
+ * player who closed it, like the GUI itself.
+ * </p>
+ *
+ * @param <T> GUI type
+ */
+public final class GuiPool<T extends AbstractGui> {
+
+    private static final Map<Class<?>, GuiPool<?>> POOLS = new ConcurrentHashMap<>();
+
+    private final Class<T> type;
+    private final Supplier<? extends T> factory;
+    private final int capacity;
+    private final ArrayDeque<T> idle = new ArrayDeque<>();
+
+    private long created;
+    private long reused;
+
+    private GuiPool(@NotNull Class<T> type, @NotNull Supplier<? extends T> factory, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Pool capacity must not be negative: " + capacity);
+        }
+        this.type = type;
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the pool of a GUI class, creating it on first use.
+     *
+     * <p>
+     * Only the first call for a class defines the factory and capacity; later calls
+     * return the existing pool.
+     * </p>
+     *
+     * @param type     GUI class
+     * @param factory  creates new instances when the pool is empty
+     * @param capacity maximum number of idle instances kept
+     * @param <T>      GUI type
+     * @return pool of the class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends AbstractGui> @NotNull GuiPool<T> of(@NotNull Class<T> type,
+                                                               @NotNull Supplier<? extends T> factory,
+                                                               int capacity) {
+        return (GuiPool<T>) POOLS.computeIfAbsent(type, key -> new GuiPool<>(type, factory, capacity));
+    }
+
+    /**
+     * Drops all idle instances of all pools, e.g. when the plugin is disabled.
+     */
+    public static void clearAll() {
+        POOLS.values().forEach(GuiPool::clear);
+    }
+
+    /**
+     * Takes an idle instance from the pool, or creates a new one.
+     *
+     * @return GUI owned by the caller until its viewer closes it
+     * @throws IllegalStateException if the factory returns an instance of another class
+     *                               or an instance that is already in use
+     */
+    public @NotNull T acquire() {
+        synchronized (this) {
+            T gui = idle.pollFirst();
+            if (gui != null) {
+                gui.idle = false;
+                reused++;
+                return gui;
+            }
+        }
+
+        T gui = factory.get();
+        if (gui.getClass() != type) {
+            throw new IllegalStateException("Pool of " + type.getName() + " got " + gui.getClass().getName());
+        }
+        if (gui.pool != null || gui.getViewer() != null) {
+            throw new IllegalStateException("Factory of " + type.getName() + " returned a GUI that is already in use");
+        }
+
+        gui.pool = this;
+        synchronized (this) {
+            created++;
+        }
+        return gui;
+    }
+
+    /**
+     * Returns the number of idle instances.
+     *
+     * @return idle instance count
+     */
+    public synchronized int idleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Returns the maximum number of idle instances.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns how many instances this pool has created.
+     *
+     * @return created instance count
+     */
+    public synchronized long createdCount() {
+        return created;
+    }
+
+    /**
+     * Returns how many {@link #acquire()} calls were served from idle instances.
+     *
+     * @return reuse count
+     */
+    public synchronized long reusedCount() {
+        return reused;
+    }
+
+    /**
+     * Drops all idle instances.
+     */
+    public synchronized void clear() {
+        for (T gui : idle) {
+            gui.pool = null;
+            gui.idle = false;
+        }
+        idle.clear();
+    }
+
+    /**
+     * Recycles a closed GUI on the next tick, after all close handlers ran and in case it is
+     * reopened right away (e.g. by {@link AbstractGui#rebuildAndReopen()}). Runs on the
+     * thread of the player who closed it; if the player left, the instance is dropped.
+     */
+    void scheduleRecycle(@NotNull AbstractGui gui, @NotNull Player player) {
+        JavaPlugin plugin = DynGui.getInstance().getPlugin();
+        // Plugin shutdown closes all GUIs; there is nothing to recycle them for.
+        if (!plugin.isEnabled()) return;
+
+        DynGui.getInstance().getRegionExecutor().runFor(player, () -> recycle(type.cast(gui)));
+    }
+
+    private void recycle(T gui) {
+        // Reopened in the meantime, or already recycled: the instance is still in use.
+        if (gui.idle || gui.getViewer() != null) return;
+
+        try {
+            gui.reset();
+        } catch (RuntimeException e) {
+            Bukkit.getLogger().warning("[DynGUI] Failed to reset pooled " + type.getSimpleName() + ", discarding it: " + e);
+            gui.pool = null;
+            return;
+        }
+
+        synchronized (this) {
+            if (idle.size() >= capacity) {
+                gui.pool = null;
+                return;
+            }
+
+            gui.idle = true;
+            idle.addLast(gui);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package xyz.overdyn.dyngui.abstracts;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.placeholder.Placeholder;
+import xyz.overdyn.dyngui.placeholder.context.PlaceholderContextImpl;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Animated or live GUI title.
+ *
+ * <p>
+ * An animation renders a title every {@code period} ticks and hands it to
+ * {@link AbstractGui#requestTitle(Component)}, so several animations, or an animation and
+ * other title changes, still cost at most one title update per tick, and a frame equal to
+ * the shown title costs nothing.
+ * </p>
+ *
+ * <pre>{@code
+ * TitleAnimation.frames(10, List.of(text("Shop"), text("Shop ."), text("Shop .."))).start(gui);
+ * TitleAnimation.placeholders(20, text("Balance: %vault_eco_balance%"), engine).start(gui);
+ * }</pre>
+ *
+ * <p>
+ * The animation runs on the GUI's {@link AbstractGui#scheduler}, so it stops when the GUI
+ * is closed and has to be started again when it is reopened.
+ * </p>
+ */
+public final class TitleAnimation {
+
+    private final long period;
+    private final BiFunction<Player, Long, Component> renderer;
+
+    private TitleAnimation(long period, @NotNull BiFunction<Player, Long, Component> renderer) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Animation period must be positive: " + period);
+        }
+        this.period = period;
+        this.renderer = renderer;
+    }
+
+    /**
+     * Creates an animation cycling through a list of frames.
+     *
+     * @param period ticks between frames
+     * @param frames frames, shown in order and repeated
+     * @return animation
+     */
+    public static @NotNull TitleAnimation frames(long period, @NotNull List<Component> frames) {
+        if (frames.isEmpty()) throw new IllegalArgumentException("Animation needs at least one frame");
+        List<Component> copy = List.copyOf(frames);
+        return new TitleAnimation(period, (viewer, step) -> copy.get((int) (step % copy.size())));
+    }
+
+    /**
+     * Creates a title re-rendered for the viewer every period, e.g. from live game state.
+     *
+     * @param period   ticks between renders
+     * @param renderer renders the title for the viewer
+     * @return animation
+     */
+    public static @NotNull TitleAnimation live(long period, @NotNull Function<Player, Component> renderer) {
+        return new TitleAnimation(period, (viewer, step) -> renderer.apply(viewer));
+    }
+
+    /**
+     * Creates a title whose placeholders are resolved for the viewer every period.
+     *
+     * @param period   ticks between renders
+     * @param template title with placeholders
+     * @param engine   placeholder engine
+     * @return animation
+     */
+    public static @NotNull TitleAnimation placeholders(long period,
+                                                       @NotNull Component template,
+                                                       @NotNull Placeholder engine) {
+        return live(period, viewer -> engine.process(template, new PlaceholderContextImpl(viewer)));
+    }
+
+    /**
+     * Starts the animation on a GUI. The first frame is requested right away.
+     *
+     * @param gui GUI whose title is animated
+     * @return running task; cancelled automatically when the GUI is closed
+     */
+    public @NotNull BukkitTask start(@NotNull AbstractGui gui) {
+        long[] step = {0};
+        return gui.scheduler.runTask(() -> {
+            Player viewer = gui.getViewer();
+            if (viewer == null) return;
+            gui.requestTitle(renderer.apply(viewer, step[0]++));
+        }, 0, period);
+    }
+
+    /**
+     * Returns the number of ticks between frames.
+     *
+     * @return period in ticks
+     */
+    public long period() {
+        return period;
+    }
+}
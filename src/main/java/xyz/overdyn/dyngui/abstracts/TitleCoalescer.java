@@ -0,0 +1,86 @@
+package xyz.overdyn.dyngui.abstracts;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.DynGui;
+import xyz.overdyn.dyngui.scheduler.RegionExecutor;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collects title requests of all GUIs and sends them once per tick.
+ *
+ * <p>
+ * {@link AbstractGui#requestTitle} only marks the GUI dirty. On the next tick
+ * every dirty GUI sends its latest title, and only if the client shows a different one.
+ * A viewer therefore receives at most one title packet, and one inventory resync, per tick,
+ * no matter how many animations or placeholder refreshes touched the title.
+ * </p>
+ *
+ * <p>
+ * <b>Threading:</b> GUIs may be submitted from any thread. The flush runs on the global
+ * region and hands every GUI to its viewer's thread, which sends the packet.
+ * </p>
+ */
+public final class TitleCoalescer {
+
+    private static final Set<AbstractGui> PENDING = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private TitleCoalescer() {
+    }
+
+    /**
+     * Marks a GUI as having a title to send on the next tick.
+     *
+     * @param gui GUI whose title changed
+     */
+    static void submit(@NotNull AbstractGui gui) {
+        if (!PENDING.add(gui) || !scheduled.compareAndSet(false, true)) return;
+
+        JavaPlugin plugin = DynGui.getInstance().getPlugin();
+        if (!plugin.isEnabled()) {
+            PENDING.clear();
+            scheduled.set(false);
+            return;
+        }
+
+        DynGui.getInstance().getRegionExecutor().runGlobal(TitleCoalescer::flush);
+    }
+
+    /**
+     * Returns the number of GUIs waiting for the next flush.
+     *
+     * @return pending GUI count
+     */
+    public static int pendingCount() {
+        return PENDING.size();
+    }
+
+    private static void flush() {
+        scheduled.set(false);
+        RegionExecutor executor = DynGui.getInstance().getRegionExecutor();
+
+        for (Iterator<AbstractGui> it = PENDING.iterator(); it.hasNext(); ) {
+            AbstractGui gui = it.next();
+            it.remove();
+
+            Player viewer = gui.getViewer();
+            if (viewer == null) continue;
+            executor.execute(viewer, () -> send(gui));
+        }
+    }
+
+    private static void send(AbstractGui gui) {
+        try {
+            gui.flushTitle();
+        } catch (RuntimeException e) {
+            Bukkit.getLogger().warning("[DynGUI] Failed to update title of " + gui.getClass().getSimpleName() + ": " + e);
+        }
+    }
+}
@@ -1,24 +1,34 @@
 package xyz.overdyn.dyngui.abstracts.test;
 
-import me.clip.placeholderapi.PlaceholderAPI;
 import net.kyori.adventure.text.Component;
 import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import xyz.overdyn.dyngui.abstracts.AbstractGuiLayer;
 import xyz.overdyn.dyngui.form.Button;
 import xyz.overdyn.dyngui.form.ButtonCommand;
 import xyz.overdyn.dyngui.form.GuiForm;
+import xyz.overdyn.dyngui.form.Menu;
+import xyz.overdyn.dyngui.form.MenuTemplate;
+import xyz.overdyn.dyngui.form.SlotVariantTable;
+import xyz.overdyn.dyngui.form.loader.MenuDiff;
+import xyz.overdyn.dyngui.form.loader.ReloadableGui;
 import xyz.overdyn.dyngui.form.requirements.ClickRequirement;
+import xyz.overdyn.dyngui.form.requirements.RequirementCache;
 import xyz.overdyn.dyngui.form.requirements.Requirements;
-import xyz.overdyn.dyngui.form.requirements.ViewRequirement;
 import xyz.overdyn.dyngui.items.GuiItem;
-import xyz.overdyn.dyngui.items.ItemWrapper;
 import xyz.overdyn.dyngui.policy.GuiPolicy;
 
-import java.util.*;
+public class FormedGui extends AbstractGuiLayer implements ReloadableGui<Menu> {
 
-public class FormedGui extends AbstractGuiLayer {
+    private Menu menu;
+
+    /** Общий для всех зрителей скомпилированный шаблон меню. */
+    private MenuTemplate<Button> template;
+
+    /** Текущий выбор кнопок в динамических слотах шаблона для зрителя этого GUI. */
+    private SlotVariantTable<Button>.Selection selection;
 
     public FormedGui(@NotNull GuiForm form) {
         super(
@@ -27,115 +37,170 @@ public class FormedGui extends AbstractGuiLayer {
                 GuiPolicy.Factories.HIGHEST
         );
 
-        registerButtons(form);
+        this.menu = form.getMenu();
+        this.template = form.getTemplate();
+        this.selection = template.dynamicTable().newSelection();
+
+        // Кнопки выбираются при открытии: до этого у GUI нет зрителя для view-условий.
+        onOpen(event -> {
+            fillStatic();
+            refreshButtons();
+            scheduleUpdates();
+        });
     }
 
     /**
-     * Группируем кнопки по слотам, выбираем по приоритету и view-условиям.
+     * Пересчитывает view-условия динамических слотов и перерегистрирует только те слоты,
+     * у которых сменилась выбранная кнопка. Статические слоты шаблона не пересчитываются.
+     *
+     * <p>Слоты, чьи плейсхолдеры и права не изменились с прошлого вызова, не пересчитываются.</p>
      */
-    private void registerButtons(GuiForm form) {
+    public void refreshButtons() {
+        if (getViewer() == null) return;
+
+        selection.refresh(getViewer(), (slot, previous, current) -> {
+            // Если ничего не подошло — слот остаётся пустым
+            if (current == null) {
+                clearSlot(slot);
+                return;
+            }
 
-        // Группируем кнопки по слоту
-        Map<Integer, List<Button>> buttonsBySlot = new HashMap<>();
+            // Вариант без плейсхолдеров берётся готовым из шаблона
+            ItemStack prepared = template.prepared(current);
+            if (prepared != null) {
+                placePrepared(slot, current, prepared);
+            } else {
+                registerButton(current);
+            }
+        });
+    }
 
-        for (Button btn : form.getMenu().buttons()) {
-            buttonsBySlot
-                    .computeIfAbsent(btn.slot(), k -> new ArrayList<>())
-                    .add(btn);
+    /**
+     * Копирует статические слоты шаблона в инвентарь и вешает на них общий обработчик кликов.
+     */
+    private void fillStatic() {
+        template.fill(getInventory());
+        for (int i = 0; i < template.staticCount(); i++) {
+            Button button = template.staticButton(i);
+            setSlotHandler(template.staticSlot(i), event -> handleClick(button, event));
         }
+    }
 
-        // Обрабатываем каждый слот отдельно
-        for (Map.Entry<Integer, List<Button>> entry : buttonsBySlot.entrySet()) {
+    private void placePrepared(int slot, Button button, ItemStack prepared) {
+        unregisterItem(slot);
+        getInventory().setItem(slot, prepared);
+        setSlotHandler(slot, event -> handleClick(button, event));
+    }
 
-            int slot = entry.getKey();
-            List<Button> slotButtons = entry.getValue();
+    private void clearSlot(int slot) {
+        unregisterItem(slot);
+        removeSlotHandler(slot);
+        getInventory().clear(slot);
+    }
 
-            // Больший priority — важнее
-            slotButtons.sort(Comparator.comparingInt(Button::priority).reversed());
+    @Override
+    public @NotNull Menu menu() {
+        return menu;
+    }
 
-            Button selected = null;
+    /**
+     * Переключает GUI на новую версию меню без переоткрытия:
+     * перерегистрируются только изменившиеся слоты.
+     *
+     * <p>Изменение размера требует нового инвентаря, поэтому в этом случае GUI переоткрывается.</p>
+     */
+    @Override
+    public void reload(@NotNull Menu updated, @NotNull MenuDiff diff) {
+        MenuTemplate<Button> updatedTemplate = GuiForm.templateOf(updated);
+        SlotVariantTable<Button> table = updatedTemplate.dynamicTable();
+        this.menu = updated;
+        this.template = updatedTemplate;
+
+        if (diff.structureChanged()) {
+            unregisterAllItems();
+            selection = table.newSelection();
+            setSize(updated.size());
+            setTitle(Component.text(updated.title()));
+            rebuildAndReopen();
+            return;
+        }
 
-            // Ищем первую кнопку, у которой все ViewRequirement прошли
-            outer:
-            for (Button btn : slotButtons) {
-                for (ViewRequirement req : btn.viewRequirements()) {
-                    if (!Requirements.check(getViewer(), req)) {
-                        // эта кнопка не подходит
-                        continue outer;
-                    }
-                }
-                selected = btn;
-                break;
-            }
+        if (diff.titleChanged()) {
+            updateTitle(Component.text(updated.title()));
+        }
 
-            // Если ничего не подошло — слот остаётся пустым
-            if (selected != null) {
-                registerButton(selected);
+        selection = table.newSelection(selection, diff.changedSlots());
+
+        // Изменённые слоты вне динамической таблицы стали статическими или исчезли из меню
+        for (int slot : diff.changedSlots()) {
+            if (table.contains(slot)) continue;
+
+            Button button = updatedTemplate.staticButtonAt(slot);
+            if (button == null) {
+                clearSlot(slot);
+            } else {
+                placePrepared(slot, button, updatedTemplate.prepared(button));
             }
         }
+
+        refreshButtons();
     }
 
     /**
-     * Регистрирует одну кнопку в GUI.
+     * Запускает периодические задачи меню. Интервалы указываются в секундах;
+     * задачи отменяются планировщиком при закрытии GUI.
      */
-    private void registerButton(Button btn) {
-
-        ItemStack base = btn.itemStack();
-
-        // Lore -> List<Component> с плейсхолдерами
-        List<Component> loreComponents = new ArrayList<>();
-        for (String line : btn.lore()) {
-            loreComponents.add(Component.text(PlaceholderAPI.setPlaceholders(getViewer(), line)));
+    private void scheduleUpdates() {
+        if (menu.refresh_interval() > 0) {
+            long period = menu.refresh_interval() * 20L;
+            scheduler.runTask(this::refreshButtons, period, period);
         }
-
-        ItemWrapper builder = ItemWrapper.builder(base.getType())
-                .amount(base.getAmount())
-                .displayName(
-                        Component.text(
-                                PlaceholderAPI.setPlaceholders(getViewer(), btn.displayName())
-                        )
-                )
-                .lore(loreComponents).build();
-
-        if (btn.customModelData() > 0) {
-            builder.customModelData(btn.customModelData());
+        if (menu.update_interval() > 0) {
+            enableAutoUpdate(menu.update_interval() * 20L);
         }
+    }
 
-        GuiItem guiItem = new GuiItem(builder).addSlot(btn.slot());
+    /**
+     * Регистрирует одну кнопку с плейсхолдерами в GUI.
+     */
+    private void registerButton(Button btn) {
+        GuiItem guiItem = new GuiItem(GuiForm.buildItem(btn, getViewer())).addSlot(btn.slot());
+        guiItem.onClick(event -> handleClick(btn, event));
+        registerItem(guiItem);
+    }
 
-        guiItem.onClick(event -> {
-            event.setCancelled(true);
-            ClickType click = event.getClick();
+    private void handleClick(Button btn, InventoryClickEvent event) {
+        event.setCancelled(true);
+        ClickType click = event.getClick();
 
-            for (ButtonCommand cmd : btn.buttonCommands()) {
-                // Проверяем тип клика
-                if (!(cmd.anyClick() || cmd.clickType() == click)) {
-                    continue;
-                }
+        for (ButtonCommand cmd : btn.buttonCommands()) {
+            // Проверяем тип клика
+            if (!(cmd.anyClick() || cmd.clickType() == click)) {
+                continue;
+            }
 
-                boolean allowed = true;
-
-                // Проверяем click-requirements
-                for (ClickRequirement req : cmd.clickRequirements()) {
-                    if (req.anyClick() || req.clickType() == click) {
-                        if (!Requirements.check(getViewer(), req)) {
-                            executeDenied(req, btn);
-                            allowed = false;
-                            break;
-                        } else {
-                            executeAllowed(req, btn);
-                        }
+            boolean allowed = true;
+
+            // Проверяем click-requirements
+            for (ClickRequirement req : cmd.clickRequirements()) {
+                if (req.anyClick() || req.clickType() == click) {
+                    // Не из кэша: предыдущий клик мог изменить то, что проверяет требование
+                    if (!Requirements.checkUncached(getViewer(), req)) {
+                        executeDenied(req, btn);
+                        allowed = false;
+                        break;
+                    } else {
+                        executeAllowed(req, btn);
                     }
                 }
-
-                if (allowed) {
-                    executeActions(cmd, btn);
-                    break;
-                }
             }
-        });
 
-        registerItem(guiItem);
+            if (allowed) {
+                executeActions(cmd, btn);
+                RequirementCache.invalidate(getViewer());
+                break;
+            }
+        }
     }
 
     // ==== Action Execution Bridges (заглушки — сюда подключишь свою систему действий) ====
@@ -0,0 +1,285 @@
+package xyz.overdyn.dyngui.animation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, compiled animation: a list of actions sorted by their tick offset.
+ *
+ * <p>Animations are built once and played on a {@link Timeline}; playing does not schedule
+ * anything per step. They compose: {@link #sequence(Animation...)} plays parts one after
+ * another, {@link #parallel(Animation...)} plays them as parallel tracks, and
+ * {@link #path(List, long, Easing, PathStep)} compiles an eased movement along slots.</p>
+ *
+ * <p>An animation lasts {@link #length()} ticks; a {@linkplain #loop() looping} animation
+ * starts over after that.</p>
+ */
+public final class Animation {
+
+    private static final Animation EMPTY = new Animation(new long[0], new Runnable[0], 0, false);
+
+    private final long[] ticks;
+    private final Runnable[] actions;
+    private final long length;
+    private final boolean looping;
+
+    private Animation(long[] ticks, Runnable[] actions, long length, boolean looping) {
+        this.ticks = ticks;
+        this.actions = actions;
+        this.length = length;
+        this.looping = looping;
+    }
+
+    /**
+     * Returns a new builder.
+     *
+     * @return builder
+     */
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns an animation without actions.
+     *
+     * @return empty animation
+     */
+    public static @NotNull Animation empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates an animation running one action after a delay.
+     *
+     * @param delay  delay in ticks
+     * @param action action
+     * @return animation
+     */
+    public static @NotNull Animation at(long delay, @NotNull Runnable action) {
+        return builder().at(delay, action).build();
+    }
+
+    /**
+     * Creates an animation running actions one after another with a fixed step, the first
+     * one right away.
+     *
+     * @param step    ticks between actions
+     * @param actions actions in order
+     * @return animation
+     */
+    public static @NotNull Animation steps(long step, @NotNull List<? extends Runnable> actions) {
+        Builder builder = builder();
+        for (int i = 0; i < actions.size(); i++) builder.at(i * step, actions.get(i));
+        return builder.build();
+    }
+
+    /**
+     * Plays animations one after another; each part starts when the previous one's
+     * {@link #length()} has passed.
+     *
+     * @param parts animations, must not loop
+     * @return combined animation
+     */
+    public static @NotNull Animation sequence(@NotNull Animation... parts) {
+        Builder builder = builder();
+        long offset = 0;
+        for (Animation part : parts) {
+            requireFinite(part);
+            builder.append(part, offset);
+            offset += part.length;
+        }
+        return builder.length(offset).build();
+    }
+
+    /**
+     * Plays animations at the same time. Actions due on the same tick run in argument order.
+     *
+     * @param parts animations, must not loop
+     * @return combined animation
+     */
+    public static @NotNull Animation parallel(@NotNull Animation... parts) {
+        Builder builder = builder();
+        for (Animation part : parts) {
+            requireFinite(part);
+            builder.append(part, 0);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Compiles an eased movement along a path of slots.
+     *
+     * <p>The position on the path follows {@code easing} over {@code duration} ticks; a step is
+     * emitted only on ticks where the position changes, so the animation has at most one
+     * action per slot of the path.</p>
+     *
+     * @param path     slots in order, at least two
+     * @param duration ticks from the first to the last slot
+     * @param easing   easing of the position
+     * @param step     called for each move
+     * @return animation
+     */
+    public static @NotNull Animation path(@NotNull List<Integer> path,
+                                          long duration,
+                                          @NotNull Easing easing,
+                                          @NotNull PathStep step) {
+        if (path.size() < 2) throw new IllegalArgumentException("Path needs at least two slots");
+        if (duration <= 0) throw new IllegalArgumentException("Duration must be positive: " + duration);
+
+        int[] slots = path.stream().mapToInt(Integer::intValue).toArray();
+        int last = slots.length - 1;
+        Builder builder = builder();
+        int position = 0;
+
+        for (long tick = 1; tick <= duration; tick++) {
+            double progress = Math.min(1, Math.max(0, easing.apply((double) tick / duration)));
+            int next = tick == duration ? last : (int) Math.round(progress * last);
+            if (next == position) continue;
+
+            int from = slots[position], to = slots[next];
+            builder.at(tick, () -> step.move(from, to));
+            position = next;
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a looping copy of this animation, restarting every {@link #length()} ticks.
+     *
+     * @return looping animation
+     * @throws IllegalStateException if the length is zero
+     */
+    public @NotNull Animation loop() {
+        if (length <= 0) throw new IllegalStateException("Cannot loop an animation of length 0");
+        return new Animation(ticks, actions, length, true);
+    }
+
+    /**
+     * Returns the number of ticks this animation lasts.
+     *
+     * @return length in ticks
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Tells whether the animation starts over after {@link #length()} ticks.
+     *
+     * @return true if looping
+     */
+    public boolean isLooping() {
+        return looping;
+    }
+
+    /**
+     * Returns the number of actions per run.
+     *
+     * @return action count
+     */
+    public int size() {
+        return ticks.length;
+    }
+
+    long tick(int index) {
+        return ticks[index];
+    }
+
+    Runnable action(int index) {
+        return actions[index];
+    }
+
+    private static void requireFinite(Animation part) {
+        if (part.looping) throw new IllegalArgumentException("Looping animations cannot be combined");
+    }
+
+    /**
+     * Moves something from one slot to another.
+     */
+    @FunctionalInterface
+    public interface PathStep {
+        void move(int from, int to);
+    }
+
+    /**
+     * Collects actions; the build step sorts them stably by tick.
+     */
+    public static final class Builder {
+
+        private final List<Long> ticks = new ArrayList<>();
+        private final List<Runnable> actions = new ArrayList<>();
+        private long cursor;
+        private long length;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds an action at an absolute tick offset.
+         *
+         * @param tick   offset from the start, in ticks
+         * @param action action
+         * @return this builder
+         */
+        public @NotNull Builder at(long tick, @NotNull Runnable action) {
+            if (tick < 0) throw new IllegalArgumentException("Tick must not be negative: " + tick);
+            ticks.add(tick);
+            actions.add(action);
+            cursor = tick;
+            length = Math.max(length, tick + 1);
+            return this;
+        }
+
+        /**
+         * Adds an action a number of ticks after the previously added one.
+         *
+         * @param delay  ticks after the previous action
+         * @param action action
+         * @return this builder
+         */
+        public @NotNull Builder then(long delay, @NotNull Runnable action) {
+            return at(cursor + delay, action);
+        }
+
+        /**
+         * Extends the animation to at least the given length, e.g. to pad a loop period.
+         *
+         * @param length length in ticks
+         * @return this builder
+         */
+        public @NotNull Builder length(long length) {
+            this.length = Math.max(this.length, length);
+            return this;
+        }
+
+        private void append(Animation part, long offset) {
+            for (int i = 0; i < part.ticks.length; i++) {
+                ticks.add(part.ticks[i] + offset);
+                actions.add(part.actions[i]);
+            }
+            length = Math.max(length, offset + part.length);
+        }
+
+        /**
+         * Compiles the animation.
+         *
+         * @return animation
+         */
+        public @NotNull Animation build() {
+            Integer[] order = new Integer[ticks.size()];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Long.compare(ticks.get(a), ticks.get(b)));
+
+            long[] sortedTicks = new long[order.length];
+            Runnable[] sortedActions = new Runnable[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedTicks[i] = ticks.get(order[i]);
+                sortedActions[i] = actions.get(order[i]);
+            }
+            return new Animation(sortedTicks, sortedActions, length, false);
+        }
+    }
+}
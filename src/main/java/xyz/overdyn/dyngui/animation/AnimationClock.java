@@ -0,0 +1,251 @@
+package xyz.overdyn.dyngui.animation;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.DynGui;
+import xyz.overdyn.dyngui.abstracts.AbstractGui;
+import xyz.overdyn.dyngui.scheduler.RegionExecutor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * DynGui-wide clock broadcasting {@link FrameAnimation} frames to subscribed slots.
+ *
+ * <p>One task drives all shared animations, and it runs only while there are subscriptions.
+ * On each tick the clock looks up the current frame of every animation once and, only if
+ * the frame changed, copies it into every subscribed slot of every open GUI. All viewers of
+ * an animation therefore see the same frame, however many GUIs show it.</p>
+ *
+ * <p>A subscription waits while its GUI is not open yet and is dropped once the GUI is
+ * closed. A GUI that is not opened within {@value #OPEN_TIMEOUT_TICKS} ticks is assumed
+ * abandoned and its subscriptions are dropped, so they do not keep the clock running. The
+ * slot should not hold a registered item whose re-render would overwrite the frame; slot
+ * click handlers are not affected.</p>
+ *
+ * <p><b>Threading:</b> subscribe from the GUI's thread. The clock ticks on the global
+ * region and hands each viewer's slots to that viewer's thread, which sets the items.</p>
+ */
+public final class AnimationClock {
+
+    private static final AnimationClock GLOBAL = new AnimationClock();
+
+    /** Ticks a subscription waits for its GUI to be opened. */
+    public static final long OPEN_TIMEOUT_TICKS = 20L * 10;
+
+    private final Map<FrameAnimation, Channel> channels = new ConcurrentHashMap<>();
+    private BukkitTask task;
+    private volatile long tick;
+
+    private AnimationClock() {
+    }
+
+    /**
+     * Returns the global clock.
+     *
+     * @return clock
+     */
+    public static @NotNull AnimationClock global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Shows an animation in a slot of a GUI, in sync with all other subscribers.
+     *
+     * @param gui       GUI showing the animation
+     * @param slot      inventory slot
+     * @param animation animation
+     * @return subscription, cancelled automatically when the GUI is closed or is not opened
+     *         within {@value #OPEN_TIMEOUT_TICKS} ticks
+     */
+    public @NotNull Subscription subscribe(@NotNull AbstractGui gui, int slot, @NotNull FrameAnimation animation) {
+        long now = tick;
+        Subscription[] created = new Subscription[1];
+        // Adding inside compute keeps the tick from dropping the channel as empty meanwhile.
+        Channel channel = channels.compute(animation, (key, existing) -> {
+            Channel target = existing != null ? existing : new Channel(key, key.frameIndex(now));
+            created[0] = new Subscription(target, gui, slot, now + OPEN_TIMEOUT_TICKS);
+            target.subscribers.add(created[0]);
+            return target;
+        });
+        Subscription subscription = created[0];
+
+        if (gui.isOpen()) {
+            subscription.show(animation.frame(channel.frame));
+            subscription.opened = true;
+        }
+        ensureRunning();
+        return subscription;
+    }
+
+    /**
+     * Cancels all subscriptions of a GUI.
+     *
+     * @param gui GUI
+     */
+    public void unsubscribeAll(@NotNull AbstractGui gui) {
+        for (FrameAnimation animation : channels.keySet()) {
+            channels.computeIfPresent(animation, (key, channel) -> {
+                channel.subscribers.removeIf(subscription -> subscription.gui == gui);
+                return channel.subscribers.isEmpty() ? null : channel;
+            });
+        }
+    }
+
+    /**
+     * Cancels all subscriptions and stops the clock.
+     */
+    public synchronized void stop() {
+        channels.clear();
+        cancelTask();
+    }
+
+    /**
+     * Returns the number of subscribed slots.
+     *
+     * @return subscription count
+     */
+    public int subscriptionCount() {
+        int count = 0;
+        for (Channel channel : channels.values()) count += channel.subscribers.size();
+        return count;
+    }
+
+    private synchronized void ensureRunning() {
+        if (task != null) return;
+
+        task = DynGui.getInstance().getRegionExecutor().runGlobal(this::tick, 1L, 1L);
+    }
+
+    private void cancelTask() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void tick() {
+        long now = ++tick;
+        Map<Player, List<Runnable>> updates = new HashMap<>();
+
+        for (FrameAnimation animation : channels.keySet()) {
+            channels.computeIfPresent(animation, (key, channel) -> {
+                int frame = channel.animation.frameIndex(now);
+                boolean changed = frame != channel.frame;
+                channel.frame = frame;
+
+                channel.subscribers.removeIf(subscription -> subscription.schedule(changed, frame, now, updates));
+                return channel.subscribers.isEmpty() ? null : channel;
+            });
+        }
+
+        // One hop per viewer; the inventory belongs to the viewer's region.
+        RegionExecutor executor = DynGui.getInstance().getRegionExecutor();
+        updates.forEach((viewer, tasks) -> executor.execute(viewer, () -> tasks.forEach(Runnable::run)));
+
+        synchronized (this) {
+            if (channels.isEmpty()) cancelTask();
+        }
+    }
+
+    /**
+     * Subscribers of one animation.
+     */
+    private static final class Channel {
+
+        private final FrameAnimation animation;
+        private final List<Subscription> subscribers = new CopyOnWriteArrayList<>();
+        private volatile int frame;
+
+        private Channel(FrameAnimation animation, int frame) {
+            this.animation = animation;
+            this.frame = frame;
+        }
+    }
+
+    /**
+     * A slot showing a shared animation.
+     */
+    public static final class Subscription {
+
+        private final Channel channel;
+        private final AbstractGui gui;
+        private final int slot;
+
+        /** Clock tick after which a never-opened GUI is given up on. */
+        private final long openDeadline;
+
+        /** Whether the GUI was open on a previous tick; a closed GUI ends the subscription then. */
+        private volatile boolean opened;
+        private volatile boolean cancelled;
+
+        private Subscription(Channel channel, AbstractGui gui, int slot, long openDeadline) {
+            this.channel = channel;
+            this.gui = gui;
+            this.slot = slot;
+            this.openDeadline = openDeadline;
+        }
+
+        /**
+         * Stops showing the animation; the slot keeps its last frame.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Tells whether this subscription ended.
+         *
+         * @return true if cancelled, the GUI was closed or it was never opened in time
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Queues an update for the viewer's thread. Runs on the clock thread.
+         *
+         * @return true if the subscription ended
+         */
+        private boolean schedule(boolean changed, int frame, long tick, Map<Player, List<Runnable>> updates) {
+            if (cancelled) return true;
+
+            Player viewer = gui.getViewer();
+            if (viewer == null) {
+                cancelled = opened || tick > openDeadline;
+                return cancelled;
+            }
+
+            updates.computeIfAbsent(viewer, key -> new ArrayList<>()).add(() -> update(changed, frame, tick));
+            return false;
+        }
+
+        /**
+         * Shows the current frame if needed. Runs on the viewer's thread; an ended
+         * subscription is dropped by the next tick.
+         */
+        private void update(boolean changed, int frame, long tick) {
+            if (cancelled) return;
+
+            if (!gui.isOpen()) {
+                // Not opened yet: keep waiting until the deadline. Opened before: the GUI was closed.
+                cancelled = opened || tick > openDeadline;
+                return;
+            }
+
+            // Freshly opened GUIs get the current frame even if it did not change.
+            if (changed || !opened) show(channel.animation.frame(frame));
+            opened = true;
+        }
+
+        private void show(ItemStack stack) {
+            gui.getInventory().setItem(slot, stack);
+        }
+    }
+}
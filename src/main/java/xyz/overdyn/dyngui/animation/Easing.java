@@ -0,0 +1,23 @@
+package xyz.overdyn.dyngui.animation;
+
+/**
+ * Maps linear animation progress to eased progress.
+ *
+ * <p>Both input and output are in {@code [0; 1]}; {@code apply(0) == 0} and {@code apply(1) == 1}.</p>
+ */
+@FunctionalInterface
+public interface Easing {
+
+    Easing LINEAR = t -> t;
+    Easing EASE_IN = t -> t * t;
+    Easing EASE_OUT = t -> t * (2 - t);
+    Easing EASE_IN_OUT = t -> t < 0.5 ? 2 * t * t : -1 + (4 - 2 * t) * t;
+
+    /**
+     * Eases a progress value.
+     *
+     * @param t linear progress in {@code [0; 1]}
+     * @return eased progress in {@code [0; 1]}
+     */
+    double apply(double t);
+}
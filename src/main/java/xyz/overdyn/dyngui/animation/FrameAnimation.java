@@ -0,0 +1,99 @@
+package xyz.overdyn.dyngui.animation;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.dupe.ItemMarker;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Looping item animation shared by many GUIs, e.g. a loading spinner or a rainbow border.
+ *
+ * <p>All frames are built and marked once, when the animation is defined. Slots subscribe to
+ * it on the {@link AnimationClock}, which shows the same frame in every subscribed slot at
+ * the same time.</p>
+ *
+ * <p>Frame stacks are shared and must not be modified; {@link org.bukkit.inventory.Inventory#setItem(int, ItemStack)}
+ * copies them.</p>
+ */
+public final class FrameAnimation {
+
+    private final long period;
+    private final ItemStack[] frames;
+
+    private FrameAnimation(long period, ItemStack[] frames) {
+        this.period = period;
+        this.frames = frames;
+    }
+
+    /**
+     * Defines an animation from prepared frames.
+     *
+     * @param period ticks each frame is shown
+     * @param frames frames in order, at least one
+     * @return animation
+     */
+    public static @NotNull FrameAnimation of(long period, @NotNull List<ItemStack> frames) {
+        if (period <= 0) throw new IllegalArgumentException("Frame period must be positive: " + period);
+        if (frames.isEmpty()) throw new IllegalArgumentException("Animation needs at least one frame");
+
+        ItemStack[] marked = new ItemStack[frames.size()];
+        for (int i = 0; i < marked.length; i++) marked[i] = ItemMarker.mark(frames.get(i));
+        return new FrameAnimation(period, marked);
+    }
+
+    /**
+     * Defines an animation by building each frame once.
+     *
+     * @param period ticks each frame is shown
+     * @param count  number of frames
+     * @param frame  builds the frame with the given index
+     * @return animation
+     */
+    public static @NotNull FrameAnimation build(long period, int count, @NotNull IntFunction<ItemStack> frame) {
+        if (count <= 0) throw new IllegalArgumentException("Animation needs at least one frame");
+
+        ItemStack[] frames = new ItemStack[count];
+        for (int i = 0; i < count; i++) frames[i] = frame.apply(i);
+        return of(period, List.of(frames));
+    }
+
+    /**
+     * Returns the index of the frame shown at a clock tick.
+     *
+     * @param tick clock tick
+     * @return frame index
+     */
+    public int frameIndex(long tick) {
+        return (int) ((tick / period) % frames.length);
+    }
+
+    /**
+     * Returns a frame by index.
+     *
+     * @param index frame index
+     * @return shared frame stack
+     */
+    public @NotNull ItemStack frame(int index) {
+        return frames[index];
+    }
+
+    /**
+     * Returns the number of frames.
+     *
+     * @return frame count
+     */
+    public int size() {
+        return frames.length;
+    }
+
+    /**
+     * Returns the number of ticks each frame is shown.
+     *
+     * @return period in ticks
+     */
+    public long period() {
+        return period;
+    }
+}
@@ -0,0 +1,213 @@
+package xyz.overdyn.dyngui.animation;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.scheduler.TaskScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Plays {@link Animation}s of one GUI on a single ticker.
+ *
+ * <p>Every played animation becomes a {@link Track}. Tracks wait in a queue ordered by the
+ * tick of their next action, and one repeating task, running only while tracks are queued,
+ * fires whatever is due. A GUI therefore has at most one scheduler entry for all of its
+ * animations, however many steps they have, and single tracks can be cancelled without
+ * touching the others.</p>
+ *
+ * <p><b>Threading:</b> main thread only.</p>
+ */
+public final class Timeline {
+
+    private final TaskScheduler scheduler;
+    private final BooleanSupplier active;
+    private final PriorityQueue<Track> queue = new PriorityQueue<>((a, b) -> {
+        int byTick = Long.compare(a.due, b.due);
+        return byTick != 0 ? byTick : Long.compare(a.order, b.order);
+    });
+
+    /** Tracks taken from the queue by the running tick. */
+    private final List<Track> firing = new ArrayList<>();
+
+    private BukkitTask ticker;
+    private long now;
+    private long started;
+
+    /**
+     * Creates a timeline.
+     *
+     * @param scheduler scheduler owning the ticker, e.g. the GUI scheduler
+     * @param active    actions are skipped, but time still passes, while this returns false
+     */
+    public Timeline(@NotNull TaskScheduler scheduler, @NotNull BooleanSupplier active) {
+        this.scheduler = scheduler;
+        this.active = active;
+    }
+
+    /**
+     * Plays an animation, starting on the next tick.
+     *
+     * @param animation animation
+     * @return track of the animation
+     */
+    public @NotNull Track play(@NotNull Animation animation) {
+        return play(animation, 0);
+    }
+
+    /**
+     * Plays an animation after a delay. Like {@code runTaskLater}, a delay of zero or one
+     * starts it on the next tick.
+     *
+     * @param animation animation
+     * @param delay     ticks to wait before the animation starts
+     * @return track of the animation
+     */
+    public @NotNull Track play(@NotNull Animation animation, long delay) {
+        if (delay < 0) throw new IllegalArgumentException("Delay must not be negative: " + delay);
+
+        Track track = new Track(animation, now + Math.max(1, delay), started++);
+        if (animation.size() == 0) {
+            track.done = true;
+            return track;
+        }
+
+        track.due = track.start + animation.tick(0);
+        queue.add(track);
+        ensureTicker();
+        return track;
+    }
+
+    /**
+     * Cancels all tracks and stops the ticker.
+     */
+    public void cancelAll() {
+        for (Track track : queue) track.done = true;
+        for (Track track : firing) track.done = true;
+        queue.clear();
+        stopTicker();
+    }
+
+    /**
+     * Returns the number of tracks still playing.
+     *
+     * @return active track count
+     */
+    public int activeCount() {
+        return queue.size();
+    }
+
+    /**
+     * Tells whether the ticker is running.
+     *
+     * @return true if any track is playing
+     */
+    public boolean isRunning() {
+        return ticker != null && !ticker.isCancelled();
+    }
+
+    private void ensureTicker() {
+        if (isRunning()) return;
+        ticker = scheduler.runTask(this::tick, 1, 1);
+    }
+
+    private void stopTicker() {
+        if (ticker != null) {
+            ticker.cancel();
+            ticker = null;
+        }
+    }
+
+    private void tick() {
+        now++;
+        boolean run = active.getAsBoolean();
+
+        Track track;
+        while ((track = queue.peek()) != null && track.due <= now) {
+            queue.poll();
+            if (track.done) continue;
+
+            firing.add(track);
+            fire(track, run);
+        }
+
+        // Actions may have cancelled tracks, or everything, while they were out of the queue.
+        for (Track fired : firing) {
+            if (!fired.done) queue.add(fired);
+        }
+        firing.clear();
+
+        if (queue.isEmpty()) stopTicker();
+    }
+
+    /**
+     * Runs all due actions of a track and advances it to its next action.
+     */
+    private void fire(Track track, boolean run) {
+        Animation animation = track.animation;
+
+        while (!track.done && track.start + animation.tick(track.cursor) <= now) {
+            Runnable action = animation.action(track.cursor++);
+            if (run) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    Bukkit.getLogger().warning("[DynGUI] Animation step failed, cancelling its track: " + e);
+                    track.done = true;
+                    return;
+                }
+            }
+
+            if (track.cursor == animation.size()) {
+                if (!animation.isLooping()) {
+                    track.done = true;
+                    return;
+                }
+                track.cursor = 0;
+                track.start += animation.length();
+            }
+        }
+        track.due = track.start + animation.tick(track.cursor);
+    }
+
+    /**
+     * A playing animation.
+     */
+    public final class Track {
+
+        private final Animation animation;
+        private final long order;
+        private long start;
+        private long due;
+        private int cursor;
+        private boolean done;
+
+        private Track(Animation animation, long start, long order) {
+            this.animation = animation;
+            this.start = start;
+            this.order = order;
+        }
+
+        /**
+         * Stops this track; its remaining actions are dropped.
+         */
+        public void cancel() {
+            if (done) return;
+            done = true;
+            // The ticker stops by itself once the queue runs empty.
+            queue.remove(this);
+        }
+
+        /**
+         * Tells whether this track finished or was cancelled.
+         *
+         * @return true if no more actions will run
+         */
+        public boolean isDone() {
+            return done;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package xyz.overdyn.dyngui.content;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Paged source of GUI content.
+ *
+ * <p>A paginated GUI asks the source only for the total count and for the entries of the
+ * page it shows, so jumping to any page costs one {@link #fetch(int, int)} and memory does
+ * not depend on how many entries the source holds.</p>
+ *
+ * <p>Implementations are queried on the main thread and should answer quickly, e.g. from an
+ * in-memory index.</p>
+ *
+ * @param <T> entry type
+ */
+public interface ContentSource<T> {
+
+    /**
+     * Returns the total number of entries.
+     *
+     * @return entry count
+     */
+    int count();
+
+    /**
+     * Returns a range of entries.
+     *
+     * @param offset index of the first entry, {@code >= 0}
+     * @param limit  maximum number of entries, {@code > 0}
+     * @return entries in order; fewer than {@code limit} at the end of the source
+     */
+    @NotNull List<T> fetch(int offset, int limit);
+
+    /**
+     * Returns a source converting fetched entries, e.g. domain objects into GUI items.
+     * Only fetched entries are converted.
+     *
+     * @param mapper conversion
+     * @param <R>    converted type
+     * @return mapped source
+     */
+    default <R> @NotNull ContentSource<R> map(@NotNull Function<? super T, ? extends R> mapper) {
+        ContentSource<T> self = this;
+        return new ContentSource<>() {
+            @Override
+            public int count() {
+                return self.count();
+            }
+
+            @Override
+            public @NotNull List<R> fetch(int offset, int limit) {
+                List<T> entries = self.fetch(offset, limit);
+                List<R> mapped = new ArrayList<>(entries.size());
+                for (T entry : entries) mapped.add(mapper.apply(entry));
+                return mapped;
+            }
+        };
+    }
+
+    /**
+     * Returns a source backed by a list; changes to the list are visible immediately.
+     *
+     * @param list entries
+     * @param <T>  entry type
+     * @return list source
+     */
+    static <T> @NotNull ContentSource<T> of(@NotNull List<T> list) {
+        return new ContentSource<>() {
+            @Override
+            public int count() {
+                return list.size();
+            }
+
+            @Override
+            public @NotNull List<T> fetch(int offset, int limit) {
+                int from = Math.min(offset, list.size());
+                int to = (int) Math.min((long) from + limit, list.size());
+                return new ArrayList<>(list.subList(from, to));
+            }
+        };
+    }
+}
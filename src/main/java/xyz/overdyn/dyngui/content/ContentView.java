@@ -0,0 +1,431 @@
+package xyz.overdyn.dyngui.content;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.DynGui;
+import xyz.overdyn.dyngui.items.GuiItem;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Sorted, filtered and searchable view over a {@link ContentSource}.
+ *
+ * <p>Sort orders and filters are registered by name and selected with {@link #sortBy(String)},
+ * {@link #enableFilter(String, boolean)} and {@link #search(String)}; {@link #apply()} then
+ * computes the view on a background thread and commits it on the main thread. A GUI showing
+ * the view only fetches its visible page from the committed result.</p>
+ *
+ * <p>The entries of the base source are copied once per base version, on the main thread;
+ * everything else, including extracting the entry texts, happens on the background thread.
+ * For that version the view keeps the permutation of every sort order used, the match set of
+ * every filter used and a token index over the entry texts, so switching orders, toggling
+ * filters or typing a search query combines cached indexes instead of sorting and testing all
+ * entries again. A
+ * {@link LiveSource} base is followed while the view itself has listeners; its changes start
+ * a new base version on the next tick.</p>
+ *
+ * <p>Search matches entries whose text contains a word starting with every word of the query,
+ * ignoring case.</p>
+ *
+ * <p><b>Threading:</b> configure and apply on the global region, which is the main thread on
+ * Paper. Listeners may be added and removed from GUI threads; they are notified on the global
+ * region. Comparators, predicates and the text function run on the background thread and must
+ * only read the entries.</p>
+ *
+ * @param <T> entry type
+ */
+public final class ContentView<T> implements LiveSource<T> {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final ThreadPoolExecutor EXECUTOR;
+
+    static {
+        EXECUTOR = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "DynGui-ContentView");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Idle thread dies, so a disabled plugin does not keep it alive.
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private final ContentSource<T> base;
+    private final @Nullable Function<? super T, String> text;
+
+    private final Map<String, Comparator<? super T>> orders = new HashMap<>();
+    private final Map<String, Predicate<? super T>> filters = new HashMap<>();
+    private final Set<String> enabledFilters = new LinkedHashSet<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final LiveSource.Listener baseListener = index -> baseChanged();
+
+    private @Nullable String order;
+    private @Nullable String query;
+
+    private @Nullable Snapshot<T> snapshot;
+    private boolean baseDirty = true;
+    private boolean reapplyScheduled;
+    private long requests;
+
+    private volatile List<T> visible = List.of();
+
+    /**
+     * Creates a view.
+     *
+     * @param base entries to show
+     * @param text searchable text of an entry, or {@code null} to disable search; called on
+     *             the background thread
+     */
+    public ContentView(@NotNull ContentSource<T> base, @Nullable Function<? super T, String> text) {
+        this.base = base;
+        this.text = text;
+    }
+
+    /**
+     * Creates a view over GUI items, searchable by their display name.
+     *
+     * @param base items to show
+     * @return view, empty until {@link #apply()} committed
+     */
+    public static @NotNull ContentView<GuiItem> items(@NotNull ContentSource<GuiItem> base) {
+        return new ContentView<>(base, item -> {
+            Component name = item.getItemWrapper().baseDisplayName();
+            return name == null ? "" : PlainTextComponentSerializer.plainText().serialize(name);
+        });
+    }
+
+    /**
+     * Registers a sort order.
+     *
+     * @param name       order name
+     * @param comparator order of the entries
+     * @return this view
+     */
+    public @NotNull ContentView<T> sortOrder(@NotNull String name, @NotNull Comparator<? super T> comparator) {
+        orders.put(name, comparator);
+        return this;
+    }
+
+    /**
+     * Registers a filter, initially disabled.
+     *
+     * @param name      filter name
+     * @param predicate entries kept while the filter is enabled
+     * @return this view
+     */
+    public @NotNull ContentView<T> filter(@NotNull String name, @NotNull Predicate<? super T> predicate) {
+        filters.put(name, predicate);
+        return this;
+    }
+
+    /**
+     * Selects the sort order.
+     *
+     * @param name registered order, or {@code null} for the order of the base source
+     * @return this view
+     * @throws IllegalArgumentException if the order is not registered
+     */
+    public @NotNull ContentView<T> sortBy(@Nullable String name) {
+        if (name != null && !orders.containsKey(name)) {
+            throw new IllegalArgumentException("Unknown sort order: " + name);
+        }
+        this.order = name;
+        return this;
+    }
+
+    /**
+     * Enables or disables a filter. Entries must pass all enabled filters.
+     *
+     * @param name    registered filter
+     * @param enabled whether the filter applies
+     * @return this view
+     * @throws IllegalArgumentException if the filter is not registered
+     */
+    public @NotNull ContentView<T> enableFilter(@NotNull String name, boolean enabled) {
+        if (!filters.containsKey(name)) throw new IllegalArgumentException("Unknown filter: " + name);
+
+        if (enabled) enabledFilters.add(name);
+        else enabledFilters.remove(name);
+        return this;
+    }
+
+    /**
+     * Sets the search query.
+     *
+     * @param query words to search, or {@code null} to show all entries
+     * @return this view
+     * @throws IllegalStateException if the view has no entry text
+     */
+    public @NotNull ContentView<T> search(@Nullable String query) {
+        if (query != null && text == null) throw new IllegalStateException("View has no searchable text");
+        this.query = query == null || query.isBlank() ? null : query;
+        return this;
+    }
+
+    /**
+     * Returns the selected sort order.
+     *
+     * @return order name, or {@code null} for the base order
+     */
+    public @Nullable String sortOrder() {
+        return order;
+    }
+
+    /**
+     * Returns the search query.
+     *
+     * @return query, or {@code null} if not searching
+     */
+    public @Nullable String query() {
+        return query;
+    }
+
+    /**
+     * Tells whether a filter is enabled.
+     *
+     * @param name filter name
+     * @return true if enabled
+     */
+    public boolean isFilterEnabled(@NotNull String name) {
+        return enabledFilters.contains(name);
+    }
+
+    /**
+     * Computes the view for the current selection off the main thread and commits it on the
+     * main thread. A newer {@code apply()} supersedes one still in progress.
+     *
+     * @return future completed on the main thread once the result is committed or superseded
+     */
+    public @NotNull CompletableFuture<Void> apply() {
+        Snapshot<T> source;
+        synchronized (this) {
+            if (baseDirty || snapshot == null) {
+                snapshot = Snapshot.read(base, text);
+                baseDirty = false;
+            }
+            source = snapshot;
+        }
+        long request = ++requests;
+        Comparator<? super T> comparator = order == null ? null : orders.get(order);
+        List<Predicate<? super T>> predicates = new ArrayList<>(enabledFilters.size());
+        for (String name : enabledFilters) predicates.add(filters.get(name));
+        String[] words = query == null ? new String[0] : words(query);
+
+        CompletableFuture<Void> committed = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(() -> source.compute(comparator, predicates, words), EXECUTOR)
+                .whenComplete((result, error) -> {
+                    JavaPlugin plugin = DynGui.getInstance().getPlugin();
+                    if (!plugin.isEnabled()) {
+                        committed.complete(null);
+                        return;
+                    }
+
+                    DynGui.getInstance().getRegionExecutor().runGlobal(() -> {
+                        if (error != null) {
+                            Bukkit.getLogger().warning("[DynGUI] Failed to compute content view: " + error);
+                            committed.completeExceptionally(error);
+                            return;
+                        }
+                        if (request == requests) commit(result);
+                        committed.complete(null);
+                    });
+                });
+        return committed;
+    }
+
+    @Override
+    public int count() {
+        return visible.size();
+    }
+
+    @Override
+    public @NotNull List<T> fetch(int offset, int limit) {
+        List<T> current = visible;
+        if (offset >= current.size()) return new ArrayList<>();
+        return new ArrayList<>(current.subList(offset, Math.min(current.size(), offset + limit)));
+    }
+
+    @Override
+    public synchronized void addListener(@NotNull Listener listener) {
+        if (listeners.isEmpty() && base instanceof LiveSource<T> live) {
+            live.addListener(baseListener);
+            // The base was not followed until now and may have changed since the last apply.
+            if (snapshot != null) baseChanged();
+        }
+        listeners.add(listener);
+    }
+
+    @Override
+    public synchronized void removeListener(@NotNull Listener listener) {
+        if (!listeners.removeIf(registered -> registered == listener)) return;
+        if (listeners.isEmpty() && base instanceof LiveSource<T> live) live.removeListener(baseListener);
+    }
+
+    private void commit(List<T> result) {
+        visible = result;
+        for (Listener listener : listeners) listener.contentChanged(0);
+    }
+
+    /**
+     * Marks the base as changed and re-applies on the next tick, once for all changes of the tick.
+     */
+    private synchronized void baseChanged() {
+        baseDirty = true;
+        if (reapplyScheduled) return;
+
+        JavaPlugin plugin = DynGui.getInstance().getPlugin();
+        if (!plugin.isEnabled()) return;
+
+        reapplyScheduled = true;
+        DynGui.getInstance().getRegionExecutor().runGlobal(() -> {
+            synchronized (this) {
+                reapplyScheduled = false;
+            }
+            apply();
+        });
+    }
+
+    static String[] words(String value) {
+        return Arrays.stream(WORD_SEPARATOR.split(value.toLowerCase(Locale.ROOT)))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Entries of one base version together with the indexes computed over them.
+     * Only used by the view thread after creation.
+     */
+    static final class Snapshot<T> {
+
+        private final List<T> entries;
+        /** Searchable text of an entry; {@code null} if the view has no text. */
+        private final @Nullable Function<? super T, String> text;
+
+        private final Map<Comparator<?>, int[]> sorted = new IdentityHashMap<>();
+        private final Map<Predicate<?>, BitSet> matches = new IdentityHashMap<>();
+        private @Nullable TokenIndex tokens;
+
+        private Snapshot(List<T> entries, @Nullable Function<? super T, String> text) {
+            this.entries = entries;
+            this.text = text;
+        }
+
+        /**
+         * Copies the base entries on the main thread. Their texts are extracted on the view
+         * thread, when the first search needs them.
+         */
+        static <T> Snapshot<T> read(ContentSource<T> base, @Nullable Function<? super T, String> text) {
+            int count = base.count();
+            List<T> entries = count == 0 ? List.of() : List.copyOf(base.fetch(0, count));
+            return new Snapshot<>(entries, text);
+        }
+
+        List<T> compute(@Nullable Comparator<? super T> comparator,
+                        List<Predicate<? super T>> predicates,
+                        String[] words) {
+            BitSet mask = new BitSet(entries.size());
+            mask.set(0, entries.size());
+            for (Predicate<? super T> predicate : predicates) mask.and(matches(predicate));
+            for (String word : words) mask.and(tokens().prefixed(word));
+
+            List<T> result = new ArrayList<>(mask.cardinality());
+            if (comparator == null) {
+                for (int i = mask.nextSetBit(0); i >= 0; i = mask.nextSetBit(i + 1)) result.add(entries.get(i));
+            } else {
+                for (int i : sorted(comparator)) {
+                    if (mask.get(i)) result.add(entries.get(i));
+                }
+            }
+            return result;
+        }
+
+        private int[] sorted(Comparator<? super T> comparator) {
+            return sorted.computeIfAbsent(comparator, key -> {
+                Integer[] order = new Integer[entries.size()];
+                for (int i = 0; i < order.length; i++) order[i] = i;
+                // Stable, so equal entries keep the base order.
+                Arrays.sort(order, (a, b) -> comparator.compare(entries.get(a), entries.get(b)));
+
+                int[] permutation = new int[order.length];
+                for (int i = 0; i < order.length; i++) permutation[i] = order[i];
+                return permutation;
+            });
+        }
+
+        private BitSet matches(Predicate<? super T> predicate) {
+            return matches.computeIfAbsent(predicate, key -> {
+                BitSet bits = new BitSet(entries.size());
+                for (int i = 0; i < entries.size(); i++) {
+                    if (predicate.test(entries.get(i))) bits.set(i);
+                }
+                return bits;
+            });
+        }
+
+        private TokenIndex tokens() {
+            if (tokens != null) return tokens;
+
+            Function<? super T, String> text = Objects.requireNonNull(this.text);
+            String[] texts = new String[entries.size()];
+            for (int i = 0; i < texts.length; i++) {
+                String value = text.apply(entries.get(i));
+                texts[i] = value == null ? "" : value;
+            }
+            tokens = TokenIndex.build(texts);
+            return tokens;
+        }
+    }
+
+    /**
+     * Words of all entry texts, sorted, each with the entry it belongs to. All words with a
+     * prefix form one contiguous range.
+     */
+    private record TokenIndex(String[] words, int[] owners, int entryCount) {
+
+        static TokenIndex build(String[] texts) {
+            List<String> words = new ArrayList<>();
+            List<Integer> owners = new ArrayList<>();
+            for (int i = 0; i < texts.length; i++) {
+                for (String word : new HashSet<>(Arrays.asList(ContentView.words(texts[i])))) {
+                    words.add(word);
+                    owners.add(i);
+                }
+            }
+
+            Integer[] order = new Integer[words.size()];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, Comparator.comparing(words::get));
+
+            String[] sortedWords = new String[order.length];
+            int[] sortedOwners = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedWords[i] = words.get(order[i]);
+                sortedOwners[i] = owners.get(order[i]);
+            }
+            return new TokenIndex(sortedWords, sortedOwners, texts.length);
+        }
+
+        BitSet prefixed(String prefix) {
+            BitSet bits = new BitSet(entryCount);
+            int i = Arrays.binarySearch(words, prefix);
+            if (i < 0) i = -i - 1;
+            // binarySearch may land on any of several equal words.
+            while (i > 0 && words[i - 1].equals(prefix)) i--;
+
+            for (; i < words.length && words[i].startsWith(prefix); i++) bits.set(owners[i]);
+            return bits;
+        }
+    }
+}
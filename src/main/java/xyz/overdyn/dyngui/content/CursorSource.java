@@ -0,0 +1,100 @@
+package xyz.overdyn.dyngui.content;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.function.Function;
+
+/**
+ * Source of GUI content paged by key instead of by offset.
+ *
+ * <p>Entries are ordered by a unique key. A page is fetched relative to the boundary key of
+ * the page next to it, so a source backed by an ordered index, such as a database table
+ * with an index on the key, serves every page with one index seek and never has to count or
+ * skip rows. Entries inserted or removed elsewhere while a viewer flips pages do not shift
+ * the pages, so nothing is shown twice or skipped.</p>
+ *
+ * <p>Implementations are queried on the main thread and should answer quickly; a remote
+ * store should be queried through a local cache or replica.</p>
+ *
+ * @param <K> key type
+ * @param <T> entry type
+ */
+public interface CursorSource<K, T> {
+
+    /**
+     * Returns the entries following a key.
+     *
+     * @param key   exclusive lower bound, or {@code null} to start at the first entry
+     * @param limit maximum number of entries, {@code > 0}
+     * @return entries in ascending key order
+     */
+    @NotNull List<T> after(@Nullable K key, int limit);
+
+    /**
+     * Returns the entries preceding a key.
+     *
+     * @param key   exclusive upper bound, or {@code null} to end at the last entry
+     * @param limit maximum number of entries, {@code > 0}
+     * @return the entries closest to the key, in ascending key order
+     */
+    @NotNull List<T> before(@Nullable K key, int limit);
+
+    /**
+     * Returns the key of an entry.
+     *
+     * @param entry entry returned by this source
+     * @return key of the entry
+     */
+    @NotNull K keyOf(@NotNull T entry);
+
+    /**
+     * Returns a source backed by an ordered map; changes to the map are visible immediately.
+     * Use a {@link java.util.concurrent.ConcurrentSkipListMap} if the map is changed off the
+     * main thread.
+     *
+     * @param map   entries by key
+     * @param keyOf key of an entry
+     * @param <K>   key type
+     * @param <T>   entry type
+     * @return map source
+     */
+    static <K, T> @NotNull CursorSource<K, T> of(@NotNull NavigableMap<K, T> map,
+                                                 @NotNull Function<? super T, ? extends K> keyOf) {
+        return new CursorSource<>() {
+            @Override
+            public @NotNull List<T> after(@Nullable K key, int limit) {
+                NavigableMap<K, T> tail = key == null ? map : map.tailMap(key, false);
+
+                List<T> entries = new ArrayList<>(Math.min(limit, 64));
+                for (T entry : tail.values()) {
+                    if (entries.size() >= limit) break;
+                    entries.add(entry);
+                }
+                return entries;
+            }
+
+            @Override
+            public @NotNull List<T> before(@Nullable K key, int limit) {
+                NavigableMap<K, T> head = key == null ? map : map.headMap(key, false);
+
+                List<T> entries = new ArrayList<>(Math.min(limit, 64));
+                for (T entry : head.descendingMap().values()) {
+                    if (entries.size() >= limit) break;
+                    entries.add(entry);
+                }
+                Collections.reverse(entries);
+                return entries;
+            }
+
+            @Override
+            public @NotNull K keyOf(@NotNull T entry) {
+                return keyOf.apply(entry);
+            }
+        };
+    }
+}
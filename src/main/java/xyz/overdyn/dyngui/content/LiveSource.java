@@ -0,0 +1,42 @@
+package xyz.overdyn.dyngui.content;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link ContentSource} that reports its changes.
+ *
+ * <p>A paginated GUI showing a live source follows it while open and only redraws when a
+ * change touches the visible page.</p>
+ *
+ * @param <T> entry type
+ */
+public interface LiveSource<T> extends ContentSource<T> {
+
+    /**
+     * Registers a change listener.
+     *
+     * @param listener listener
+     */
+    void addListener(@NotNull Listener listener);
+
+    /**
+     * Removes a change listener.
+     *
+     * @param listener listener
+     */
+    void removeListener(@NotNull Listener listener);
+
+    /**
+     * Receives content changes. Called on the main thread.
+     */
+    @FunctionalInterface
+    interface Listener {
+
+        /**
+         * Called after entries changed. Entries before {@code index} are unchanged.
+         *
+         * @param index first position that may have changed
+         */
+        void contentChanged(int index);
+    }
+}
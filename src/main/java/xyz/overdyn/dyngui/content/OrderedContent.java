@@ -0,0 +1,293 @@
+package xyz.overdyn.dyngui.content;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Live, keyed content list with positional access in logarithmic time.
+ *
+ * <p>Entries are kept in an implicit treap: a randomized balanced tree ordered by position,
+ * where every node knows the size of its subtree. A key index points at the nodes, and
+ * parent links give the position of a node by walking up. Inserting at a position, removing
+ * or updating by key, and finding the position of a key all take expected {@code O(log n)};
+ * fetching a page takes {@code O(log n + limit)}.</p>
+ *
+ * <p>Every change reports the affected position to the registered {@link Listener}s, so a
+ * GUI showing the content only has to redraw when the change touches its visible window.</p>
+ *
+ * <p><b>Threading:</b> main thread only, like the GUIs reading it.</p>
+ *
+ * @param <K> key type
+ * @param <T> entry type
+ */
+public final class OrderedContent<K, T> implements LiveSource<T> {
+
+    private final Map<K, Node<K, T>> byKey = new HashMap<>();
+    private final List<Listener> listeners = new ArrayList<>();
+    private final Random random = new Random();
+
+    private @Nullable Node<K, T> root;
+
+    @Override
+    public int count() {
+        return size(root);
+    }
+
+    @Override
+    public @NotNull List<T> fetch(int offset, int limit) {
+        List<T> result = new ArrayList<>(Math.max(0, Math.min(limit, count() - offset)));
+        if (offset < 0 || limit <= 0) return result;
+
+        // Path to the entry at offset; every node on the stack is still to be visited in order.
+        Deque<Node<K, T>> stack = new ArrayDeque<>();
+        Node<K, T> node = root;
+        int k = offset;
+        while (node != null) {
+            int left = size(node.left);
+            if (k < left) {
+                stack.push(node);
+                node = node.left;
+            } else if (k == left) {
+                stack.push(node);
+                break;
+            } else {
+                k -= left + 1;
+                node = node.right;
+            }
+        }
+
+        while (result.size() < limit && !stack.isEmpty()) {
+            Node<K, T> next = stack.pop();
+            result.add(next.value);
+            for (Node<K, T> n = next.right; n != null; n = n.left) stack.push(n);
+        }
+        return result;
+    }
+
+    /**
+     * Appends an entry.
+     *
+     * @param key   unique key
+     * @param value entry
+     * @throws IllegalArgumentException if the key is already present
+     */
+    public void add(@NotNull K key, @NotNull T value) {
+        insert(count(), key, value);
+    }
+
+    /**
+     * Inserts an entry at a position, shifting later entries back.
+     *
+     * @param index position in {@code [0; count()]}
+     * @param key   unique key
+     * @param value entry
+     * @throws IllegalArgumentException  if the key is already present
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    public void insert(int index, @NotNull K key, @NotNull T value) {
+        Objects.checkIndex(index, count() + 1);
+        if (byKey.containsKey(key)) throw new IllegalArgumentException("Duplicate content key: " + key);
+
+        Node<K, T> node = new Node<>(value, random.nextInt());
+        byKey.put(key, node);
+
+        Pair<K, T> parts = split(root, index);
+        root = detach(merge(merge(parts.left, node), parts.right));
+        fire(index);
+    }
+
+    /**
+     * Removes the entry of a key.
+     *
+     * @param key key
+     * @return former position of the entry, or -1 if the key is absent
+     */
+    public int remove(@NotNull K key) {
+        Node<K, T> node = byKey.remove(key);
+        if (node == null) return -1;
+
+        int index = rank(node);
+        Pair<K, T> head = split(root, index);
+        Pair<K, T> tail = split(head.right, 1);
+        root = detach(merge(head.left, tail.right));
+        fire(index);
+        return index;
+    }
+
+    /**
+     * Replaces the entry of a key, keeping its position.
+     *
+     * @param key   key
+     * @param value new entry
+     * @return position of the entry, or -1 if the key is absent
+     */
+    public int update(@NotNull K key, @NotNull T value) {
+        Node<K, T> node = byKey.get(key);
+        if (node == null) return -1;
+
+        node.value = value;
+        int index = rank(node);
+        fire(index);
+        return index;
+    }
+
+    /**
+     * Returns the position of a key.
+     *
+     * @param key key
+     * @return position, or -1 if the key is absent
+     */
+    public int indexOf(@NotNull K key) {
+        Node<K, T> node = byKey.get(key);
+        return node == null ? -1 : rank(node);
+    }
+
+    /**
+     * Returns the entry of a key.
+     *
+     * @param key key
+     * @return entry, or {@code null} if the key is absent
+     */
+    public @Nullable T get(@NotNull K key) {
+        Node<K, T> node = byKey.get(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Returns the entry at a position.
+     *
+     * @param index position in {@code [0; count())}
+     * @return entry
+     */
+    public @NotNull T get(int index) {
+        Objects.checkIndex(index, count());
+        Node<K, T> node = root;
+        while (true) {
+            int left = size(node.left);
+            if (index < left) {
+                node = node.left;
+            } else if (index == left) {
+                return node.value;
+            } else {
+                index -= left + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Tells whether a key is present.
+     *
+     * @param key key
+     * @return true if present
+     */
+    public boolean contains(@NotNull K key) {
+        return byKey.containsKey(key);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        if (root == null) return;
+        root = null;
+        byKey.clear();
+        fire(0);
+    }
+
+    @Override
+    public void addListener(@NotNull Listener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(@NotNull Listener listener) {
+        listeners.removeIf(registered -> registered == listener);
+    }
+
+    private void fire(int index) {
+        for (Listener listener : List.copyOf(listeners)) listener.contentChanged(index);
+    }
+
+    /**
+     * Position of a node: left subtree sizes and ancestors passed from the right.
+     */
+    private static int rank(Node<?, ?> node) {
+        int rank = size(node.left);
+        for (Node<?, ?> n = node; n.parent != null; n = n.parent) {
+            if (n == n.parent.right) rank += size(n.parent.left) + 1;
+        }
+        return rank;
+    }
+
+    /**
+     * Splits a tree into its first {@code k} entries and the rest.
+     */
+    private static <K, T> Pair<K, T> split(@Nullable Node<K, T> node, int k) {
+        if (node == null) return new Pair<>(null, null);
+
+        if (size(node.left) >= k) {
+            Pair<K, T> parts = split(node.left, k);
+            node.left = parts.right;
+            pull(node);
+            return new Pair<>(detach(parts.left), detach(node));
+        }
+
+        Pair<K, T> parts = split(node.right, k - size(node.left) - 1);
+        node.right = parts.left;
+        pull(node);
+        return new Pair<>(detach(node), detach(parts.right));
+    }
+
+    private static <K, T> @Nullable Node<K, T> merge(@Nullable Node<K, T> left, @Nullable Node<K, T> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            pull(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        pull(right);
+        return right;
+    }
+
+    /**
+     * Recomputes the subtree size and links the children back to the node.
+     */
+    private static <K, T> void pull(Node<K, T> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        if (node.left != null) node.left.parent = node;
+        if (node.right != null) node.right.parent = node;
+    }
+
+    private static <K, T> @Nullable Node<K, T> detach(@Nullable Node<K, T> node) {
+        if (node != null) node.parent = null;
+        return node;
+    }
+
+    private static int size(@Nullable Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<K, T> {
+
+        private final int priority;
+        private T value;
+        private int size = 1;
+        private @Nullable Node<K, T> left;
+        private @Nullable Node<K, T> right;
+        private @Nullable Node<K, T> parent;
+
+        private Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+
+    private record Pair<K, T>(@Nullable Node<K, T> left, @Nullable Node<K, T> right) {
+    }
+}
@@ -36,4 +36,19 @@ public record Button(
         Map<String, Object> customValues
 
 ) {
+
+    /**
+     * Returns the {@code Items} section this button was parsed from.
+     *
+     * @return source section
+     * @throws IllegalStateException if this button was read from a
+     *         {@link xyz.overdyn.dyngui.form.snapshot.MenuSnapshotStore snapshot}, which does not keep it
+     */
+    @Override
+    public ConfigurationSection itemSection() {
+        if (itemSection == null) {
+            throw new IllegalStateException("Button " + id + " was read from a snapshot and has no source section");
+        }
+        return itemSection;
+    }
 }
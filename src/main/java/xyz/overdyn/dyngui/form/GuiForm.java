@@ -2,6 +2,7 @@ package xyz.overdyn.dyngui.form;
 
 import lombok.Getter;
 import me.clip.placeholderapi.PlaceholderAPI;
+import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
 import org.bukkit.Material;
@@ -9,6 +10,7 @@ import org.bukkit.NamespacedKey;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.ItemFlag;
@@ -17,20 +19,54 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.LeatherArmorMeta;
 import org.bukkit.inventory.meta.PotionMeta;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import xyz.overdyn.dyngui.form.requirements.ClickRequirement;
 import xyz.overdyn.dyngui.form.requirements.ViewRequirement;
+import xyz.overdyn.dyngui.items.ItemWrapper;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class GuiForm {
 
     @Getter
     private Menu menu;
 
+    /**
+     * Buttons of {@link #menu} grouped by slot and sorted by priority, built once per load.
+     */
+    @Getter
+    private SlotVariantTable<Button> slotTable;
+
+    /**
+     * Compiled template of {@link #menu}, compiled on first use by {@link #getTemplate()}.
+     */
+    private MenuTemplate<Button> template;
+
+    /**
+     * Latest compiled template per menu id. A new {@link Menu} instance, e.g. after a reload,
+     * replaces the entry of its id, so every GUI of the same instance shares one template.
+     */
+    private static final Map<String, SharedTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    public GuiForm() {
+    }
+
+    /**
+     * Creates a form around an already parsed menu, e.g. one read from a
+     * {@link xyz.overdyn.dyngui.form.snapshot.MenuSnapshotStore}.
+     *
+     * @param menu parsed menu
+     */
+    public GuiForm(@NotNull Menu menu) {
+        this.menu = menu;
+        this.slotTable = buildSlotTable(menu.buttons());
+    }
+
     public void loadGui(FileConfiguration config) {
         menuLoad(config);
         Bukkit.getLogger().info("loaded");
@@ -38,30 +74,136 @@ public class GuiForm {
 
     public void menuLoad(@NotNull FileConfiguration configuration) {
         try {
-            String menuId = configuration.getString("id"); //template "report_main"
-            String title = configuration.getString("title", "Empty title");
-
-            int update_interval = configuration.getBoolean("update") ? configuration.getInt("update_interval", -1) : -1;
-            int refresh_interval = configuration.getBoolean("refresh") ? configuration.getInt("refresh_interval", -1) : -1;
-            int size = configuration.getInt("size", 6);
-            if (size < 9) {
-                if (size <= 6 && size>0) {
-                    size = size * 9;
-                } else {
-                    size = 9;
-                }
+            Menu parsed = parse(configuration);
+            menu = parsed;
+            slotTable = buildSlotTable(parsed.buttons());
+            template = null;
+        } catch (Exception e) {
+            Bukkit.getLogger().severe("Error parsing menu: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses a menu without touching the state of this form.
+     *
+     * <p>Unlike {@link #menuLoad(FileConfiguration)}, errors are thrown to the caller.
+     * Safe to call concurrently for different configurations.</p>
+     *
+     * @param configuration menu configuration
+     * @return parsed menu
+     * @throws IllegalArgumentException if the configuration contains invalid values
+     */
+    public @NotNull Menu parse(@NotNull FileConfiguration configuration) {
+        String menuId = configuration.getString("id"); //template "report_main"
+        String title = configuration.getString("title", "Empty title");
+
+        int update_interval = configuration.getBoolean("update") ? configuration.getInt("update_interval", -1) : -1;
+        int refresh_interval = configuration.getBoolean("refresh") ? configuration.getInt("refresh_interval", -1) : -1;
+        int size = configuration.getInt("size", 6);
+        if (size < 9) {
+            if (size <= 6 && size>0) {
+                size = size * 9;
+            } else {
+                size = 9;
             }
+        }
 
-            InventoryType inventoryType = InventoryType.valueOf(configuration.getString("inventory", "CHEST"));
-            List<String> openCommandsActions = configuration.getStringList("open_commands");
-            List<String> closeCommandsActions = configuration.getStringList("close_commands");
+        InventoryType inventoryType = InventoryType.valueOf(configuration.getString("inventory", "CHEST"));
+        List<String> openCommandsActions = configuration.getStringList("open_commands");
+        List<String> closeCommandsActions = configuration.getStringList("close_commands");
 
-            List<Button> buttons = getButtons(configuration);
+        List<Button> buttons = getButtons(configuration);
 
-            menu = new Menu(menuId, title, configuration, size, inventoryType, openCommandsActions, parseViewRequirements(configuration), update_interval, refresh_interval, closeCommandsActions, buttons);
-        } catch (Exception e) {
-            Bukkit.getLogger().severe("Error parsing menu: " + e.getMessage());
+        return new Menu(menuId, title, configuration, size, inventoryType, openCommandsActions, parseViewRequirements(configuration), update_interval, refresh_interval, closeCommandsActions, buttons);
+    }
+
+    /**
+     * Returns the compiled template of the loaded menu, compiling it on first use.
+     *
+     * <p>Buttons whose name or lore contain placeholders are rendered per viewer; all other
+     * buttons get a shared prepared item. Main thread only.</p>
+     *
+     * @return compiled template
+     */
+    public @NotNull MenuTemplate<Button> getTemplate() {
+        if (template == null) template = sharedTemplate(menu, slotTable);
+        return template;
+    }
+
+    /**
+     * Returns the compiled template of a menu, compiling it once per {@link Menu} instance.
+     *
+     * <p>All callers passing the same instance get the same template, so GUIs switched to a
+     * reloaded menu share its prepared items instead of compiling their own.</p>
+     *
+     * @param menu parsed menu
+     * @return compiled template
+     */
+    public static @NotNull MenuTemplate<Button> templateOf(@NotNull Menu menu) {
+        return sharedTemplate(menu, null);
+    }
+
+    private static MenuTemplate<Button> sharedTemplate(Menu menu, @Nullable SlotVariantTable<Button> table) {
+        return TEMPLATES.compute(String.valueOf(menu.id()), (id, current) -> {
+            if (current != null && current.menu() == menu) return current;
+            SlotVariantTable<Button> slots = table != null ? table : buildSlotTable(menu.buttons());
+            return new SharedTemplate(menu, MenuTemplate.compile(
+                    slots,
+                    button -> {
+                        ItemWrapper item = buildItem(button, null);
+                        item.update();
+                        return item.itemStack();
+                    },
+                    GuiForm::hasPlaceholders
+            ));
+        }).template();
+    }
+
+    private record SharedTemplate(Menu menu, MenuTemplate<Button> template) {
+    }
+
+    /**
+     * Builds the item of a button.
+     *
+     * @param button button
+     * @param viewer viewer to resolve placeholders for, or {@code null} to keep them as they are
+     * @return item wrapper, not yet updated
+     */
+    public static @NotNull ItemWrapper buildItem(@NotNull Button button, @Nullable Player viewer) {
+        ItemStack base = button.itemStack();
+
+        List<Component> lore = new ArrayList<>();
+        for (String line : button.lore()) {
+            lore.add(Component.text(viewer == null ? line : PlaceholderAPI.setPlaceholders(viewer, line)));
         }
+
+        String name = button.displayName();
+        ItemWrapper item = ItemWrapper.builder(base.getType())
+                .amount(base.getAmount())
+                .displayName(Component.text(viewer == null ? name : PlaceholderAPI.setPlaceholders(viewer, name)))
+                .lore(lore)
+                .build();
+
+        if (button.customModelData() > 0) {
+            item.customModelData(button.customModelData());
+        }
+        return item;
+    }
+
+    /**
+     * Checks whether the name or lore of a button contain placeholders.
+     */
+    private static boolean hasPlaceholders(Button button) {
+        if (button.displayName() != null && button.displayName().indexOf('%') >= 0) return true;
+        for (String line : button.lore()) {
+            if (line.indexOf('%') >= 0) return true;
+        }
+        return false;
+    }
+
+    private static SlotVariantTable<Button> buildSlotTable(List<Button> buttons) {
+        return SlotVariantTable.build(buttons, Button::slot, Button::priority,
+                button -> button.viewRequirements().stream().map(ViewRequirement::compiled).toList());
     }
 
     private Map<String, Object> parseCustomValues(ConfigurationSection section) {
@@ -29,4 +29,19 @@ public record Menu(
         List<String> close_commands,
         List<Button> buttons
 ) {
+
+    /**
+     * Returns the configuration this menu was parsed from.
+     *
+     * @return source configuration
+     * @throws IllegalStateException if this menu was read from a
+     *         {@link xyz.overdyn.dyngui.form.snapshot.MenuSnapshotStore snapshot}, which does not keep it
+     */
+    @Override
+    public FileConfiguration config() {
+        if (config == null) {
+            throw new IllegalStateException("Menu " + id + " was read from a snapshot and has no source configuration");
+        }
+        return config;
+    }
 }
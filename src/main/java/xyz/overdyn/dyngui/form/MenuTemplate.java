@@ -0,0 +1,194 @@
+package xyz.overdyn.dyngui.form;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.dupe.ItemMarker;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Compiled, immutable layout of a menu, shared by every GUI opened from it.
+ *
+ * <p>A template is compiled once per menu from its {@link SlotVariantTable}. Every candidate
+ * that renders the same for every viewer gets a prepared, marked {@link ItemStack}. Slots
+ * whose selected candidate does not depend on the viewer and which show a prepared stack are
+ * <em>static</em>: they are copied into the inventory as they are and never re-evaluated.
+ * Everything else forms the {@linkplain #dynamicTable() dynamic table}, the only part a GUI
+ * has to select and render per viewer.</p>
+ *
+ * <p>Opening a menu built from a template therefore costs one inventory copy of the static
+ * slots plus the work for the dynamic slots only.</p>
+ *
+ * <p>Prepared stacks are shared and must not be modified; {@link Inventory#setItem(int, ItemStack)}
+ * copies them.</p>
+ *
+ * @param <T> button type
+ */
+public final class MenuTemplate<T> {
+
+    /** Static slots, ascending. */
+    private final int[] staticSlots;
+
+    /** Buttons shown in {@link #staticSlots}. */
+    private final Object[] staticButtons;
+
+    /** Prepared stacks of {@link #staticSlots}. */
+    private final ItemStack[] staticStacks;
+
+    /** Prepared stacks of all candidates that render the same for every viewer. */
+    private final Map<T, ItemStack> prepared;
+
+    /** Slots that are selected or rendered per viewer. */
+    private final SlotVariantTable<T> dynamicTable;
+
+    private MenuTemplate(int[] staticSlots,
+                         Object[] staticButtons,
+                         ItemStack[] staticStacks,
+                         Map<T, ItemStack> prepared,
+                         SlotVariantTable<T> dynamicTable) {
+        this.staticSlots = staticSlots;
+        this.staticButtons = staticButtons;
+        this.staticStacks = staticStacks;
+        this.prepared = prepared;
+        this.dynamicTable = dynamicTable;
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * <p>Must be called on the main thread, since items are built through the Bukkit item factory.</p>
+     *
+     * @param table   slot candidates of the menu
+     * @param item    builds the viewer-independent item of a button
+     * @param dynamic tells whether a button renders differently per viewer, e.g. because of placeholders
+     * @param <T>     button type
+     * @return compiled template
+     */
+    public static <T> @NotNull MenuTemplate<T> compile(@NotNull SlotVariantTable<T> table,
+                                                       @NotNull Function<? super T, ItemStack> item,
+                                                       @NotNull Predicate<? super T> dynamic) {
+        Map<T, ItemStack> prepared = new IdentityHashMap<>();
+        for (int i = 0; i < table.size(); i++) {
+            for (T candidate : table.candidates(i)) {
+                if (!dynamic.test(candidate)) prepared.put(candidate, ItemMarker.mark(item.apply(candidate)));
+            }
+        }
+
+        int[] slots = new int[table.size()];
+        Object[] buttons = new Object[table.size()];
+        ItemStack[] stacks = new ItemStack[table.size()];
+        boolean[] fixed = new boolean[table.size()];
+        int count = 0;
+
+        for (int i = 0; i < table.size(); i++) {
+            if (!table.isConstant(i)) continue;
+
+            T selected = table.select(i, null);
+            // A constant slot without any qualifying candidate stays empty for everybody.
+            if (selected != null && !prepared.containsKey(selected)) continue;
+
+            fixed[i] = true;
+            if (selected == null) continue;
+
+            slots[count] = table.slot(i);
+            buttons[count] = selected;
+            stacks[count] = prepared.get(selected);
+            count++;
+        }
+
+        int[] tableSlots = slotsOf(table);
+        SlotVariantTable<T> dynamicTable = table.filter(slot -> !fixed[Arrays.binarySearch(tableSlots, slot)]);
+
+        return new MenuTemplate<>(
+                Arrays.copyOf(slots, count),
+                Arrays.copyOf(buttons, count),
+                Arrays.copyOf(stacks, count),
+                prepared,
+                dynamicTable
+        );
+    }
+
+    private static int[] slotsOf(SlotVariantTable<?> table) {
+        int[] slots = new int[table.size()];
+        for (int i = 0; i < slots.length; i++) slots[i] = table.slot(i);
+        return slots;
+    }
+
+    /**
+     * Returns the table of slots that have to be selected or rendered per viewer.
+     *
+     * @return dynamic slots
+     */
+    public @NotNull SlotVariantTable<T> dynamicTable() {
+        return dynamicTable;
+    }
+
+    /**
+     * Copies all static slots into an inventory.
+     *
+     * @param inventory target inventory
+     */
+    public void fill(@NotNull Inventory inventory) {
+        for (int i = 0; i < staticSlots.length; i++) {
+            inventory.setItem(staticSlots[i], staticStacks[i]);
+        }
+    }
+
+    /**
+     * Returns the number of static slots.
+     *
+     * @return static slot count
+     */
+    public int staticCount() {
+        return staticSlots.length;
+    }
+
+    /**
+     * Returns a static slot by index.
+     *
+     * @param index index in {@code [0; staticCount())}
+     * @return inventory slot
+     */
+    public int staticSlot(int index) {
+        return staticSlots[index];
+    }
+
+    /**
+     * Returns the button shown in a static slot by index.
+     *
+     * @param index index in {@code [0; staticCount())}
+     * @return button
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull T staticButton(int index) {
+        return (T) staticButtons[index];
+    }
+
+    /**
+     * Returns the button shown in a static slot.
+     *
+     * @param slot inventory slot
+     * @return button, or {@code null} if the slot is not static
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T staticButtonAt(int slot) {
+        int index = Arrays.binarySearch(staticSlots, slot);
+        return index < 0 ? null : (T) staticButtons[index];
+    }
+
+    /**
+     * Returns the prepared stack of a button.
+     *
+     * @param button candidate of this template
+     * @return shared marked stack, or {@code null} if the button renders per viewer
+     */
+    public @Nullable ItemStack prepared(@NotNull T button) {
+        return prepared.get(button);
+    }
+}
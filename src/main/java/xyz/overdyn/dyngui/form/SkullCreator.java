@@ -1,7 +1,5 @@
 package xyz.overdyn.dyngui.form;
 
-import com.mojang.authlib.GameProfile;
-import com.mojang.authlib.properties.Property;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.OfflinePlayer;
@@ -9,10 +7,10 @@ import org.bukkit.block.Block;
 import org.bukkit.block.Skull;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.SkullMeta;
+import xyz.overdyn.dyngui.form.v2.cache.ProfileResolver;
+import xyz.overdyn.dyngui.form.v2.cache.TextureCache;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Base64;
@@ -25,10 +23,6 @@ public class SkullCreator {
     }
 
     private static boolean warningPosted = false;
-    private static boolean mutateWithNew = false;
-
-    private static Method metaSetProfileMethod;
-    private static Field metaProfileField;
 
     /**
      * Creates a player skull, should work in both legacy and new Bukkit APIs.
@@ -47,6 +41,7 @@ public class SkullCreator {
 
     /**
      * Creates a player skull item with the skin based on a player's name.
+     * Completing the profile may block; GUIs should prefer {@link ProfileResolver}.
      *
      * @param name The Player's name.
      * @return The head of the Player.
@@ -56,6 +51,13 @@ public class SkullCreator {
         return itemWithName(createSkull(), name);
     }
 
+    /**
+     * Creates a player skull item with the skin of a player.
+     * Completing the profile may block; GUIs should prefer {@link ProfileResolver}.
+     *
+     * @param uuid The Player's UUID.
+     * @return The head of the Player.
+     */
     public static ItemStack itemFromUuid(UUID uuid) {
         OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayer(uuid);
         return itemWithName(createSkull(), offlinePlayer.getName());
@@ -74,12 +76,14 @@ public class SkullCreator {
 
     /**
      * Creates a player skull item with the skin based on a base64 string.
+     * The skull is copied from the shared {@link TextureCache}.
      *
      * @param base64 The Base64 string.
      * @return The head of the Player.
      */
     public static ItemStack itemFromBase64(String base64) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, ClassNotFoundException {
-        return itemWithBase64(createSkull(), base64);
+        notNull(base64, "base64");
+        return TextureCache.shared().skull(base64);
     }
 
     /**
@@ -120,6 +124,7 @@ public class SkullCreator {
 
     /**
      * Modifies a skull to use the skin based on the given base64 string.
+     * The profile is taken from the shared {@link TextureCache}.
      *
      * @param item   The ItemStack to put the base64 onto. Must be a player skull.
      * @param base64 The base64 string containing the texture.
@@ -132,10 +137,7 @@ public class SkullCreator {
         if (!(item.getItemMeta() instanceof SkullMeta meta)) {
             return null;
         }
-        if (mutateWithNew || !mutateItemMeta(meta, base64)) {
-            mutateNewItemMeta(meta, base64);
-            mutateWithNew = true;
-        }
+        meta.setPlayerProfile(TextureCache.shared().profile(base64));
         item.setItemMeta(meta);
 
         return item;
@@ -174,53 +176,6 @@ public class SkullCreator {
         return Base64.getEncoder().encodeToString(toEncode.getBytes());
     }
 
-    private static GameProfile makeProfile(String b64) {
-        // random uuid based on the b64 string
-        UUID id = new UUID(
-                b64.substring(b64.length() - 20).hashCode(),
-                b64.substring(b64.length() - 10).hashCode()
-        );
-        GameProfile profile = new GameProfile(id, "Player");
-        profile.getProperties().put("textures", new Property("textures", b64));
-        return profile;
-    }
-
-    private static boolean mutateItemMeta(SkullMeta meta, String b64) {
-        try {
-            if (metaSetProfileMethod == null) {
-                metaSetProfileMethod = meta.getClass().getDeclaredMethod("setProfile", GameProfile.class);
-                metaSetProfileMethod.setAccessible(true);
-            }
-            metaSetProfileMethod.invoke(meta, makeProfile(b64));
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
-            try {
-                if (metaProfileField == null) {
-                    metaProfileField = meta.getClass().getDeclaredField("profile");
-                    metaProfileField.setAccessible(true);
-                }
-                metaProfileField.set(meta, makeProfile(b64));
-            } catch (Exception e) {
-                return false;
-            }
-        }
-
-        return true;
-    }
-
-    private static void mutateNewItemMeta(SkullMeta meta, String b64) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, ClassNotFoundException {
-        final UUID uuid = UUID.randomUUID();
-        final Method method = Bukkit.getServer().getClass().getDeclaredMethod("createPlayerProfile", UUID.class, String.class);
-        method.setAccessible(true);
-        final Object playerProfile = method.invoke(Bukkit.getServer(), uuid, uuid.toString().substring(0, 16));
-        Method setPropertyMethod = playerProfile.getClass().getDeclaredMethod("setProperty", String.class, Property.class);
-        setPropertyMethod.setAccessible(true);
-        setPropertyMethod.invoke(playerProfile, "textures", new Property("textures", b64));
-
-        final Method setOwnerProfileMethod = meta.getClass().getMethod("setOwnerProfile", Class.forName("org.bukkit.profile.PlayerProfile"));
-        setOwnerProfileMethod.setAccessible(true);
-        setOwnerProfileMethod.invoke(meta, playerProfile);
-    }
-
     // suppress warning since PLAYER_HEAD doesn't exist in 1.12.2,
     // but we expect this and catch the error at runtime.
     private static void checkLegacy() {
@@ -0,0 +1,464 @@
+package xyz.overdyn.dyngui.form;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.form.requirements.CompiledRequirement;
+import xyz.overdyn.dyngui.form.requirements.expression.EvaluationContext;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Precompiled per-slot candidate table of a menu.
+ *
+ * <p>Buttons of a menu are grouped by slot once, when the menu is loaded. Each slot keeps
+ * its candidates in an array sorted by priority (highest first, declaration order for ties),
+ * together with their compiled view requirements and the placeholder tokens and permission
+ * nodes those requirements read.</p>
+ *
+ * <p>A table is immutable and shared by every GUI built from the menu. Per-viewer state
+ * lives in a {@link Selection}: on {@link Selection#refresh(Player, ChangeListener)} every
+ * input of the table is resolved once, and only slots whose inputs changed since the last
+ * refresh have their candidate re-selected. Listeners are notified only for slots whose
+ * selected candidate actually changed.</p>
+ *
+ * @param <T> button type
+ */
+public final class SlotVariantTable<T> {
+
+    private static final int[] EMPTY = new int[0];
+
+    /** Distinct slots, ascending. */
+    private final int[] slots;
+
+    /** Candidates per slot index, priority-sorted. */
+    private final Object[][] candidates;
+
+    /** Requirements per slot index and candidate. */
+    private final CompiledRequirement[][][] requirements;
+
+    /** Placeholder input index of each requirement placeholder, parallel to {@link #requirements}. */
+    private final int[][][][] requirementInputs;
+
+    /** Placeholder input indices read by each slot. */
+    private final int[][] slotPlaceholders;
+
+    /** Permission input indices read by each slot. */
+    private final int[][] slotPermissions;
+
+    /** All placeholder tokens read by the table. */
+    private final String[] placeholders;
+
+    /** All permission nodes read by the table. */
+    private final String[] permissions;
+
+    private SlotVariantTable(int[] slots,
+                             Object[][] candidates,
+                             CompiledRequirement[][][] requirements,
+                             int[][][][] requirementInputs,
+                             int[][] slotPlaceholders,
+                             int[][] slotPermissions,
+                             String[] placeholders,
+                             String[] permissions) {
+        this.slots = slots;
+        this.candidates = candidates;
+        this.requirements = requirements;
+        this.requirementInputs = requirementInputs;
+        this.slotPlaceholders = slotPlaceholders;
+        this.slotPermissions = slotPermissions;
+        this.placeholders = placeholders;
+        this.permissions = permissions;
+    }
+
+    /**
+     * Builds a table from a flat list of slot-bound buttons.
+     *
+     * @param buttons      buttons, one entry per occupied slot
+     * @param slot         slot extractor
+     * @param priority     priority extractor, higher wins
+     * @param requirements view requirements extractor
+     * @param <T>          button type
+     * @return built table
+     */
+    public static <T> @NotNull SlotVariantTable<T> build(@NotNull Collection<? extends T> buttons,
+                                                         @NotNull ToIntFunction<? super T> slot,
+                                                         @NotNull ToIntFunction<? super T> priority,
+                                                         @NotNull Function<? super T, ? extends Collection<CompiledRequirement>> requirements) {
+        SortedMap<Integer, List<T>> bySlot = new TreeMap<>();
+        for (T button : buttons) {
+            bySlot.computeIfAbsent(slot.applyAsInt(button), k -> new ArrayList<>()).add(button);
+        }
+
+        Map<String, Integer> placeholderIndex = new LinkedHashMap<>();
+        Map<String, Integer> permissionIndex = new LinkedHashMap<>();
+
+        int count = bySlot.size();
+        int[] slots = new int[count];
+        Object[][] candidates = new Object[count][];
+        CompiledRequirement[][][] compiled = new CompiledRequirement[count][][];
+        int[][][][] inputs = new int[count][][][];
+        int[][] slotPlaceholders = new int[count][];
+        int[][] slotPermissions = new int[count][];
+
+        int i = 0;
+        for (Map.Entry<Integer, List<T>> entry : bySlot.entrySet()) {
+            List<T> group = entry.getValue();
+            // List.sort is stable, so equal priorities keep declaration order.
+            group.sort(Comparator.comparingInt(priority).reversed());
+
+            Set<Integer> readPlaceholders = new TreeSet<>();
+            Set<Integer> readPermissions = new TreeSet<>();
+
+            slots[i] = entry.getKey();
+            candidates[i] = group.toArray();
+            compiled[i] = new CompiledRequirement[group.size()][];
+            inputs[i] = new int[group.size()][][];
+
+            for (int c = 0; c < group.size(); c++) {
+                CompiledRequirement[] reqs = requirements.apply(group.get(c)).toArray(new CompiledRequirement[0]);
+                compiled[i][c] = reqs;
+                inputs[i][c] = new int[reqs.length][];
+
+                for (int q = 0; q < reqs.length; q++) {
+                    CompiledRequirement req = reqs[q];
+                    String[] tokens = req.placeholders();
+                    int[] tokenInputs = new int[tokens.length];
+                    for (int t = 0; t < tokens.length; t++) {
+                        tokenInputs[t] = placeholderIndex.computeIfAbsent(tokens[t], k -> placeholderIndex.size());
+                        readPlaceholders.add(tokenInputs[t]);
+                    }
+                    inputs[i][c][q] = tokenInputs;
+                    for (String node : req.permissions()) {
+                        readPermissions.add(permissionIndex.computeIfAbsent(node, k -> permissionIndex.size()));
+                    }
+                }
+            }
+
+            slotPlaceholders[i] = toArray(readPlaceholders);
+            slotPermissions[i] = toArray(readPermissions);
+            i++;
+        }
+
+        return new SlotVariantTable<>(
+                slots, candidates, compiled, inputs, slotPlaceholders, slotPermissions,
+                placeholderIndex.keySet().toArray(new String[0]),
+                permissionIndex.keySet().toArray(new String[0])
+        );
+    }
+
+    private static int[] toArray(Set<Integer> set) {
+        if (set.isEmpty()) return EMPTY;
+        int[] array = new int[set.size()];
+        int i = 0;
+        for (int value : set) array[i++] = value;
+        return array;
+    }
+
+    /**
+     * Returns the number of distinct slots in this table.
+     *
+     * @return slot count
+     */
+    public int size() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the slot at a table index.
+     *
+     * @param index table index
+     * @return inventory slot
+     */
+    public int slot(int index) {
+        return slots[index];
+    }
+
+    /**
+     * Checks whether a slot has any candidate in this table.
+     *
+     * @param slot inventory slot
+     * @return {@code true} if the slot is part of this table
+     */
+    public boolean contains(int slot) {
+        return Arrays.binarySearch(slots, slot) >= 0;
+    }
+
+    /**
+     * Returns the priority-sorted candidates of a table index.
+     *
+     * @param index table index
+     * @return candidates, highest priority first
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull List<T> candidates(int index) {
+        return (List<T>) List.of(candidates[index]);
+    }
+
+    /**
+     * Checks whether the candidate selected at a table index is the same for every viewer,
+     * i.e. all requirements of all its candidates are constant.
+     *
+     * @param index table index
+     * @return {@code true} if the selection does not depend on the viewer
+     */
+    public boolean isConstant(int index) {
+        for (CompiledRequirement[] candidateRequirements : requirements[index]) {
+            for (CompiledRequirement requirement : candidateRequirements) {
+                if (!requirement.isConstant()) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Selects the candidate of a table index for a viewer, without any per-viewer state.
+     *
+     * @param index  table index
+     * @param player viewer, may be {@code null} for {@linkplain #isConstant(int) constant} slots
+     * @return first candidate whose requirements are met, or {@code null}
+     */
+    public @Nullable T select(int index, @Nullable Player player) {
+        return candidate(index, selectIndex(index, player, null));
+    }
+
+    /**
+     * Returns a table containing only the slots accepted by a filter.
+     *
+     * <p>Candidates and requirements are shared with this table.</p>
+     *
+     * @param slotFilter accepts inventory slots to keep
+     * @return filtered table, or this table if every slot is kept
+     */
+    public @NotNull SlotVariantTable<T> filter(@NotNull IntPredicate slotFilter) {
+        int[] kept = new int[slots.length];
+        int count = 0;
+        for (int i = 0; i < slots.length; i++) {
+            if (slotFilter.test(slots[i])) kept[count++] = i;
+        }
+        if (count == slots.length) return this;
+
+        int[] newSlots = new int[count];
+        Object[][] newCandidates = new Object[count][];
+        CompiledRequirement[][][] newRequirements = new CompiledRequirement[count][][];
+        int[][][][] newRequirementInputs = new int[count][][][];
+        int[][] newSlotPlaceholders = new int[count][];
+        int[][] newSlotPermissions = new int[count][];
+
+        for (int i = 0; i < count; i++) {
+            int index = kept[i];
+            newSlots[i] = slots[index];
+            newCandidates[i] = candidates[index];
+            newRequirements[i] = requirements[index];
+            newRequirementInputs[i] = requirementInputs[index];
+            newSlotPlaceholders[i] = slotPlaceholders[index];
+            newSlotPermissions[i] = slotPermissions[index];
+        }
+
+        // Input arrays are kept as they are, so input indices of the kept slots stay valid.
+        return new SlotVariantTable<>(
+                newSlots, newCandidates, newRequirements, newRequirementInputs, newSlotPlaceholders, newSlotPermissions,
+                placeholders, permissions
+        );
+    }
+
+    /**
+     * Selects the candidate of a table index.
+     *
+     * @param values placeholder values by input index, already resolved by a {@link Selection},
+     *               or {@code null} to let every requirement resolve its own
+     */
+    private int selectIndex(int index, @Nullable Player player, @Nullable String[] values) {
+        CompiledRequirement[][] slotRequirements = requirements[index];
+
+        outer:
+        for (int c = 0; c < slotRequirements.length; c++) {
+            for (int q = 0; q < slotRequirements[c].length; q++) {
+                CompiledRequirement requirement = slotRequirements[c][q];
+                // Inputs are known to have changed, so the memoized result cannot be used.
+                boolean met = values == null
+                        ? requirement.test(player)
+                        : requirement.test(player, values, requirementInputs[index][c][q]);
+                if (!met) continue outer;
+            }
+            return c;
+        }
+        return Selection.NONE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable T candidate(int index, int candidate) {
+        return candidate < 0 ? null : (T) candidates[index][candidate];
+    }
+
+    /**
+     * Creates a new, not yet refreshed per-viewer selection.
+     *
+     * @return new selection
+     */
+    public @NotNull Selection newSelection() {
+        return new Selection();
+    }
+
+    /**
+     * Creates a selection that carries over the state of a selection over a previous
+     * version of this menu.
+     *
+     * <p>Slots that exist in both tables and are not listed in {@code changedSlots} keep their
+     * selected candidate, so the next refresh only notifies about slots whose selection really
+     * differs. Every listed slot is reported by the next refresh, with a {@code null} previous
+     * candidate. Slots that no longer exist in this table are not reported and must be cleared
+     * by the caller.</p>
+     *
+     * @param previous     selection over the previous table
+     * @param changedSlots slots whose candidates changed between the tables
+     * @return new selection, not yet refreshed
+     */
+    public @NotNull Selection newSelection(@NotNull SlotVariantTable<T>.Selection previous,
+                                           @NotNull Set<Integer> changedSlots) {
+        Selection selection = new Selection();
+        SlotVariantTable<T> previousTable = previous.table();
+
+        for (int i = 0; i < slots.length; i++) {
+            if (changedSlots.contains(slots[i])) {
+                selection.selected[i] = Selection.STALE;
+                continue;
+            }
+            int index = Arrays.binarySearch(previousTable.slots, slots[i]);
+            selection.selected[i] = index < 0 ? Selection.STALE : previous.selected[index];
+        }
+        return selection;
+    }
+
+    /**
+     * Receives slots whose selected candidate changed.
+     *
+     * @param <T> button type
+     */
+    @FunctionalInterface
+    public interface ChangeListener<T> {
+
+        /**
+         * Called for each slot whose selected candidate changed.
+         *
+         * @param slot     inventory slot
+         * @param previous previously selected candidate, or {@code null}
+         * @param current  newly selected candidate, or {@code null} if none qualifies
+         */
+        void onChange(int slot, @Nullable T previous, @Nullable T current);
+    }
+
+    /**
+     * Per-viewer selection state over a {@link SlotVariantTable}.
+     *
+     * <p>Not thread-safe; intended to be refreshed from the main thread by the GUI owning it.</p>
+     */
+    public final class Selection {
+
+        private static final int NONE = -1;
+
+        /** Selection carried over from another table that must be reported on the next refresh. */
+        private static final int STALE = -2;
+
+        private final int[] selected = new int[slots.length];
+        private final String[] inputs = new String[placeholders.length];
+        private final boolean[] granted = new boolean[permissions.length];
+        private final boolean[] changedInputs = new boolean[placeholders.length];
+        private final boolean[] changedGrants = new boolean[permissions.length];
+        private final EvaluationContext context = new EvaluationContext(placeholders);
+
+        private boolean initialized;
+
+        private Selection() {
+            Arrays.fill(selected, NONE);
+        }
+
+        /**
+         * Re-selects candidates for slots whose requirement inputs changed.
+         *
+         * <p>The first call evaluates every slot. Later calls resolve each placeholder and
+         * permission of the table once, and re-evaluate only the slots reading a changed one.</p>
+         *
+         * @param player   viewer
+         * @param listener receives slots whose selected candidate changed
+         * @return number of slots whose selection changed
+         */
+        public int refresh(@Nullable Player player, @NotNull ChangeListener<? super T> listener) {
+            boolean full = !initialized;
+            initialized = true;
+
+            context.reset(player);
+            try {
+                for (int i = 0; i < placeholders.length; i++) {
+                    String value = context.value(i);
+                    changedInputs[i] = full || !value.equals(inputs[i]);
+                    inputs[i] = value;
+                }
+            } finally {
+                context.release();
+            }
+
+            for (int i = 0; i < permissions.length; i++) {
+                boolean value = player != null && player.hasPermission(permissions[i]);
+                changedGrants[i] = full || value != granted[i];
+                granted[i] = value;
+            }
+
+            int changed = 0;
+            for (int i = 0; i < slots.length; i++) {
+                if (!full && !isDirty(i)) continue;
+
+                // Evaluated from the inputs recorded above, so no placeholder is resolved twice.
+                int next = selectIndex(i, player, inputs);
+                int previous = selected[i];
+                if (next == previous) continue;
+
+                selected[i] = next;
+                changed++;
+                listener.onChange(slots[i], candidate(i, previous), candidate(i, next));
+            }
+
+            return changed;
+        }
+
+        /**
+         * Forgets the last resolved inputs, so the next refresh re-evaluates every slot.
+         *
+         * <p>Current selections are kept, so listeners are still notified only on change.</p>
+         */
+        public void invalidate() {
+            initialized = false;
+        }
+
+        /**
+         * Returns the currently selected candidate of a slot.
+         *
+         * @param slot inventory slot
+         * @return selected candidate, or {@code null}
+         */
+        public @Nullable T selected(int slot) {
+            int index = Arrays.binarySearch(slots, slot);
+            return index < 0 ? null : candidate(index, selected[index]);
+        }
+
+        private boolean isDirty(int index) {
+            for (int input : slotPlaceholders[index]) {
+                if (changedInputs[input]) return true;
+            }
+            for (int permission : slotPermissions[index]) {
+                if (changedGrants[permission]) return true;
+            }
+            return false;
+        }
+
+        private @Nullable T candidate(int index, int candidate) {
+            return SlotVariantTable.this.candidate(index, candidate);
+        }
+
+        private SlotVariantTable<T> table() {
+            return SlotVariantTable.this;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package xyz.overdyn.dyngui.form.loader;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Result of loading a menu directory.
+ *
+ * @param menus        successfully loaded menus, keyed by path relative to the directory
+ * @param errors       failures, keyed by path relative to the directory
+ * @param files        number of discovered menu files
+ * @param elapsedNanos wall-clock load time
+ * @param <T>          menu model type
+ */
+public record LoadReport<T>(
+        @NotNull Map<String, T> menus,
+        @NotNull Map<String, Throwable> errors,
+        int files,
+        long elapsedNanos
+) {
+
+    /**
+     * Checks whether every discovered file was loaded.
+     *
+     * @return {@code true} if there were no errors
+     */
+    public boolean successful() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * Returns the load throughput.
+     *
+     * @return processed files per second
+     */
+    public double filesPerSecond() {
+        return elapsedNanos <= 0 ? files : files * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Logs a summary line followed by one warning per failed file.
+     *
+     * @param logger target logger
+     */
+    public void log(@NotNull Logger logger) {
+        logger.info(String.format("[DynGUI] Loaded %d/%d menu files in %d ms (%.1f files/s)",
+                menus.size(), files, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), filesPerSecond()));
+
+        errors.forEach((file, error) -> logger.log(Level.WARNING,
+                "[DynGUI] Failed to load menu " + file + ": " + error.getMessage(),
+                error instanceof IllegalArgumentException ? null : error));
+    }
+}
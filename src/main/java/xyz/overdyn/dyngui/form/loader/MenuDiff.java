@@ -0,0 +1,122 @@
+package xyz.overdyn.dyngui.form.loader;
+
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.form.Button;
+import xyz.overdyn.dyngui.form.Menu;
+import xyz.overdyn.dyngui.form.snapshot.Fingerprints;
+import xyz.overdyn.dyngui.form.v2.InventoryUI;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Difference between two versions of the same menu.
+ *
+ * <p>Buttons are compared per slot by content (see {@link Fingerprints}), in priority order,
+ * so a slot is reported as changed only if any of its candidates was added, removed,
+ * reordered or modified.</p>
+ *
+ * @param structureChanged whether the inventory size or type changed, which requires a new inventory
+ * @param titleChanged     whether the title changed
+ * @param changedSlots     slots whose candidates changed
+ */
+public record MenuDiff(
+        boolean structureChanged,
+        boolean titleChanged,
+        @NotNull Set<Integer> changedSlots
+) {
+
+    /**
+     * Checks whether open GUIs need patching at all.
+     *
+     * @return {@code true} if nothing visible changed
+     */
+    public boolean isEmpty() {
+        return !structureChanged && !titleChanged && changedSlots.isEmpty();
+    }
+
+    /**
+     * Compares two versions of a {@link Menu}.
+     *
+     * @param previous old version
+     * @param updated  new version
+     * @return difference
+     */
+    public static @NotNull MenuDiff of(@NotNull Menu previous, @NotNull Menu updated) {
+        return new MenuDiff(
+                previous.size() != updated.size() || previous.inventoryType() != updated.inventoryType(),
+                !Objects.equals(previous.title(), updated.title()),
+                changedSlots(previous.buttons(), updated.buttons(), Button::slot, Button::priority, Fingerprints::of)
+        );
+    }
+
+    /**
+     * Compares two versions of an {@link InventoryUI}.
+     *
+     * @param previous old version
+     * @param updated  new version
+     * @return difference
+     */
+    public static @NotNull MenuDiff of(@NotNull InventoryUI previous, @NotNull InventoryUI updated) {
+        return new MenuDiff(
+                previous.metaInt(InventoryUI.MenuProperty.SIZE) != updated.metaInt(InventoryUI.MenuProperty.SIZE)
+                        || previous.meta(InventoryUI.MenuProperty.TYPE) != updated.meta(InventoryUI.MenuProperty.TYPE),
+                !Objects.equals(previous.meta(InventoryUI.MenuProperty.TITLE), updated.meta(InventoryUI.MenuProperty.TITLE)),
+                changedSlots(
+                        previous.meta(InventoryUI.MenuProperty.BUTTONS).values(),
+                        updated.meta(InventoryUI.MenuProperty.BUTTONS).values(),
+                        b -> b.metaInt(InventoryUI.Button.ButtonProperty.SLOT),
+                        b -> b.metaInt(InventoryUI.Button.ButtonProperty.PRIORITY),
+                        Fingerprints::of
+                )
+        );
+    }
+
+    private static <B> Set<Integer> changedSlots(Collection<B> previous,
+                                                 Collection<B> updated,
+                                                 ToIntFunction<B> slot,
+                                                 ToIntFunction<B> priority,
+                                                 Function<B, byte[]> fingerprint) {
+        Map<Integer, List<byte[]>> before = group(previous, slot, priority, fingerprint);
+        Map<Integer, List<byte[]>> after = group(updated, slot, priority, fingerprint);
+
+        Set<Integer> changed = new TreeSet<>();
+        Set<Integer> slots = new HashSet<>(before.keySet());
+        slots.addAll(after.keySet());
+
+        for (int s : slots) {
+            if (!sameCandidates(before.get(s), after.get(s))) changed.add(s);
+        }
+        return Collections.unmodifiableSet(changed);
+    }
+
+    private static <B> Map<Integer, List<byte[]>> group(Collection<B> buttons,
+                                                        ToIntFunction<B> slot,
+                                                        ToIntFunction<B> priority,
+                                                        Function<B, byte[]> fingerprint) {
+        Map<Integer, List<B>> bySlot = new HashMap<>();
+        for (B button : buttons) {
+            bySlot.computeIfAbsent(slot.applyAsInt(button), k -> new ArrayList<>()).add(button);
+        }
+
+        Map<Integer, List<byte[]>> fingerprints = new HashMap<>();
+        bySlot.forEach((s, group) -> {
+            // Same ordering as SlotVariantTable, so reordered priorities count as a change.
+            group.sort(Comparator.comparingInt(priority).reversed());
+            fingerprints.put(s, group.stream().map(fingerprint).toList());
+        });
+        return fingerprints;
+    }
+
+    private static boolean sameCandidates(List<byte[]> before, List<byte[]> after) {
+        if (before == null || after == null || before.size() != after.size()) return false;
+
+        for (int i = 0; i < before.size(); i++) {
+            byte[] a = before.get(i);
+            // Buttons that cannot be fingerprinted are always treated as changed.
+            if (a == null || !Arrays.equals(a, after.get(i))) return false;
+        }
+        return true;
+    }
+}
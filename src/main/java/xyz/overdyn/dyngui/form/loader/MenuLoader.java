@@ -0,0 +1,191 @@
+package xyz.overdyn.dyngui.form.loader;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.form.GuiForm;
+import xyz.overdyn.dyngui.form.Menu;
+import xyz.overdyn.dyngui.form.v2.InventoryUI;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Loads a directory of YAML menus in parallel.
+ *
+ * <p>Files are discovered up front, then read, parsed and compiled (buttons, requirements,
+ * slot tables) concurrently on a dedicated {@link ForkJoinPool}. The call blocks until every
+ * file is processed and returns a {@link LoadReport} with all menus and the errors of each
+ * failed file; nothing is published until then, see {@link MenuRegistry#publish(LoadReport)}.</p>
+ *
+ * <p>Parsing runs off the main thread. Menu files whose materials contain placeholders have
+ * them resolved there without a player, as before.</p>
+ *
+ * @param <T> menu model type
+ */
+public final class MenuLoader<T> {
+
+    private final MenuParser<T> parser;
+    private final int parallelism;
+
+    /**
+     * Creates a loader using one worker per available processor.
+     *
+     * @param parser menu parser
+     */
+    public MenuLoader(@NotNull MenuParser<T> parser) {
+        this(parser, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a loader.
+     *
+     * @param parser      menu parser
+     * @param parallelism number of worker threads
+     */
+    public MenuLoader(@NotNull MenuParser<T> parser, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.parser = parser;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates a loader for {@link Menu}s parsed by {@link GuiForm}.
+     *
+     * @return menu loader
+     */
+    public static @NotNull MenuLoader<Menu> menus() {
+        return new MenuLoader<>(config -> new GuiForm().parse(config));
+    }
+
+    /**
+     * Creates a loader for {@link InventoryUI}s parsed by {@link xyz.overdyn.dyngui.form.v2.GuiForm}.
+     *
+     * @return menu loader
+     */
+    public static @NotNull MenuLoader<InventoryUI> inventories() {
+        return new MenuLoader<>(config -> new xyz.overdyn.dyngui.form.v2.GuiForm().parse(config));
+    }
+
+    /**
+     * Loads every {@code .yml} / {@code .yaml} file below a directory.
+     *
+     * @param directory menu directory
+     * @return load report
+     * @throws IOException if the directory cannot be listed
+     */
+    public @NotNull LoadReport<T> load(@NotNull Path directory) throws IOException {
+        return load(directory, (name, source) -> parse(source));
+    }
+
+    /**
+     * Loads every menu file below a directory through a custom per-file step.
+     *
+     * @param directory menu directory
+     * @param handler   per-file step, invoked concurrently
+     * @return load report
+     * @throws IOException if the directory cannot be listed
+     */
+    public @NotNull LoadReport<T> load(@NotNull Path directory, @NotNull SourceHandler<T> handler) throws IOException {
+        long start = System.nanoTime();
+        List<Path> files = discover(directory);
+
+        List<Callable<T>> tasks = new ArrayList<>(files.size());
+        List<String> names = new ArrayList<>(files.size());
+        for (Path file : files) {
+            String name = directory.relativize(file).toString().replace('\\', '/');
+            names.add(name);
+            tasks.add(() -> handler.load(name, Files.readAllBytes(file)));
+        }
+
+        Map<String, T> menus = new LinkedHashMap<>();
+        Map<String, Throwable> errors = new LinkedHashMap<>();
+
+        ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, Math.max(1, files.size())));
+        try {
+            List<Future<T>> results = pool.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    T menu = results.get(i).get();
+                    if (menu != null) menus.put(names.get(i), menu);
+                } catch (ExecutionException e) {
+                    errors.put(names.get(i), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Menu loading was interrupted", e);
+        } finally {
+            pool.shutdown();
+        }
+
+        return new LoadReport<>(menus, errors, files.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * Parses the contents of a single menu file.
+     *
+     * @param source raw file contents
+     * @return parsed menu
+     * @throws Exception if the file is not valid YAML or not a valid menu
+     */
+    public @NotNull T parse(byte @NotNull [] source) throws Exception {
+        YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(new String(source, StandardCharsets.UTF_8));
+        return parser.parse(config);
+    }
+
+    /**
+     * Lists menu files below a directory in a stable order.
+     *
+     * @param directory menu directory
+     * @return menu files, empty if the directory does not exist
+     * @throws IOException if the directory cannot be listed
+     */
+    public static @NotNull List<Path> discover(@NotNull Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) return List.of();
+
+        try (Stream<Path> stream = Files.walk(directory)) {
+            return stream
+                    .filter(Files::isRegularFile)
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.endsWith(".yml") || name.endsWith(".yaml");
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Per-file load step.
+     *
+     * @param <T> menu model type
+     */
+    @FunctionalInterface
+    public interface SourceHandler<T> {
+
+        /**
+         * Loads one menu file.
+         *
+         * @param name   path relative to the menu directory
+         * @param source raw file contents
+         * @return loaded menu, or {@code null} to skip the file silently
+         * @throws Exception if the file cannot be loaded
+         */
+        @Nullable T load(@NotNull String name, byte @NotNull [] source) throws Exception;
+    }
+}
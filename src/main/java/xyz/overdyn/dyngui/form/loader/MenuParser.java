@@ -0,0 +1,25 @@
+package xyz.overdyn.dyngui.form.loader;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Turns a loaded menu configuration into a menu model.
+ *
+ * <p>Implementations are invoked concurrently from loader worker threads and must not
+ * share mutable state between calls.</p>
+ *
+ * @param <T> menu model type
+ */
+@FunctionalInterface
+public interface MenuParser<T> {
+
+    /**
+     * Parses a menu configuration.
+     *
+     * @param configuration loaded menu file
+     * @return parsed menu
+     * @throws Exception if the configuration is invalid
+     */
+    @NotNull T parse(@NotNull YamlConfiguration configuration) throws Exception;
+}
@@ -0,0 +1,146 @@
+package xyz.overdyn.dyngui.form.loader;
+
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.form.Menu;
+import xyz.overdyn.dyngui.form.v2.InventoryUI;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Registry of loaded menus, keyed by menu id.
+ *
+ * <p>The registry is replaced as a whole by {@link #publish(LoadReport)}: readers on any
+ * thread see either the complete previous set of menus or the complete new one, never a
+ * partially loaded directory.</p>
+ *
+ * @param <T> menu model type
+ */
+public final class MenuRegistry<T> {
+
+    private final Function<? super T, String> idFunction;
+
+    private volatile State<T> state = new State<>(Map.of(), Map.of());
+
+    /**
+     * Creates an empty registry.
+     *
+     * @param idFunction extracts the menu id; menus without an id are keyed by file name
+     */
+    public MenuRegistry(@NotNull Function<? super T, String> idFunction) {
+        this.idFunction = idFunction;
+    }
+
+    /**
+     * Creates a registry of {@link Menu}s.
+     *
+     * @return empty registry
+     */
+    public static @NotNull MenuRegistry<Menu> menus() {
+        return new MenuRegistry<>(Menu::id);
+    }
+
+    /**
+     * Creates a registry of {@link InventoryUI}s.
+     *
+     * @return empty registry
+     */
+    public static @NotNull MenuRegistry<InventoryUI> inventories() {
+        return new MenuRegistry<>(menu -> menu.meta(InventoryUI.MenuProperty.MENU_ID));
+    }
+
+    /**
+     * Atomically replaces all menus with the menus of a load report.
+     *
+     * @param report load report
+     */
+    public synchronized void publish(@NotNull LoadReport<T> report) {
+        state = index(new LinkedHashMap<>(report.menus()));
+    }
+
+    /**
+     * Atomically replaces, adds or removes the menu of a single file.
+     *
+     * @param file path relative to the menu directory
+     * @param menu new menu, or {@code null} if the file was removed
+     * @return previous menu of that file, or {@code null}
+     */
+    public synchronized @Nullable T update(@NotNull String file, @Nullable T menu) {
+        Map<String, T> byFile = new LinkedHashMap<>(state.byFile());
+        T previous = menu == null ? byFile.remove(file) : byFile.put(file, menu);
+        state = index(byFile);
+        return previous;
+    }
+
+    /**
+     * Returns a menu by id.
+     *
+     * @param id menu id
+     * @return menu, or {@code null} if not loaded
+     */
+    public @Nullable T get(@NotNull String id) {
+        return state.byId().get(id);
+    }
+
+    /**
+     * Returns the menu loaded from a file.
+     *
+     * @param file path relative to the menu directory
+     * @return menu, or {@code null} if not loaded
+     */
+    public @Nullable T byFile(@NotNull String file) {
+        return state.byFile().get(file);
+    }
+
+    /**
+     * Returns all menus of the last publish.
+     *
+     * @return immutable view of menus by id
+     */
+    public @NotNull Map<String, T> all() {
+        return state.byId();
+    }
+
+    /**
+     * Returns the number of published menus.
+     *
+     * @return menu count
+     */
+    public int size() {
+        return state.byId().size();
+    }
+
+    /**
+     * Indexes menus by id. Duplicate ids are reported and the first file (in path order) wins.
+     */
+    private State<T> index(Map<String, T> byFile) {
+        Map<String, T> byId = new LinkedHashMap<>();
+
+        byFile.forEach((file, menu) -> {
+            String id = idFunction.apply(menu);
+            if (id == null || id.isBlank()) id = fileId(file);
+
+            if (byId.putIfAbsent(id, menu) != null) {
+                Bukkit.getLogger().warning("[DynGUI] Duplicate menu id '" + id + "' in " + file + ", ignoring");
+            }
+        });
+
+        return new State<>(Collections.unmodifiableMap(byFile), Collections.unmodifiableMap(byId));
+    }
+
+    private static String fileId(String file) {
+        int slash = file.lastIndexOf('/');
+        int dot = file.lastIndexOf('.');
+        return file.substring(slash + 1, dot > slash ? dot : file.length());
+    }
+
+    /**
+     * Immutable registry contents, swapped as a whole.
+     */
+    private record State<T>(Map<String, T> byFile, Map<String, T> byId) {
+    }
+}
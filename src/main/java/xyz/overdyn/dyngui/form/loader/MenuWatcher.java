@@ -0,0 +1,252 @@
+package xyz.overdyn.dyngui.form.loader;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.DynGui;
+import xyz.overdyn.dyngui.abstracts.AbstractGui;
+import xyz.overdyn.dyngui.form.Menu;
+import xyz.overdyn.dyngui.form.v2.InventoryUI;
+import xyz.overdyn.dyngui.manager.SessionManager;
+import xyz.overdyn.dyngui.scheduler.RegionExecutor;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches a menu directory and hot-reloads changed menu files.
+ *
+ * <p>File system events are collected on a background thread and debounced, so an editor
+ * saving a file in several steps triggers a single reload. Only the changed files are
+ * re-parsed, off the main thread. On the main thread the new menus are then published to
+ * the {@link MenuRegistry}, diffed against the previous version ({@link MenuDiff}) and every
+ * open {@link ReloadableGui} rendering the previous version is patched in place.</p>
+ *
+ * <p>A file that fails to parse keeps its previous menu. A deleted file is removed from the
+ * registry; GUIs that are already open keep rendering their menu.</p>
+ *
+ * @param <T> menu model type
+ */
+public final class MenuWatcher<T> {
+
+    private static final long DEFAULT_DEBOUNCE_MILLIS = 250;
+
+    private final Path directory;
+    private final MenuLoader<T> loader;
+    private final MenuRegistry<T> registry;
+    private final BiFunction<T, T, MenuDiff> differ;
+    private final long debounceMillis;
+
+    private @Nullable WatchService watchService;
+    private @Nullable Thread thread;
+
+    /**
+     * Creates a watcher.
+     *
+     * @param directory      menu directory
+     * @param loader         parser of changed files
+     * @param registry       registry receiving reloaded menus
+     * @param differ         computes the difference between two versions of a menu
+     * @param debounceMillis quiet period after the last event before reloading
+     */
+    public MenuWatcher(@NotNull Path directory,
+                       @NotNull MenuLoader<T> loader,
+                       @NotNull MenuRegistry<T> registry,
+                       @NotNull BiFunction<T, T, MenuDiff> differ,
+                       long debounceMillis) {
+        this.directory = directory;
+        this.loader = loader;
+        this.registry = registry;
+        this.differ = differ;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Creates a watcher for {@link Menu}s.
+     *
+     * @param directory menu directory
+     * @param registry  registry receiving reloaded menus
+     * @return watcher, not yet started
+     */
+    public static @NotNull MenuWatcher<Menu> menus(@NotNull Path directory, @NotNull MenuRegistry<Menu> registry) {
+        return new MenuWatcher<>(directory, MenuLoader.menus(), registry, MenuDiff::of, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    /**
+     * Creates a watcher for {@link InventoryUI}s.
+     *
+     * @param directory menu directory
+     * @param registry  registry receiving reloaded menus
+     * @return watcher, not yet started
+     */
+    public static @NotNull MenuWatcher<InventoryUI> inventories(@NotNull Path directory,
+                                                                @NotNull MenuRegistry<InventoryUI> registry) {
+        return new MenuWatcher<>(directory, MenuLoader.inventories(), registry, MenuDiff::of, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    /**
+     * Starts watching. Does nothing if already started.
+     *
+     * @throws IOException if the directory cannot be watched
+     */
+    public synchronized void start() throws IOException {
+        if (thread != null) return;
+
+        WatchService service = directory.getFileSystem().newWatchService();
+        registerTree(service, directory);
+
+        watchService = service;
+        thread = new Thread(() -> run(service), "DynGui-MenuWatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops watching. Pending changes are discarded.
+     */
+    public synchronized void stop() {
+        if (thread == null) return;
+
+        thread.interrupt();
+        try {
+            if (watchService != null) watchService.close();
+        } catch (IOException ignored) {
+        }
+        thread = null;
+        watchService = null;
+    }
+
+    private void run(WatchService service) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<Path> changed = new LinkedHashSet<>();
+                collect(service, service.take(), changed);
+
+                // Debounce: keep collecting until the directory stays quiet.
+                WatchKey key;
+                while ((key = service.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    collect(service, key, changed);
+                }
+
+                if (!changed.isEmpty()) reload(changed);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // stopped
+        }
+    }
+
+    private void collect(WatchService service, WatchKey key, Set<Path> changed) {
+        Path dir = (Path) key.watchable();
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                Bukkit.getLogger().warning("[DynGUI] Menu watcher overflowed, some changes may be missed");
+                continue;
+            }
+
+            Path path = dir.resolve((Path) event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+                try {
+                    registerTree(service, path);
+                } catch (IOException e) {
+                    Bukkit.getLogger().warning("[DynGUI] Cannot watch menu directory " + path + ": " + e.getMessage());
+                }
+                continue;
+            }
+
+            String name = path.getFileName().toString();
+            if (name.endsWith(".yml") || name.endsWith(".yaml")) changed.add(path);
+        }
+
+        key.reset();
+    }
+
+    /**
+     * Re-parses changed files on the watcher thread and applies them on the main thread.
+     */
+    private void reload(Set<Path> changed) {
+        Map<String, T> updates = new LinkedHashMap<>();
+
+        for (Path path : changed) {
+            String name = directory.relativize(path).toString().replace('\\', '/');
+
+            if (!Files.exists(path)) {
+                updates.put(name, null);
+                continue;
+            }
+
+            try {
+                updates.put(name, loader.parse(Files.readAllBytes(path)));
+            } catch (Exception e) {
+                Bukkit.getLogger().warning("[DynGUI] Failed to reload menu " + name + ": " + e.getMessage());
+            }
+        }
+
+        if (updates.isEmpty()) return;
+        DynGui.getInstance().getRegionExecutor().runGlobal(() -> apply(updates));
+    }
+
+    private void apply(Map<String, T> updates) {
+        List<AbstractGui> open = new ArrayList<>(SessionManager.sessions.values());
+
+        updates.forEach((name, updated) -> {
+            // One broken menu or GUI must not keep the other menus from being applied.
+            try {
+                apply(name, updated, open);
+            } catch (RuntimeException e) {
+                Bukkit.getLogger().warning("[DynGUI] Failed to reload menu " + name + ": " + e);
+            }
+        });
+    }
+
+    private void apply(String name, @Nullable T updated, List<AbstractGui> open) {
+        T previous = registry.update(name, updated);
+        if (previous == null || updated == null) {
+            Bukkit.getLogger().info("[DynGUI] Menu " + name + (updated == null ? " removed" : " added"));
+            return;
+        }
+
+        MenuDiff diff = differ.apply(previous, updated);
+        RegionExecutor executor = DynGui.getInstance().getRegionExecutor();
+        int patched = 0;
+
+        for (AbstractGui gui : open) {
+            if (!(gui instanceof ReloadableGui<?> reloadable) || reloadable.loadedMenu() != previous) continue;
+
+            Player viewer = gui.getViewer();
+            if (viewer == null) continue;
+
+            @SuppressWarnings("unchecked")
+            ReloadableGui<T> target = (ReloadableGui<T>) reloadable;
+            // The open inventory belongs to the viewer's region.
+            executor.execute(viewer, () -> {
+                try {
+                    target.reload(updated, diff);
+                } catch (RuntimeException e) {
+                    Bukkit.getLogger().warning("[DynGUI] Failed to patch open menu " + name + ": " + e);
+                }
+            });
+            patched++;
+        }
+
+        Bukkit.getLogger().info("[DynGUI] Reloaded menu " + name + ": "
+                + diff.changedSlots().size() + " changed slots, " + patched + " open GUIs patched");
+    }
+
+    private static void registerTree(WatchService service, Path root) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                dir.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package xyz.overdyn.dyngui.form.loader;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A GUI built from a loaded menu that can be patched in place when the menu file changes.
+ *
+ * @param <T> menu model type
+ */
+public interface ReloadableGui<T> {
+
+    /**
+     * Returns the menu this GUI currently renders.
+     *
+     * @return current menu
+     */
+    @NotNull T menu();
+
+    /**
+     * Returns the menu this GUI was loaded from, if any. GUIs that were not built from a
+     * loaded menu return {@code null} and are skipped by hot reload.
+     *
+     * @return current menu, or {@code null}
+     */
+    default @Nullable T loadedMenu() {
+        return menu();
+    }
+
+    /**
+     * Switches this GUI to a new version of its menu.
+     *
+     * <p>Called on the main thread. Implementations re-register only the slots listed in
+     * {@link MenuDiff#changedSlots()} and update the title in place; a structure change
+     * requires a new inventory and therefore a reopen.</p>
+     *
+     * @param updated new menu version
+     * @param diff    difference to the current menu
+     */
+    void reload(@NotNull T updated, @NotNull MenuDiff diff);
+}
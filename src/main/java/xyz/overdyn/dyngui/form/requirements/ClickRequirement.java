@@ -18,6 +18,7 @@ import java.util.List;
  * @param output         expected output string (used in type-specific logic)
  * @param permission     required permission to pass the requirement
  * @param deny_commands  list of commands to execute if the requirement is not met
+ * @param compiled       compiled form, built from the fields above when omitted
  */
 public record ClickRequirement(
         boolean anyClick,
@@ -27,5 +28,19 @@ public record ClickRequirement(
         String output,
         String permission,
         List<String> success,
-        List<String> deny_commands
-) implements Requirement { }
+        List<String> deny_commands,
+        CompiledRequirement compiled
+) implements Requirement {
+
+    public ClickRequirement(boolean anyClick,
+                            ClickType clickType,
+                            String type,
+                            String input,
+                            String output,
+                            String permission,
+                            List<String> success,
+                            List<String> deny_commands) {
+        this(anyClick, clickType, type, input, output, permission, success, deny_commands,
+                RequirementCompiler.compile(type, permission, input, output));
+    }
+}
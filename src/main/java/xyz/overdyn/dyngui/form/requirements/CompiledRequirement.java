@@ -0,0 +1,131 @@
+package xyz.overdyn.dyngui.form.requirements;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.form.requirements.expression.EvaluationContext;
+import xyz.overdyn.dyngui.form.requirements.expression.Expression;
+import xyz.overdyn.dyngui.form.requirements.expression.Expressions;
+
+/**
+ * A {@link Requirement} compiled into an expression tree.
+ *
+ * <p>Instances are created once by {@link RequirementCompiler} when a menu is loaded.
+ * The requirement type is resolved, placeholders are pre-extracted and expressions are
+ * parsed at that point, so {@link #test(Player)} only resolves placeholder values and
+ * walks the tree.</p>
+ *
+ * <p>Each thread reuses its own {@link EvaluationContext}, so region threads on Folia and
+ * async threads never share one; a nested evaluation on the same thread gets a fresh
+ * context.</p>
+ */
+public final class CompiledRequirement {
+
+    private final String type;
+    private final Expression root;
+    private final String[] placeholders;
+    private final String[] permissions;
+    private final ThreadLocal<EvaluationContext> contexts;
+
+    CompiledRequirement(@NotNull String type,
+                        @NotNull Expression root,
+                        @NotNull String[] placeholders,
+                        @NotNull String[] permissions) {
+        this.type = type;
+        this.root = root;
+        this.placeholders = placeholders;
+        this.permissions = permissions;
+        this.contexts = ThreadLocal.withInitial(() -> new EvaluationContext(placeholders));
+    }
+
+    /**
+     * Evaluates this requirement for a player.
+     *
+     * @param player viewer, may be {@code null} (permission checks then fail)
+     * @return {@code true} if the requirement is met
+     */
+    public boolean test(@Nullable Player player) {
+        return evaluate(player, null, null);
+    }
+
+    /**
+     * Evaluates this requirement with placeholder values the caller already resolved.
+     *
+     * @param player viewer, may be {@code null} (permission checks then fail)
+     * @param values resolved values of the caller's input table
+     * @param inputs index into {@code values} of each of {@link #placeholders()}, in order
+     * @return {@code true} if the requirement is met
+     */
+    public boolean test(@Nullable Player player, @NotNull String[] values, @NotNull int[] inputs) {
+        return evaluate(player, values, inputs);
+    }
+
+    private boolean evaluate(@Nullable Player player, @Nullable String[] values, @Nullable int[] inputs) {
+        EvaluationContext threadContext = contexts.get();
+        if (Expressions.isConstant(root)) return root.bool(threadContext);
+
+        EvaluationContext context = threadContext.inUse()
+                ? new EvaluationContext(placeholders)
+                : threadContext;
+
+        context.reset(player);
+        try {
+            if (values != null && inputs != null) {
+                for (int i = 0; i < inputs.length; i++) context.preset(i, values[inputs[i]]);
+            }
+            return root.bool(context);
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * Checks whether this requirement always yields the same result, regardless of the viewer.
+     *
+     * @return {@code true} for constant requirements
+     */
+    public boolean isConstant() {
+        return Expressions.isConstant(root);
+    }
+
+    /**
+     * Returns the normalized requirement type this was compiled from.
+     *
+     * @return requirement type
+     */
+    public @NotNull String type() {
+        return type;
+    }
+
+    /**
+     * Returns the compiled expression tree.
+     *
+     * @return root expression
+     */
+    public @NotNull Expression expression() {
+        return root;
+    }
+
+    /**
+     * Returns the placeholder tokens this requirement depends on.
+     *
+     * @return placeholder tokens; must not be modified
+     */
+    public @NotNull String[] placeholders() {
+        return placeholders;
+    }
+
+    /**
+     * Returns the permission nodes this requirement depends on.
+     *
+     * @return permission nodes; must not be modified
+     */
+    public @NotNull String[] permissions() {
+        return permissions;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledRequirement[" + type + "]";
+    }
+}
@@ -15,9 +15,16 @@ package xyz.overdyn.dyngui.form.requirements;
  *     <li><b>"!has permission"</b> – player must NOT have the specified permission node.</li>
  *     <li><b>"string equals"</b> – case-insensitive comparison of input and output.</li>
  *     <li><b>"!string equals"</b> – inverse of the above: input must not equal output.</li>
- *     <li><b>"javascript"</b> / <b>"math"</b> – mathematical or logical expression (e.g. {@code %level% >= 10}).</li>
+ *     <li><b>"string contains"</b> / <b>"!string contains"</b> – case-sensitive substring check.</li>
+ *     <li><b>"regex matches"</b> / <b>"!regex matches"</b> – {@code input} must fully match the pattern in {@code output}.</li>
+ *     <li><b>"javascript"</b> / <b>"math"</b> / <b>"expression"</b> – boolean expression (e.g. {@code %level% >= 10}).</li>
  * </ul>
  *
+ * <p>Expressions support {@code && || !}, arithmetic ({@code + - * / %}), comparisons,
+ * regex ({@code ~=}) and functions such as {@code perm('node')}, {@code contains(a, b)},
+ * {@code lower(a)} or {@code max(a, b)}. Every requirement is compiled once when it is
+ * created; see {@link RequirementCompiler}.</p>
+ *
  * <p>Placeholders (e.g. from PlaceholderAPI) are supported in {@code input} and {@code output}.</p>
  *
  * <h3>Examples:</h3>
@@ -31,6 +38,9 @@ package xyz.overdyn.dyngui.form.requirements;
  *
  * type: "math"
  * input: "%player_level% >= 10"
+ *
+ * type: "expression"
+ * input: "(%player_level% >= 10 || perm('vip')) && %player_world% ~= 'spawn.*'"
  * </pre>
  */
 public interface Requirement {
@@ -38,13 +48,13 @@ public interface Requirement {
     /**
      * Returns the type of this requirement.
      *
-     * <p>Allowed values:</p>
+     * <p>Allowed values (case-insensitive; every type can be negated with a leading {@code !}):</p>
      * <ul>
-     *     <li><b>"has permission"</b></li>
-     *     <li><b>"!has permission"</b></li>
+     *     <li><b>"has permission"</b> or <b>"permission"</b></li>
      *     <li><b>"string equals"</b></li>
-     *     <li><b>"!string equals"</b></li>
-     *     <li><b>"javascript"</b> or <b>"math"</b></li>
+     *     <li><b>"string contains"</b></li>
+     *     <li><b>"regex matches"</b></li>
+     *     <li><b>"javascript"</b>, <b>"math"</b> or <b>"expression"</b></li>
      * </ul>
      *
      * @return the requirement type.
@@ -95,4 +105,17 @@ public interface Requirement {
      * @return the target value for comparison.
      */
     String output();
+
+    /**
+     * The compiled form of this requirement.
+     *
+     * <p>The built-in requirements compile once when they are created, so checking them does
+     * not parse anything. This default compiles on every call; other implementations should
+     * override it and keep the result.</p>
+     *
+     * @return the compiled requirement
+     */
+    default CompiledRequirement compiled() {
+        return RequirementCompiler.compile(this);
+    }
 }
@@ -0,0 +1,138 @@
+package xyz.overdyn.dyngui.form.requirements;
+
+import lombok.experimental.UtilityClass;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-viewer memoization of {@link CompiledRequirement} results.
+ *
+ * <p>Results are keyed by viewer and by compiled requirement identity, so every
+ * requirement of every menu is evaluated at most once per viewer within the
+ * configured time-to-live. Cached results are dropped:</p>
+ * <ul>
+ *     <li>when their TTL expires,</li>
+ *     <li>on an explicit {@link #invalidate(Player)} / {@link #invalidateAll()},</li>
+ *     <li>when the server re-sends the command tree to a player, which Bukkit does
+ *     after permission plugins recalculate permissions,</li>
+ *     <li>on world change and on quit (see {@link xyz.overdyn.dyngui.listener.GuiListener}).</li>
+ * </ul>
+ *
+ * <p>Permission plugins with their own recalculation events (e.g. LuckPerms) can call
+ * {@link #invalidate(UUID)} from those events for immediate consistency.</p>
+ *
+ * <p>Click requirements should not go through the cache: click actions often change
+ * exactly what they check (money, items), so a cached result would let a second click
+ * within the TTL pass again. Check them with {@link Requirements#checkUncached} and
+ * {@link #invalidate(Player)} the viewer after running click actions.</p>
+ */
+@UtilityClass
+public class RequirementCache {
+
+    private final Map<UUID, ViewerCache> viewers = new ConcurrentHashMap<>();
+
+    private volatile long ttlNanos = Duration.ofSeconds(1).toNanos();
+
+    /**
+     * Evaluates a requirement for a viewer, reusing a cached result when it is still valid.
+     *
+     * @param player      viewer; {@code null} viewers are never cached
+     * @param requirement compiled requirement
+     * @return requirement result
+     */
+    public boolean test(@Nullable Player player, @NotNull CompiledRequirement requirement) {
+        if (player == null || ttlNanos <= 0 || requirement.isConstant()) return requirement.test(player);
+
+        ViewerCache cache = viewers.computeIfAbsent(player.getUniqueId(), uuid -> new ViewerCache());
+        return cache.test(player, requirement, ttlNanos);
+    }
+
+    /**
+     * Drops all cached results of a player.
+     *
+     * @param player player to invalidate
+     */
+    public void invalidate(@NotNull Player player) {
+        invalidate(player.getUniqueId());
+    }
+
+    /**
+     * Drops all cached results of a player.
+     *
+     * @param uuid player unique id
+     */
+    public void invalidate(@NotNull UUID uuid) {
+        viewers.remove(uuid);
+    }
+
+    /**
+     * Drops all cached results of all players.
+     */
+    public void invalidateAll() {
+        viewers.clear();
+    }
+
+    /**
+     * Sets the time-to-live of cached results.
+     *
+     * @param ttl new TTL; zero or negative disables caching
+     */
+    public void setTtl(@NotNull Duration ttl) {
+        ttlNanos = ttl.toNanos();
+        invalidateAll();
+    }
+
+    /**
+     * Returns the time-to-live of cached results.
+     *
+     * @return current TTL
+     */
+    public @NotNull Duration getTtl() {
+        return Duration.ofNanos(ttlNanos);
+    }
+
+    /**
+     * Cached results of a single viewer.
+     */
+    private static final class ViewerCache {
+
+        /** Expired entries are swept once the map grows past this size. */
+        private static final int SWEEP_THRESHOLD = 256;
+
+        private final Map<CompiledRequirement, Entry> results = new IdentityHashMap<>();
+
+        synchronized boolean test(Player player, CompiledRequirement requirement, long ttlNanos) {
+            long now = System.nanoTime();
+            Entry entry = results.get(requirement);
+
+            if (entry == null) {
+                if (results.size() >= SWEEP_THRESHOLD) {
+                    results.values().removeIf(e -> e.expiresAt - now <= 0);
+                }
+                entry = new Entry();
+                results.put(requirement, entry);
+            } else if (entry.expiresAt - now > 0) {
+                return entry.value;
+            }
+
+            entry.value = requirement.test(player);
+            entry.expiresAt = now + ttlNanos;
+            return entry.value;
+        }
+    }
+
+    /**
+     * Mutable cache slot, updated in place on refresh.
+     */
+    private static final class Entry {
+        boolean value;
+        long expiresAt;
+    }
+}
@@ -0,0 +1,104 @@
+package xyz.overdyn.dyngui.form.requirements;
+
+import lombok.experimental.UtilityClass;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.form.requirements.expression.Expression;
+import xyz.overdyn.dyngui.form.requirements.expression.Expressions;
+import xyz.overdyn.dyngui.form.requirements.expression.SymbolTable;
+
+import java.util.Locale;
+
+/**
+ * Compiles configured requirements into {@link CompiledRequirement}s.
+ *
+ * <p>Supported requirement types:</p>
+ * <ul>
+ *     <li><b>"has permission"</b> / <b>"!has permission"</b></li>
+ *     <li><b>"string equals"</b> / <b>"!string equals"</b> — case-insensitive</li>
+ *     <li><b>"string contains"</b> / <b>"!string contains"</b></li>
+ *     <li><b>"regex matches"</b> / <b>"!regex matches"</b> — {@code output} is the pattern</li>
+ *     <li><b>"math"</b> / <b>"javascript"</b> / <b>"expression"</b> — full expression in {@code input}</li>
+ * </ul>
+ *
+ * <p>Invalid definitions are reported once at load time and compile to a requirement
+ * that never passes.</p>
+ */
+@UtilityClass
+public class RequirementCompiler {
+
+    /**
+     * Compiles a requirement definition.
+     *
+     * @param type       requirement type
+     * @param permission permission node, for permission types
+     * @param input      input text or expression
+     * @param output     comparison target, for string and regex types
+     * @return compiled requirement
+     */
+    public @NotNull CompiledRequirement compile(@Nullable String type,
+                                                @Nullable String permission,
+                                                @Nullable String input,
+                                                @Nullable String output) {
+        String normalized = type == null ? "" : type.trim().toLowerCase(Locale.ROOT);
+        SymbolTable symbols = new SymbolTable();
+
+        Expression root;
+        try {
+            root = compileRoot(normalized, permission, input, output, symbols);
+        } catch (IllegalArgumentException e) {
+            Bukkit.getLogger().warning("[DynGUI] Invalid requirement '" + type + "': " + e.getMessage());
+            root = Expressions.constant(false);
+        }
+
+        return new CompiledRequirement(normalized, root, symbols.placeholders(), symbols.permissions());
+    }
+
+    private Expression compileRoot(String type,
+                                   @Nullable String permission,
+                                   @Nullable String input,
+                                   @Nullable String output,
+                                   SymbolTable symbols) {
+        boolean negated = type.startsWith("!");
+        String base = negated ? type.substring(1).trim() : type;
+
+        Expression expression = switch (base) {
+            case "has permission", "permission" -> {
+                if (permission == null || permission.isBlank()) {
+                    throw new IllegalArgumentException("missing permission");
+                }
+                yield Expressions.permission(permission, symbols);
+            }
+            case "string equals" -> input == null ? null : Expressions.equalsIgnoreCase(
+                    Expressions.template(input, symbols),
+                    Expressions.template(output == null ? "" : output, symbols)
+            );
+            case "string contains" -> input == null ? null : Expressions.contains(
+                    Expressions.template(input, symbols),
+                    Expressions.template(output == null ? "" : output, symbols)
+            );
+            case "regex matches" -> {
+                if (input == null) yield null;
+                if (output == null) throw new IllegalArgumentException("missing regex in output");
+                yield Expressions.matches(Expressions.template(input, symbols), output);
+            }
+            case "math", "javascript", "expression" -> input == null ? null : Expressions.parse(input, symbols);
+            default -> throw new IllegalArgumentException("unknown type");
+        };
+
+        // Requirements without input have always been treated as satisfied.
+        if (expression == null) return Expressions.constant(true);
+        return negated ? Expressions.not(expression) : expression;
+    }
+
+    /**
+     * Compiles an existing requirement definition.
+     *
+     * @param requirement requirement to compile
+     * @return compiled requirement
+     */
+    public @NotNull CompiledRequirement compile(@NotNull Requirement requirement) {
+        return compile(requirement.type(), requirement.permission(), requirement.input(), requirement.output());
+    }
+}
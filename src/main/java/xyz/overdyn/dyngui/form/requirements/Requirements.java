@@ -1,14 +1,13 @@
 package xyz.overdyn.dyngui.form.requirements;
 
 import lombok.experimental.UtilityClass;
-import me.clip.placeholderapi.PlaceholderAPI;
 import org.bukkit.entity.Player;
 
 /**
  * Utility class for evaluating GUI {@link Requirement}s.
  *
- * <p>This class handles checking permissions, string comparisons,
- * and mathematical or logical expressions using placeholder-aware input.</p>
+ * <p>Requirements are compiled once when they are created (see {@link RequirementCompiler}),
+ * so checking one only resolves its placeholders and evaluates the compiled expression.</p>
  *
  * <p>Supported requirement types:</p>
  * <ul>
@@ -16,7 +15,8 @@ import org.bukkit.entity.Player;
  *     <li><b>"!has permission"</b></li>
  *     <li><b>"string equals"</b></li>
  *     <li><b>"!string equals"</b></li>
- *     <li><b>"math"</b> / <b>"javascript"</b></li>
+ *     <li><b>"string contains"</b> / <b>"regex matches"</b> (and their negations)</li>
+ *     <li><b>"math"</b> / <b>"javascript"</b> / <b>"expression"</b></li>
  * </ul>
  */
 @UtilityClass
@@ -25,19 +25,33 @@ public class Requirements {
     /**
      * Evaluates a {@link Requirement} for a specific player.
      *
+     * <p>Results are memoized per player for a short time, see {@link RequirementCache}.</p>
+     *
      * @param player The player to check
      * @param req    The requirement instance to evaluate
      * @return {@code true} if the requirement is met, otherwise {@code false}
      */
     public boolean check(Player player, Requirement req) {
-        return checkInternal(player, req.type(), req.permission(), req.input(), req.output());
+        return RequirementCache.test(player, req.compiled());
+    }
+
+    /**
+     * Evaluates a {@link Requirement} for a specific player, bypassing {@link RequirementCache}.
+     *
+     * @param player The player to check
+     * @param req    The requirement instance to evaluate
+     * @return {@code true} if the requirement is met, otherwise {@code false}
+     */
+    public boolean checkUncached(Player player, Requirement req) {
+        return req.compiled().test(player);
     }
 
     /**
-     * Internal requirement handler.
+     * Evaluates an ad-hoc requirement definition.
      *
-     * <p>This method performs the actual parsing and comparison logic.
-     * All string inputs are processed with PlaceholderAPI (via {@link PlaceholderAPI} wrapper).</p>
+     * <p>The definition is compiled on every call. Prefer keeping a
+     * {@link CompiledRequirement} (or a {@link Requirement} record) around
+     * when the same definition is checked repeatedly.</p>
      *
      * @param player     The target player
      * @param type       The requirement type (e.g. "has permission", "math")
@@ -51,61 +65,6 @@ public class Requirements {
                                   String permission,
                                   String input,
                                   String output) {
-
-        if (!type.equalsIgnoreCase("permission") && input==null) return true;
-        String parsedInput = PlaceholderAPI.setPlaceholders(player, input);
-
-        String parsedOutput = "";
-        if (output!=null) {
-            parsedOutput = PlaceholderAPI.setPlaceholders(player, output);
-        }
-        return switch (type.toLowerCase()) {
-            case "has permission" -> player.hasPermission(permission);
-            case "!has permission" -> !player.hasPermission(permission);
-            case "string equals" -> parsedInput.equalsIgnoreCase(parsedOutput);
-            case "!string equals" -> !parsedInput.equalsIgnoreCase(parsedOutput);
-            case "javascript", "math" -> evalJavascriptLike(player, parsedInput);
-            default -> false;
-        };
-    }
-
-    /**
-     * Evaluates a simplified JavaScript-like or math expression.
-     *
-     * <p>The input must be a 3-part space-separated expression, e.g. {@code "5 >= 3"} or {@code "%level% < 10"}.</p>
-     *
-     * <p>All parts are resolved through PlaceholderAPI prior to parsing.
-     * If operands are numeric, numerical comparison is applied; otherwise, string comparison is used.</p>
-     *
-     * @param player The player for placeholder resolution
-     * @param input  The expression string
-     * @return {@code true} if the expression evaluates to true
-     */
-    private boolean evalJavascriptLike(Player player, String input) {
-        String[] args = input.split(" ");
-        if (args.length < 3) return false;
-
-        args[0] = PlaceholderAPI.setPlaceholders(player, args[0]);
-        args[2] = PlaceholderAPI.setPlaceholders(player, args[2]);
-
-        try {
-            double x = Double.parseDouble(args[0]);
-            double x1 = Double.parseDouble(args[2]);
-            return switch (args[1]) {
-                case ">" -> x > x1;
-                case ">=" -> x >= x1;
-                case "==" -> x == x1;
-                case "!=" -> x != x1;
-                case "<=" -> x <= x1;
-                case "<" -> x < x1;
-                default -> false;
-            };
-        } catch (NumberFormatException e) {
-            return switch (args[1]) {
-                case "==" -> args[0].equals(args[2]);
-                case "!=" -> !args[0].equals(args[2]);
-                default -> false;
-            };
-        }
+        return RequirementCompiler.compile(type, permission, input, output).test(player);
     }
 }
@@ -30,5 +30,17 @@ public record SimpleRequirement(
         String output,
         String permission,
         List<String> success,
-        List<String> deny_commands
-) implements Requirement { }
+        List<String> deny_commands,
+        CompiledRequirement compiled
+) implements Requirement {
+
+    public SimpleRequirement(String type,
+                             String input,
+                             String output,
+                             String permission,
+                             List<String> success,
+                             List<String> deny_commands) {
+        this(type, input, output, permission, success, deny_commands,
+                RequirementCompiler.compile(type, permission, input, output));
+    }
+}
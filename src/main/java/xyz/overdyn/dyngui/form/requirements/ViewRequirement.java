@@ -23,5 +23,17 @@ public record ViewRequirement(
         String output,
         String permission,
         List<String> success,
-        List<String> deny_commands
-) implements Requirement { }
+        List<String> deny_commands,
+        CompiledRequirement compiled
+) implements Requirement {
+
+    public ViewRequirement(String type,
+                           String input,
+                           String output,
+                           String permission,
+                           List<String> success,
+                           List<String> deny_commands) {
+        this(type, input, output, permission, success, deny_commands,
+                RequirementCompiler.compile(type, permission, input, output));
+    }
+}
@@ -0,0 +1,140 @@
+package xyz.overdyn.dyngui.form.requirements.expression;
+
+import me.clip.placeholderapi.PlaceholderAPI;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.DynGui;
+
+import java.util.Arrays;
+
+/**
+ * Mutable, reusable state of a single expression evaluation.
+ *
+ * <p>Holds the viewer and lazily resolved placeholder values. Each placeholder of the
+ * compiled expression is resolved at most once per evaluation, and its numeric form is
+ * parsed at most once as well. A context is reset between evaluations instead of being
+ * re-created, so evaluating a compiled requirement does not allocate by itself.</p>
+ *
+ * <p>Instances are not thread-safe.</p>
+ */
+public final class EvaluationContext {
+
+    private static final byte UNRESOLVED = 0;
+    private static final byte RESOLVED = 1;
+    private static final byte PARSED = 2;
+
+    private final String[] placeholders;
+    private final String[] values;
+    private final double[] numbers;
+    private final byte[] state;
+
+    private @Nullable Player player;
+    private boolean inUse;
+
+    /**
+     * Creates a context for the given placeholder table.
+     *
+     * @param placeholders placeholder tokens (including {@code %} delimiters)
+     */
+    public EvaluationContext(@NotNull String[] placeholders) {
+        this.placeholders = placeholders;
+        this.values = new String[placeholders.length];
+        this.numbers = new double[placeholders.length];
+        this.state = new byte[placeholders.length];
+    }
+
+    /**
+     * Prepares this context for a new evaluation.
+     *
+     * @param player viewer, may be {@code null}
+     */
+    public void reset(@Nullable Player player) {
+        this.player = player;
+        this.inUse = true;
+        Arrays.fill(state, UNRESOLVED);
+    }
+
+    /**
+     * Releases references held from the last evaluation.
+     */
+    public void release() {
+        this.player = null;
+        this.inUse = false;
+        Arrays.fill(values, null);
+    }
+
+    /**
+     * Returns whether this context is currently used by an evaluation.
+     *
+     * @return {@code true} if in use
+     */
+    public boolean inUse() {
+        return inUse;
+    }
+
+    /**
+     * Returns the viewer of the current evaluation.
+     *
+     * @return viewer or {@code null}
+     */
+    public @Nullable Player player() {
+        return player;
+    }
+
+    /**
+     * Checks a permission for the current viewer.
+     *
+     * @param node permission node
+     * @return {@code true} if a viewer is present and has the permission
+     */
+    public boolean hasPermission(@NotNull String node) {
+        return player != null && player.hasPermission(node);
+    }
+
+    /**
+     * Returns the resolved value of a placeholder.
+     *
+     * @param index placeholder index in the compiled table
+     * @return resolved value, never {@code null}
+     */
+    public @NotNull String value(int index) {
+        if (state[index] == UNRESOLVED) {
+            values[index] = resolve(placeholders[index]);
+            state[index] = RESOLVED;
+        }
+        return values[index];
+    }
+
+    /**
+     * Supplies the value of a placeholder resolved elsewhere, so the current evaluation
+     * does not resolve it again. Must be called after {@link #reset(Player)}.
+     *
+     * @param index placeholder index in the compiled table
+     * @param value resolved value
+     */
+    public void preset(int index, @NotNull String value) {
+        values[index] = value;
+        state[index] = RESOLVED;
+    }
+
+    /**
+     * Returns the numeric value of a placeholder.
+     *
+     * @param index placeholder index in the compiled table
+     * @return parsed value, or {@link Double#NaN} if not numeric
+     */
+    public double number(int index) {
+        if (state[index] != PARSED) {
+            numbers[index] = Values.toNumber(value(index));
+            state[index] = PARSED;
+        }
+        return numbers[index];
+    }
+
+    private @NotNull String resolve(@NotNull String token) {
+        if (!DynGui.getInstance().isSupportedPlaceholder()) return token;
+        String resolved = PlaceholderAPI.setPlaceholders(player, token);
+        return resolved == null ? "" : resolved;
+    }
+}
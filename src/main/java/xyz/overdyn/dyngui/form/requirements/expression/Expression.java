@@ -0,0 +1,62 @@
+package xyz.overdyn.dyngui.form.requirements.expression;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Node of a compiled requirement expression.
+ *
+ * <p>Expressions are produced once by {@link ExpressionParser} at menu load time and
+ * evaluated many times afterwards. Every node can be read as a number, a string or a
+ * boolean; the {@link #kind()} reported at compile time lets parent nodes pick the
+ * cheapest conversion up-front instead of inspecting values at click time.</p>
+ *
+ * <p>Implementations must be immutable and must not allocate while evaluating numeric
+ * or boolean results.</p>
+ */
+public interface Expression {
+
+    /**
+     * Static result kind of this node.
+     *
+     * @return node kind
+     */
+    @NotNull Kind kind();
+
+    /**
+     * Evaluates this node as a number.
+     *
+     * @param context evaluation context
+     * @return numeric value, or {@link Double#NaN} if the value is not numeric
+     */
+    double number(@NotNull EvaluationContext context);
+
+    /**
+     * Evaluates this node as a string.
+     *
+     * @param context evaluation context
+     * @return string value, never {@code null}
+     */
+    @NotNull String string(@NotNull EvaluationContext context);
+
+    /**
+     * Evaluates this node as a boolean.
+     *
+     * @param context evaluation context
+     * @return boolean value
+     */
+    boolean bool(@NotNull EvaluationContext context);
+
+    /**
+     * Static result kind of an {@link Expression}.
+     */
+    enum Kind {
+        /** Always numeric (literals, arithmetic). */
+        NUMBER,
+        /** Always textual (quoted literals, templates, string functions). */
+        STRING,
+        /** Always boolean (comparisons, combinators, permission checks). */
+        BOOLEAN,
+        /** Resolved at runtime (placeholders); may be numeric or textual. */
+        DYNAMIC
+    }
+}
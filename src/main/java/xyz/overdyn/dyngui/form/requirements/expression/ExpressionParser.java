@@ -0,0 +1,404 @@
+package xyz.overdyn.dyngui.form.requirements.expression;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Recursive-descent parser for requirement expressions.
+ *
+ * <p>Grammar (lowest to highest precedence):</p>
+ * <pre>
+ * or       := and (('||' | 'or') and)*
+ * and      := compare (('&amp;&amp;' | 'and') compare)*
+ * compare  := additive (('==' | '!=' | '&lt;' | '&lt;=' | '&gt;' | '&gt;=' | '~=') additive)?
+ * additive := multiply (('+' | '-') multiply)*
+ * multiply := unary (('*' | '/' | '%') unary)*
+ * unary    := ('!' | 'not' | '-') unary | primary
+ * primary  := number | 'text' | "text" | %placeholder% | true | false
+ *           | name '(' args ')' | '(' or ')' | bareword
+ * </pre>
+ *
+ * <p>Barewords are read as plain text, which keeps legacy inputs such as
+ * {@code %player_name% == JetBy} working unchanged. A hyphen between word characters is
+ * part of the bareword ({@code my-world}), and a numeric-looking token that is not a valid
+ * number, such as the version {@code 1.20.4}, is a bareword too.</p>
+ */
+final class ExpressionParser {
+
+    private final String source;
+    private final SymbolTable symbols;
+    private int position;
+
+    ExpressionParser(@NotNull String source, @NotNull SymbolTable symbols) {
+        this.source = source;
+        this.symbols = symbols;
+    }
+
+    /**
+     * Parses the whole source as a single expression.
+     *
+     * @return root node
+     * @throws IllegalArgumentException on syntax errors
+     */
+    @NotNull Expression parse() {
+        Expression expression = or();
+        skipWhitespace();
+        if (position < source.length()) {
+            throw error("Unexpected '" + source.charAt(position) + "'");
+        }
+        return expression;
+    }
+
+    /**
+     * Compiles text with embedded placeholders into a template node.
+     *
+     * @param text    raw text
+     * @param symbols symbol table to register placeholders in
+     * @return constant, single placeholder reference or template
+     */
+    static @NotNull Expression template(@NotNull String text, @NotNull SymbolTable symbols) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> refs = new ArrayList<>();
+
+        int last = 0;
+        int i = 0;
+        while (i < text.length()) {
+            int end = text.charAt(i) == '%' ? placeholderEnd(text, i) : -1;
+            if (end < 0) {
+                i++;
+                continue;
+            }
+            literals.add(text.substring(last, i));
+            refs.add(symbols.placeholder(text.substring(i, end + 1)));
+            i = end + 1;
+            last = i;
+        }
+        literals.add(text.substring(last));
+
+        if (refs.isEmpty()) return Nodes.Constant.string(text);
+        if (refs.size() == 1 && literals.get(0).isEmpty() && literals.get(1).isEmpty()) {
+            return new Nodes.PlaceholderRef(refs.get(0));
+        }
+        return new Nodes.Template(
+                literals.toArray(String[]::new),
+                refs.stream().mapToInt(Integer::intValue).toArray()
+        );
+    }
+
+    /**
+     * Finds the closing {@code %} of a placeholder starting at {@code start}.
+     *
+     * @return index of the closing delimiter or {@code -1} if this is not a placeholder
+     */
+    private static int placeholderEnd(@NotNull String text, int start) {
+        for (int i = start + 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '%') return i > start + 1 ? i : -1;
+            if (Character.isWhitespace(c)) return -1;
+        }
+        return -1;
+    }
+
+    /* ========================================================= */
+    /* ======================== GRAMMAR ======================== */
+    /* ========================================================= */
+
+    private Expression or() {
+        Expression left = and();
+        while (acceptSymbol("||") || acceptWord("or")) {
+            left = new Nodes.Or(left, and());
+        }
+        return left;
+    }
+
+    private Expression and() {
+        Expression left = compare();
+        while (acceptSymbol("&&") || acceptWord("and")) {
+            left = new Nodes.And(left, compare());
+        }
+        return left;
+    }
+
+    private Expression compare() {
+        Expression left = additive();
+        if (acceptSymbol("==")) return new Nodes.Compare(Nodes.CompareOperator.EQ, left, additive());
+        if (acceptSymbol("!=")) return new Nodes.Compare(Nodes.CompareOperator.NE, left, additive());
+        if (acceptSymbol("<=")) return new Nodes.Compare(Nodes.CompareOperator.LE, left, additive());
+        if (acceptSymbol(">=")) return new Nodes.Compare(Nodes.CompareOperator.GE, left, additive());
+        if (acceptSymbol("~=") || acceptSymbol("=~")) return regex(left, additive());
+        if (acceptSymbol("<")) return new Nodes.Compare(Nodes.CompareOperator.LT, left, additive());
+        if (acceptSymbol(">")) return new Nodes.Compare(Nodes.CompareOperator.GT, left, additive());
+        return left;
+    }
+
+    private Expression additive() {
+        Expression left = multiply();
+        while (true) {
+            if (acceptSymbol("+")) {
+                Expression right = multiply();
+                left = left.kind() == Expression.Kind.STRING || right.kind() == Expression.Kind.STRING
+                        ? new Nodes.Concat(left, right)
+                        : new Nodes.Arithmetic(Nodes.ArithmeticOperator.ADD, left, right);
+            } else if (acceptSymbol("-")) {
+                left = new Nodes.Arithmetic(Nodes.ArithmeticOperator.SUBTRACT, left, multiply());
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private Expression multiply() {
+        Expression left = unary();
+        while (true) {
+            if (acceptSymbol("*")) {
+                left = new Nodes.Arithmetic(Nodes.ArithmeticOperator.MULTIPLY, left, unary());
+            } else if (acceptSymbol("/")) {
+                left = new Nodes.Arithmetic(Nodes.ArithmeticOperator.DIVIDE, left, unary());
+            } else if (!atPlaceholder() && acceptSymbol("%")) {
+                left = new Nodes.Arithmetic(Nodes.ArithmeticOperator.MODULO, left, unary());
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private Expression unary() {
+        if (acceptSymbol("!") || acceptWord("not")) return new Nodes.Not(unary());
+        if (acceptSymbol("-")) return new Nodes.Negate(unary());
+        return primary();
+    }
+
+    private Expression primary() {
+        skipWhitespace();
+        if (position >= source.length()) throw error("Unexpected end of expression");
+
+        char c = source.charAt(position);
+
+        if (c == '(') {
+            position++;
+            Expression inner = or();
+            expect(')');
+            return inner;
+        }
+        if (c == '\'' || c == '"') {
+            return template(quoted(c), symbols);
+        }
+        if (c == '%') {
+            int end = placeholderEnd(source, position);
+            if (end < 0) throw error("Unterminated placeholder");
+            int index = symbols.placeholder(source.substring(position, end + 1));
+            position = end + 1;
+            return new Nodes.PlaceholderRef(index);
+        }
+        if (Character.isDigit(c) || (c == '.' && position + 1 < source.length() && Character.isDigit(source.charAt(position + 1)))) {
+            return number();
+        }
+        if (isWordChar(c)) {
+            String word = word();
+            skipWhitespace();
+            if (position < source.length() && source.charAt(position) == '(') {
+                position++;
+                return call(word.toLowerCase(Locale.ROOT), arguments());
+            }
+            if (word.equalsIgnoreCase("true")) return Nodes.Constant.TRUE;
+            if (word.equalsIgnoreCase("false")) return Nodes.Constant.FALSE;
+            return Nodes.Constant.string(word);
+        }
+        throw error("Unexpected '" + c + "'");
+    }
+
+    private Expression number() {
+        int start = position;
+        while (position < source.length()) {
+            char c = source.charAt(position);
+            if (!Character.isDigit(c) && c != '.') break;
+            position++;
+        }
+        String text = source.substring(start, position);
+        if (position >= source.length() || !isWordChar(source.charAt(position))) {
+            try {
+                return Nodes.Constant.number(Double.parseDouble(text), text);
+            } catch (NumberFormatException ignored) {
+                // not a number, e.g. a version such as 1.20.4
+            }
+        }
+        position = start;
+        return Nodes.Constant.string(word());
+    }
+
+    private List<Expression> arguments() {
+        List<Expression> arguments = new ArrayList<>();
+        skipWhitespace();
+        if (position < source.length() && source.charAt(position) == ')') {
+            position++;
+            return arguments;
+        }
+        do {
+            arguments.add(or());
+        } while (acceptSymbol(","));
+        expect(')');
+        return arguments;
+    }
+
+    /* ========================================================= */
+    /* ======================= FUNCTIONS ======================= */
+    /* ========================================================= */
+
+    private Expression call(String name, List<Expression> args) {
+        return switch (name) {
+            case "perm", "permission", "haspermission" -> {
+                arity(name, args, 1);
+                if (!(args.get(0) instanceof Nodes.Constant constant)) throw error(name + "() expects a literal node");
+                String node = constant.text();
+                symbols.permission(node);
+                yield new Nodes.Permission(node);
+            }
+            case "contains" -> stringTest(name, Nodes.StringPredicate.CONTAINS, args);
+            case "startswith" -> stringTest(name, Nodes.StringPredicate.STARTS_WITH, args);
+            case "endswith" -> stringTest(name, Nodes.StringPredicate.ENDS_WITH, args);
+            case "equalsignorecase" -> stringTest(name, Nodes.StringPredicate.EQUALS_IGNORE_CASE, args);
+            case "matches" -> {
+                arity(name, args, 2);
+                yield regex(args.get(0), args.get(1));
+            }
+            case "lower" -> transform(name, Nodes.StringFunction.LOWER, args);
+            case "upper" -> transform(name, Nodes.StringFunction.UPPER, args);
+            case "trim" -> transform(name, Nodes.StringFunction.TRIM, args);
+            case "length" -> {
+                arity(name, args, 1);
+                yield new Nodes.Length(args.get(0));
+            }
+            case "isnumber" -> {
+                arity(name, args, 1);
+                yield new Nodes.IsNumber(args.get(0));
+            }
+            case "abs" -> math(name, Nodes.MathFunction.ABS, args, 1);
+            case "floor" -> math(name, Nodes.MathFunction.FLOOR, args, 1);
+            case "ceil" -> math(name, Nodes.MathFunction.CEIL, args, 1);
+            case "round" -> math(name, Nodes.MathFunction.ROUND, args, 1);
+            case "min" -> math(name, Nodes.MathFunction.MIN, args, 2);
+            case "max" -> math(name, Nodes.MathFunction.MAX, args, 2);
+            default -> throw error("Unknown function '" + name + "'");
+        };
+    }
+
+    private Expression stringTest(String name, Nodes.StringPredicate predicate, List<Expression> args) {
+        arity(name, args, 2);
+        return new Nodes.StringTest(predicate, args.get(0), args.get(1));
+    }
+
+    private Expression transform(String name, Nodes.StringFunction function, List<Expression> args) {
+        arity(name, args, 1);
+        return new Nodes.StringTransform(function, args.get(0));
+    }
+
+    private Expression math(String name, Nodes.MathFunction function, List<Expression> args, int arity) {
+        arity(name, args, arity);
+        return new Nodes.MathCall(function, args.get(0), arity > 1 ? args.get(1) : null);
+    }
+
+    private Expression regex(Expression operand, Expression pattern) {
+        if (pattern instanceof Nodes.Constant constant) {
+            String regex = constant.text();
+            try {
+                return new Nodes.RegexMatch(operand, Pattern.compile(regex));
+            } catch (PatternSyntaxException e) {
+                throw error("Invalid regex '" + regex + "': " + e.getDescription());
+            }
+        }
+        return new Nodes.DynamicRegexMatch(operand, pattern);
+    }
+
+    private void arity(String name, List<Expression> args, int expected) {
+        if (args.size() != expected) {
+            throw error(name + "() expects " + expected + " argument(s), got " + args.size());
+        }
+    }
+
+    /* ========================================================= */
+    /* ======================== LEXING ========================= */
+    /* ========================================================= */
+
+    private boolean atPlaceholder() {
+        skipWhitespace();
+        return position < source.length()
+                && source.charAt(position) == '%'
+                && placeholderEnd(source, position) > 0;
+    }
+
+    private boolean acceptSymbol(String symbol) {
+        skipWhitespace();
+        if (!source.startsWith(symbol, position)) return false;
+        // make sure '<', '>' and '!' do not swallow '<=', '>=' and '!='
+        int next = position + symbol.length();
+        if (symbol.length() == 1 && (symbol.equals("<") || symbol.equals(">") || symbol.equals("!"))
+                && next < source.length() && source.charAt(next) == '=') {
+            return false;
+        }
+        position = next;
+        return true;
+    }
+
+    private boolean acceptWord(String word) {
+        skipWhitespace();
+        int end = position + word.length();
+        if (!source.regionMatches(true, position, word, 0, word.length())) return false;
+        if (continuesWord(end)) return false;
+        position = end;
+        return true;
+    }
+
+    private void expect(char c) {
+        skipWhitespace();
+        if (position >= source.length() || source.charAt(position) != c) {
+            throw error("Expected '" + c + "'");
+        }
+        position++;
+    }
+
+    private String quoted(char quote) {
+        StringBuilder builder = new StringBuilder();
+        position++;
+        while (position < source.length()) {
+            char c = source.charAt(position++);
+            if (c == quote) return builder.toString();
+            if (c == '\\' && position < source.length()) c = source.charAt(position++);
+            builder.append(c);
+        }
+        throw error("Unterminated string");
+    }
+
+    private String word() {
+        int start = position;
+        while (continuesWord(position)) position++;
+        return source.substring(start, position);
+    }
+
+    /**
+     * Checks whether the character at {@code index} continues the word before it. A hyphen
+     * does when another word character follows, so {@code my-world} is one bareword.
+     */
+    private boolean continuesWord(int index) {
+        if (index >= source.length()) return false;
+        char c = source.charAt(index);
+        if (isWordChar(c)) return true;
+        return c == '-' && index + 1 < source.length() && isWordChar(source.charAt(index + 1));
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '.' || c == ':';
+    }
+
+    private void skipWhitespace() {
+        while (position < source.length() && Character.isWhitespace(source.charAt(position))) position++;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at " + position + " in \"" + source + "\"");
+    }
+}
@@ -0,0 +1,103 @@
+package xyz.overdyn.dyngui.form.requirements.expression;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.regex.Pattern;
+
+/**
+ * Factory methods for building compiled requirement expressions.
+ *
+ * <p>All methods run at load time. Parsing, regex compilation and placeholder
+ * extraction happen here once, so the produced {@link Expression} trees can be
+ * evaluated repeatedly without any further parsing.</p>
+ */
+public final class Expressions {
+
+    private Expressions() {
+    }
+
+    /**
+     * Parses an expression such as {@code %player_level% >= 10 && perm('vip')}.
+     *
+     * @param source  expression source
+     * @param symbols symbol table receiving placeholders and permissions
+     * @return compiled expression
+     * @throws IllegalArgumentException on syntax errors
+     */
+    public static @NotNull Expression parse(@NotNull String source, @NotNull SymbolTable symbols) {
+        return new ExpressionParser(source, symbols).parse();
+    }
+
+    /**
+     * Compiles text with embedded placeholders, e.g. {@code "%player_name%"}.
+     *
+     * @param text    raw text
+     * @param symbols symbol table receiving placeholders
+     * @return compiled text expression
+     */
+    public static @NotNull Expression template(@NotNull String text, @NotNull SymbolTable symbols) {
+        return ExpressionParser.template(text, symbols);
+    }
+
+    /**
+     * Creates a permission check.
+     *
+     * @param node    permission node
+     * @param symbols symbol table receiving the node
+     * @return permission expression
+     */
+    public static @NotNull Expression permission(@NotNull String node, @NotNull SymbolTable symbols) {
+        symbols.permission(node);
+        return new Nodes.Permission(node);
+    }
+
+    /**
+     * Creates a case-insensitive string equality check.
+     */
+    public static @NotNull Expression equalsIgnoreCase(@NotNull Expression left, @NotNull Expression right) {
+        return new Nodes.StringTest(Nodes.StringPredicate.EQUALS_IGNORE_CASE, left, right);
+    }
+
+    /**
+     * Creates a substring check.
+     */
+    public static @NotNull Expression contains(@NotNull Expression left, @NotNull Expression right) {
+        return new Nodes.StringTest(Nodes.StringPredicate.CONTAINS, left, right);
+    }
+
+    /**
+     * Creates a full-match regex check against a pattern compiled now.
+     *
+     * @param operand value to test
+     * @param regex   regular expression
+     * @return regex expression
+     * @throws java.util.regex.PatternSyntaxException if the regex is invalid
+     */
+    public static @NotNull Expression matches(@NotNull Expression operand, @NotNull String regex) {
+        return new Nodes.RegexMatch(operand, Pattern.compile(regex));
+    }
+
+    /**
+     * Negates an expression.
+     */
+    public static @NotNull Expression not(@NotNull Expression expression) {
+        return new Nodes.Not(expression);
+    }
+
+    /**
+     * Returns a constant boolean expression.
+     */
+    public static @NotNull Expression constant(boolean value) {
+        return Nodes.Constant.of(value);
+    }
+
+    /**
+     * Checks whether an expression is a constant and needs no context to evaluate.
+     *
+     * @param expression expression to check
+     * @return {@code true} for constants
+     */
+    public static boolean isConstant(@NotNull Expression expression) {
+        return expression instanceof Nodes.Constant;
+    }
+}
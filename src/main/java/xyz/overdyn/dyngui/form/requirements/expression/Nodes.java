@@ -0,0 +1,481 @@
+package xyz.overdyn.dyngui.form.requirements.expression;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Expression node implementations produced by {@link ExpressionParser}.
+ */
+final class Nodes {
+
+    private Nodes() {
+    }
+
+    /* ========================================================= */
+    /* ======================== LEAVES ========================= */
+    /* ========================================================= */
+
+    /** Literal value with all three representations precomputed. */
+    static final class Constant implements Expression {
+        static final Constant TRUE = new Constant(Kind.BOOLEAN, 1, "true", true);
+        static final Constant FALSE = new Constant(Kind.BOOLEAN, 0, "false", false);
+
+        private final Kind kind;
+        private final double number;
+        private final String string;
+        private final boolean bool;
+
+        private Constant(Kind kind, double number, String string, boolean bool) {
+            this.kind = kind;
+            this.number = number;
+            this.string = string;
+            this.bool = bool;
+        }
+
+        static Constant of(boolean value) {
+            return value ? TRUE : FALSE;
+        }
+
+        static Constant number(double value, @NotNull String source) {
+            return new Constant(Kind.NUMBER, value, source, value != 0);
+        }
+
+        static Constant string(@NotNull String value) {
+            return new Constant(Kind.STRING, Values.toNumber(value), value, Values.toBoolean(value));
+        }
+
+        @NotNull String text() {
+            return string;
+        }
+
+        @Override public @NotNull Kind kind() { return kind; }
+        @Override public double number(@NotNull EvaluationContext context) { return number; }
+        @Override public @NotNull String string(@NotNull EvaluationContext context) { return string; }
+        @Override public boolean bool(@NotNull EvaluationContext context) { return bool; }
+    }
+
+    /** Reference to a pre-extracted placeholder. */
+    static final class PlaceholderRef implements Expression {
+        private final int index;
+
+        PlaceholderRef(int index) {
+            this.index = index;
+        }
+
+        @Override public @NotNull Kind kind() { return Kind.DYNAMIC; }
+        @Override public double number(@NotNull EvaluationContext context) { return context.number(index); }
+        @Override public @NotNull String string(@NotNull EvaluationContext context) { return context.value(index); }
+        @Override public boolean bool(@NotNull EvaluationContext context) { return Values.toBoolean(context.value(index)); }
+    }
+
+    /** Text with embedded placeholders, e.g. {@code "Hello %player_name%"}. */
+    static final class Template implements Expression {
+        private final String[] literals;
+        private final int[] refs;
+
+        /**
+         * @param literals literal parts, {@code refs.length + 1} entries
+         * @param refs     placeholder indices between literal parts
+         */
+        Template(String[] literals, int[] refs) {
+            this.literals = literals;
+            this.refs = refs;
+        }
+
+        @Override public @NotNull Kind kind() { return Kind.STRING; }
+
+        @Override
+        public double number(@NotNull EvaluationContext context) {
+            return Values.toNumber(string(context));
+        }
+
+        @Override
+        public @NotNull String string(@NotNull EvaluationContext context) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < refs.length; i++) {
+                builder.append(literals[i]).append(context.value(refs[i]));
+            }
+            return builder.append(literals[refs.length]).toString();
+        }
+
+        @Override
+        public boolean bool(@NotNull EvaluationContext context) {
+            return Values.toBoolean(string(context));
+        }
+    }
+
+    /* ========================================================= */
+    /* ===================== BASE CLASSES ====================== */
+    /* ========================================================= */
+
+    /** Node whose natural result is a boolean. */
+    abstract static class BooleanNode implements Expression {
+        @Override public final @NotNull Kind kind() { return Kind.BOOLEAN; }
+        @Override public final double number(@NotNull EvaluationContext context) { return bool(context) ? 1 : 0; }
+        @Override public final @NotNull String string(@NotNull EvaluationContext context) { return bool(context) ? "true" : "false"; }
+    }
+
+    /** Node whose natural result is a number. */
+    abstract static class NumberNode implements Expression {
+        @Override public final @NotNull Kind kind() { return Kind.NUMBER; }
+        @Override public final @NotNull String string(@NotNull EvaluationContext context) { return Values.toString(number(context)); }
+        @Override public final boolean bool(@NotNull EvaluationContext context) {
+            double value = number(context);
+            return !Double.isNaN(value) && value != 0;
+        }
+    }
+
+    /** Node whose natural result is a string. */
+    abstract static class StringNode implements Expression {
+        @Override public final @NotNull Kind kind() { return Kind.STRING; }
+        @Override public final double number(@NotNull EvaluationContext context) { return Values.toNumber(string(context)); }
+        @Override public final boolean bool(@NotNull EvaluationContext context) { return Values.toBoolean(string(context)); }
+    }
+
+    /* ========================================================= */
+    /* ====================== COMBINATORS ====================== */
+    /* ========================================================= */
+
+    static final class Not extends BooleanNode {
+        private final Expression operand;
+
+        Not(Expression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean bool(@NotNull EvaluationContext context) {
+            return !operand.bool(context);
+        }
+    }
+
+    static final class And extends BooleanNode {
+        private final Expression left;
+        private final Expression right;
+
+        And(Expression left, Expression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean bool(@NotNull EvaluationContext context) {
+            return left.bool(context) && right.bool(context);
+        }
+    }
+
+    static final class Or extends BooleanNode {
+        private final Expression left;
+        private final Expression right;
+
+        Or(Expression left, Expression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean bool(@NotNull EvaluationContext context) {
+            return left.bool(context) || right.bool(context);
+        }
+    }
+
+    /* ========================================================= */
+    /* ====================== ARITHMETIC ======================= */
+    /* ========================================================= */
+
+    enum ArithmeticOperator { ADD, SUBTRACT, MULTIPLY, DIVIDE, MODULO }
+
+    static final class Arithmetic extends NumberNode {
+        private final ArithmeticOperator operator;
+        private final Expression left;
+        private final Expression right;
+
+        Arithmetic(ArithmeticOperator operator, Expression left, Expression right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public double number(@NotNull EvaluationContext context) {
+            double a = left.number(context);
+            double b = right.number(context);
+            return switch (operator) {
+                case ADD -> a + b;
+                case SUBTRACT -> a - b;
+                case MULTIPLY -> a * b;
+                case DIVIDE -> a / b;
+                case MODULO -> a % b;
+            };
+        }
+    }
+
+    static final class Negate extends NumberNode {
+        private final Expression operand;
+
+        Negate(Expression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public double number(@NotNull EvaluationContext context) {
+            return -operand.number(context);
+        }
+    }
+
+    static final class Concat extends StringNode {
+        private final Expression left;
+        private final Expression right;
+
+        Concat(Expression left, Expression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public @NotNull String string(@NotNull EvaluationContext context) {
+            return left.string(context).concat(right.string(context));
+        }
+    }
+
+    /* ========================================================= */
+    /* ====================== COMPARISON ======================= */
+    /* ========================================================= */
+
+    enum CompareOperator { EQ, NE, LT, LE, GT, GE }
+
+    /**
+     * Comparison with the legacy {@code math} semantics: numeric when both sides are
+     * numbers, otherwise exact string comparison for {@code ==}/{@code !=} and
+     * {@code false} for ordering operators.
+     */
+    static final class Compare extends BooleanNode {
+        private final CompareOperator operator;
+        private final Expression left;
+        private final Expression right;
+        private final boolean textual;
+
+        Compare(CompareOperator operator, Expression left, Expression right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+            this.textual = isText(left) || isText(right);
+        }
+
+        private static boolean isText(Expression expression) {
+            return expression.kind() == Kind.STRING
+                    && !(expression instanceof Constant constant && !Double.isNaN(constant.number)); // numeric literal in quotes
+        }
+
+        @Override
+        public boolean bool(@NotNull EvaluationContext context) {
+            if (!textual) {
+                double a = left.number(context);
+                double b = right.number(context);
+                if (!Double.isNaN(a) && !Double.isNaN(b)) {
+                    return switch (operator) {
+                        case EQ -> a == b;
+                        case NE -> a != b;
+                        case LT -> a < b;
+                        case LE -> a <= b;
+                        case GT -> a > b;
+                        case GE -> a >= b;
+                    };
+                }
+            }
+            return switch (operator) {
+                case EQ -> left.string(context).equals(right.string(context));
+                case NE -> !left.string(context).equals(right.string(context));
+                default -> {
+                    // Text is only ordered when both sides are versions, e.g. 1.20.4 >= 1.18
+                    int order = Values.compareVersions(left.string(context), right.string(context));
+                    yield order != Values.UNORDERED && switch (operator) {
+                        case LT -> order < 0;
+                        case LE -> order <= 0;
+                        case GT -> order > 0;
+                        default -> order >= 0;
+                    };
+                }
+            };
+        }
+    }
+
+    /* ========================================================= */
+    /* ======================== STRINGS ======================== */
+    /* ========================================================= */
+
+    enum StringPredicate { EQUALS_IGNORE_CASE, CONTAINS, STARTS_WITH, ENDS_WITH }
+
+    static final class StringTest extends BooleanNode {
+        private final StringPredicate predicate;
+        private final Expression left;
+        private final Expression right;
+
+        StringTest(StringPredicate predicate, Expression left, Expression right) {
+            this.predicate = predicate;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean bool(@NotNull EvaluationContext context) {
+            String a = left.string(context);
+            String b = right.string(context);
+            return switch (predicate) {
+                case EQUALS_IGNORE_CASE -> a.equalsIgnoreCase(b);
+                case CONTAINS -> a.contains(b);
+                case STARTS_WITH -> a.startsWith(b);
+                case ENDS_WITH -> a.endsWith(b);
+            };
+        }
+    }
+
+    enum StringFunction { LOWER, UPPER, TRIM }
+
+    static final class StringTransform extends StringNode {
+        private final StringFunction function;
+        private final Expression operand;
+
+        StringTransform(StringFunction function, Expression operand) {
+            this.function = function;
+            this.operand = operand;
+        }
+
+        @Override
+        public @NotNull String string(@NotNull EvaluationContext context) {
+            String value = operand.string(context);
+            return switch (function) {
+                case LOWER -> value.toLowerCase(Locale.ROOT);
+                case UPPER -> value.toUpperCase(Locale.ROOT);
+                case TRIM -> value.trim();
+            };
+        }
+    }
+
+    static final class Length extends NumberNode {
+        private final Expression operand;
+
+        Length(Expression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public double number(@NotNull EvaluationContext context) {
+            return operand.string(context).length();
+        }
+    }
+
+    static final class IsNumber extends BooleanNode {
+        private final Expression operand;
+
+        IsNumber(Expression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean bool(@NotNull EvaluationContext context) {
+            return !Double.isNaN(operand.number(context));
+        }
+    }
+
+    /* ========================================================= */
+    /* ========================= REGEX ========================= */
+    /* ========================================================= */
+
+    /** Regex match against a pattern compiled at load time. */
+    static final class RegexMatch extends BooleanNode {
+        private final Expression operand;
+        private final Pattern pattern;
+
+        RegexMatch(Expression operand, Pattern pattern) {
+            this.operand = operand;
+            this.pattern = pattern;
+        }
+
+        @Override
+        public boolean bool(@NotNull EvaluationContext context) {
+            return pattern.matcher(operand.string(context)).matches();
+        }
+    }
+
+    /** Regex match against a pattern produced at runtime; the last pattern is reused. */
+    static final class DynamicRegexMatch extends BooleanNode {
+        private final Expression operand;
+        private final Expression source;
+        private volatile Pattern last;
+
+        DynamicRegexMatch(Expression operand, Expression source) {
+            this.operand = operand;
+            this.source = source;
+        }
+
+        @Override
+        public boolean bool(@NotNull EvaluationContext context) {
+            String regex = source.string(context);
+            Pattern pattern = last;
+            if (pattern == null || !pattern.pattern().equals(regex)) {
+                try {
+                    pattern = Pattern.compile(regex);
+                } catch (Exception e) {
+                    return false;
+                }
+                last = pattern;
+            }
+            return pattern.matcher(operand.string(context)).matches();
+        }
+    }
+
+    /* ========================================================= */
+    /* ========================= MATH ========================== */
+    /* ========================================================= */
+
+    enum MathFunction { ABS, FLOOR, CEIL, ROUND, MIN, MAX }
+
+    static final class MathCall extends NumberNode {
+        private final MathFunction function;
+        private final Expression first;
+        private final Expression second;
+
+        MathCall(MathFunction function, Expression first, Expression second) {
+            this.function = function;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public double number(@NotNull EvaluationContext context) {
+            double a = first.number(context);
+            return switch (function) {
+                case ABS -> Math.abs(a);
+                case FLOOR -> Math.floor(a);
+                case CEIL -> Math.ceil(a);
+                case ROUND -> Math.round(a);
+                case MIN -> Math.min(a, second.number(context));
+                case MAX -> Math.max(a, second.number(context));
+            };
+        }
+    }
+
+    /* ========================================================= */
+    /* ====================== PERMISSIONS ====================== */
+    /* ========================================================= */
+
+    static final class Permission extends BooleanNode {
+        private final String node;
+
+        Permission(String node) {
+            this.node = node;
+        }
+
+        String node() {
+            return node;
+        }
+
+        @Override
+        public boolean bool(@NotNull EvaluationContext context) {
+            return context.hasPermission(node);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package xyz.overdyn.dyngui.form.requirements.expression;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * External inputs referenced by a compiled expression.
+ *
+ * <p>Collected while parsing: every distinct placeholder token gets a dense index
+ * used by {@link EvaluationContext}, and every permission node checked by the
+ * expression is recorded so callers can reason about what a requirement depends on.</p>
+ */
+public final class SymbolTable {
+
+    private final Map<String, Integer> placeholders = new LinkedHashMap<>();
+    private final List<String> permissions = new ArrayList<>();
+
+    /**
+     * Returns the index of a placeholder token, registering it if necessary.
+     *
+     * @param token placeholder token including {@code %} delimiters
+     * @return dense placeholder index
+     */
+    int placeholder(@NotNull String token) {
+        return placeholders.computeIfAbsent(token, key -> placeholders.size());
+    }
+
+    /**
+     * Records a permission node checked by the expression.
+     *
+     * @param node permission node
+     */
+    void permission(@NotNull String node) {
+        if (!permissions.contains(node)) permissions.add(node);
+    }
+
+    /**
+     * Returns all placeholder tokens ordered by index.
+     *
+     * @return placeholder tokens
+     */
+    public @NotNull String[] placeholders() {
+        return placeholders.keySet().toArray(String[]::new);
+    }
+
+    /**
+     * Returns all permission nodes referenced by the expression.
+     *
+     * @return permission nodes
+     */
+    public @NotNull String[] permissions() {
+        return permissions.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,130 @@
+package xyz.overdyn.dyngui.form.requirements.expression;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Value conversions shared by expression nodes.
+ */
+final class Values {
+
+    /** Result of {@link #compareVersions(String, String)} for texts that are not versions. */
+    static final int UNORDERED = Integer.MIN_VALUE;
+
+    private Values() {
+    }
+
+    /**
+     * Parses a number without throwing.
+     *
+     * <p>Strings that cannot possibly be numbers are rejected by a character scan
+     * before {@link Double#parseDouble(String)} is attempted, so the common
+     * "not a number" case never builds an exception.</p>
+     *
+     * @param text text to parse
+     * @return parsed value or {@link Double#NaN}
+     */
+    static double toNumber(@NotNull String text) {
+        int length = text.length();
+        if (length == 0) return Double.NaN;
+
+        boolean digit = false;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (c != '.' && c != '-' && c != '+' && c != 'e' && c != 'E' && c != ' ') {
+                return Double.NaN;
+            }
+        }
+        if (!digit) return Double.NaN;
+
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Compares two dotted versions such as {@code 1.20.4} segment by segment; missing
+     * segments count as zero, so {@code 1.20} equals {@code 1.20.0}.
+     *
+     * @param a first version
+     * @param b second version
+     * @return negative, zero or positive like a comparator, or {@link #UNORDERED} if either
+     *         text is not a dotted version
+     */
+    static int compareVersions(@NotNull String a, @NotNull String b) {
+        if (!isVersion(a) || !isVersion(b)) return UNORDERED;
+
+        int i = 0;
+        int j = 0;
+        while (i < a.length() || j < b.length()) {
+            int endA = segmentEnd(a, i);
+            int endB = segmentEnd(b, j);
+            int order = compareSegments(a, i, endA, b, j, endB);
+            if (order != 0) return order;
+            i = endA + 1;
+            j = endB + 1;
+        }
+        return 0;
+    }
+
+    private static boolean isVersion(String text) {
+        if (text.isEmpty() || text.charAt(0) == '.' || text.charAt(text.length() - 1) == '.') return false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '.') {
+                if (text.charAt(i - 1) == '.') return false;
+            } else if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int segmentEnd(String text, int start) {
+        if (start >= text.length()) return start;
+        int end = text.indexOf('.', start);
+        return end < 0 ? text.length() : end;
+    }
+
+    /** Compares two digit runs numerically without parsing; empty runs count as zero. */
+    private static int compareSegments(String a, int fromA, int toA, String b, int fromB, int toB) {
+        while (fromA < toA - 1 && a.charAt(fromA) == '0') fromA++;
+        while (fromB < toB - 1 && b.charAt(fromB) == '0') fromB++;
+        int lengthA = toA - fromA == 1 && a.charAt(fromA) == '0' ? 0 : toA - fromA;
+        int lengthB = toB - fromB == 1 && b.charAt(fromB) == '0' ? 0 : toB - fromB;
+        if (lengthA != lengthB) return Integer.compare(lengthA, lengthB);
+        for (int k = 0; k < lengthA; k++) {
+            int order = Character.compare(a.charAt(fromA + k), b.charAt(fromB + k));
+            if (order != 0) return order;
+        }
+        return 0;
+    }
+
+    /**
+     * Converts text to a boolean.
+     *
+     * @param text text to convert
+     * @return {@code true} for {@code "true"}, {@code "yes"} and non-zero numbers
+     */
+    static boolean toBoolean(@NotNull String text) {
+        if (text.equalsIgnoreCase("true") || text.equalsIgnoreCase("yes")) return true;
+        double number = toNumber(text);
+        return !Double.isNaN(number) && number != 0;
+    }
+
+    /**
+     * Formats a number the way placeholders usually print it.
+     *
+     * @param value number to format
+     * @return integral values without a fraction, others as {@link Double#toString(double)}
+     */
+    static @NotNull String toString(double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+}
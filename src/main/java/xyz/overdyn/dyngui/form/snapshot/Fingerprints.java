@@ -0,0 +1,50 @@
+package xyz.overdyn.dyngui.form.snapshot;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.form.Button;
+import xyz.overdyn.dyngui.form.v2.InventoryUI;
+
+/**
+ * Content fingerprints of buttons, based on their snapshot encoding.
+ *
+ * <p>Two buttons with equal fingerprints render and behave identically. Unlike record
+ * equality, fingerprints compare requirements by their configured form rather than by the
+ * identity of their compiled expressions, so a re-parsed unchanged button matches.</p>
+ */
+@UtilityClass
+public class Fingerprints {
+
+    /**
+     * Returns the fingerprint of a {@link Button}.
+     *
+     * @param button button
+     * @return fingerprint, or {@code null} if the button cannot be encoded
+     */
+    public byte @Nullable [] of(@NotNull Button button) {
+        try {
+            SnapshotOutput out = new SnapshotOutput();
+            MenuCodec.INSTANCE.writeButton(button, out);
+            return out.toByteArray();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the fingerprint of an {@link InventoryUI.Button}.
+     *
+     * @param button button
+     * @return fingerprint, or {@code null} if the button cannot be encoded
+     */
+    public byte @Nullable [] of(@NotNull InventoryUI.Button button) {
+        try {
+            SnapshotOutput out = new SnapshotOutput();
+            InventoryUICodec.INSTANCE.writeButton(button, out);
+            return out.toByteArray();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
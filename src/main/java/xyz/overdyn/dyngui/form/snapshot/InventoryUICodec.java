@@ -0,0 +1,223 @@
+package xyz.overdyn.dyngui.form.snapshot;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.form.v2.InventoryUI;
+import xyz.overdyn.dyngui.form.v2.InventoryUI.Button.ButtonProperty;
+import xyz.overdyn.dyngui.form.v2.InventoryUI.MenuProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot codec of the {@link InventoryUI} model produced by {@link xyz.overdyn.dyngui.form.v2.GuiForm}.
+ *
+ * <p>Derived properties are not stored: {@link MenuProperty#SLOT_VARIANTS} is rebuilt when a
+ * menu is read, and {@link ButtonProperty#GUI_ITEM} is created by {@link InventoryUI#build()}
+ * as usual. Requirements are stored in their configured form and compiled again when read.</p>
+ */
+final class InventoryUICodec implements SnapshotCodec<InventoryUI> {
+
+    static final InventoryUICodec INSTANCE = new InventoryUICodec();
+
+    private InventoryUICodec() {
+    }
+
+    @Override
+    public int model() {
+        return 2;
+    }
+
+    @Override
+    public void write(@NotNull InventoryUI menu, @NotNull SnapshotOutput out) {
+        out.writeString(menu.meta(MenuProperty.MENU_ID));
+        out.writeString(menu.meta(MenuProperty.TITLE));
+        out.writeInt(menu.metaInt(MenuProperty.SIZE));
+        out.writeEnum(menu.meta(MenuProperty.TYPE));
+        out.writeValues(menu.meta(MenuProperty.META));
+        out.writeInt(menu.metaInt(MenuProperty.UPDATE_INTERVAL));
+        out.writeInt(menu.metaInt(MenuProperty.REFRESH_INTERVAL));
+        out.writeStrings(menu.meta(MenuProperty.OPEN_COMMANDS));
+        out.writeStrings(menu.meta(MenuProperty.CLOSE_COMMANDS));
+        out.writeInt(menu.metaInt(MenuProperty.PRIORITY));
+
+        Map<String, InventoryUI.Button> buttons = menu.meta(MenuProperty.BUTTONS);
+        out.writeInt(buttons.size());
+        for (Map.Entry<String, InventoryUI.Button> entry : buttons.entrySet()) {
+            out.writeString(entry.getKey());
+            writeButton(entry.getValue(), out);
+        }
+    }
+
+    @Override
+    public @NotNull InventoryUI read(@NotNull SnapshotInput in) {
+        InventoryUI menu = new InventoryUI()
+                .with(MenuProperty.MENU_ID, in.readString())
+                .with(MenuProperty.TITLE, in.readString())
+                .with(MenuProperty.SIZE, in.readInt());
+
+        InventoryType type = in.readEnum(InventoryType.class);
+        if (type != null) menu.with(MenuProperty.TYPE, type);
+
+        menu.with(MenuProperty.META, in.readValues())
+                .with(MenuProperty.UPDATE_INTERVAL, in.readInt())
+                .with(MenuProperty.REFRESH_INTERVAL, in.readInt())
+                .with(MenuProperty.OPEN_COMMANDS, in.readStrings())
+                .with(MenuProperty.CLOSE_COMMANDS, in.readStrings())
+                .with(MenuProperty.PRIORITY, in.readInt());
+
+        int count = in.readInt();
+        Map<String, InventoryUI.Button> buttons = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            buttons.put(in.readString(), readButton(in));
+        }
+
+        menu.with(MenuProperty.BUTTONS, buttons);
+        menu.with(MenuProperty.SLOT_VARIANTS, InventoryUI.slotVariants(buttons.values()));
+        return menu;
+    }
+
+    void writeButton(InventoryUI.Button button, SnapshotOutput out) {
+        out.writeString(button.meta(ButtonProperty.ID));
+        out.writeValues(button.meta(ButtonProperty.META));
+        out.writeInt(button.metaInt(ButtonProperty.SLOT));
+        out.writeString(button.meta(ButtonProperty.DISPLAY_NAME));
+        out.writeStrings(button.meta(ButtonProperty.DISPLAY_LORE));
+        out.writeString(button.meta(ButtonProperty.MATERIAL));
+        out.writeInt(button.metaInt(ButtonProperty.PRIORITY));
+        out.writeInt(button.metaInt(ButtonProperty.AMOUNT));
+        out.writeInt(button.metaInt(ButtonProperty.CUSTOM_MODEL_DATA));
+
+        List<ItemFlag> flags = button.meta(ButtonProperty.ITEM_FLAGS);
+        out.writeInt(flags.size());
+        for (ItemFlag flag : flags) out.writeEnum(flag);
+
+        Map<Enchantment, Integer> enchantments = button.meta(ButtonProperty.ITEM_ENCHANTMENTS);
+        out.writeInt(enchantments.size());
+        enchantments.forEach((enchantment, level) -> {
+            out.writeString(enchantment.getKey().toString());
+            out.writeInt(level);
+        });
+
+        ItemStack itemStack = button.meta(ButtonProperty.ITEM_STACK);
+        out.writeBytes(itemStack == null ? null : itemStack.serializeAsBytes());
+
+        List<InventoryUI.SimpleRequirement> viewRequirements = button.meta(ButtonProperty.VIEW_REQUIREMENTS);
+        out.writeInt(viewRequirements.size());
+        for (InventoryUI.SimpleRequirement req : viewRequirements) {
+            out.writeString(req.type());
+            out.writeString(req.input());
+            out.writeString(req.output());
+            out.writeString(req.permission());
+            out.writeStrings(req.success_commands());
+            out.writeStrings(req.failure_commands());
+        }
+
+        List<InventoryUI.Command> commands = button.meta(ButtonProperty.COMMANDS);
+        out.writeInt(commands.size());
+        for (InventoryUI.Command command : commands) {
+            out.writeBoolean(command.isAnyClick());
+            out.writeEnum(command.getClickType());
+            out.writeStrings(command.getActions());
+
+            out.writeInt(command.getRequirements().size());
+            for (InventoryUI.ClickRequirement req : command.getRequirements()) {
+                out.writeBoolean(req.isAnyClick());
+                out.writeEnum(req.getClickType());
+                out.writeString(req.getType());
+                out.writeString(req.getInput());
+                out.writeString(req.getOutput());
+                out.writeString(req.getPermission());
+                out.writeStrings(req.getSuccessActions());
+                out.writeStrings(req.getFailActions());
+            }
+        }
+
+        out.writeBoolean(button.metaBoolean(ButtonProperty.UPDATE));
+        out.writeBoolean(button.metaBoolean(ButtonProperty.PLACEHOLDER));
+        out.writeValues(button.meta(ButtonProperty.CUSTOM_VALUES));
+    }
+
+    private InventoryUI.Button readButton(SnapshotInput in) {
+        InventoryUI.Button button = new InventoryUI.Button()
+                .with(ButtonProperty.ID, in.readString())
+                .with(ButtonProperty.META, in.readValues())
+                .with(ButtonProperty.SLOT, in.readInt())
+                .with(ButtonProperty.DISPLAY_NAME, in.readString())
+                .with(ButtonProperty.DISPLAY_LORE, in.readStrings())
+                .with(ButtonProperty.MATERIAL, in.readString())
+                .with(ButtonProperty.PRIORITY, in.readInt())
+                .with(ButtonProperty.AMOUNT, in.readInt())
+                .with(ButtonProperty.CUSTOM_MODEL_DATA, in.readInt());
+
+        int flagCount = in.readInt();
+        List<ItemFlag> flags = new ArrayList<>(flagCount);
+        for (int i = 0; i < flagCount; i++) flags.add(in.readEnum(ItemFlag.class));
+        button.with(ButtonProperty.ITEM_FLAGS, flags);
+
+        int enchantmentCount = in.readInt();
+        Map<Enchantment, Integer> enchantments = new HashMap<>();
+        for (int i = 0; i < enchantmentCount; i++) {
+            String key = in.readString();
+            int level = in.readInt();
+            Enchantment enchantment = key == null ? null : Enchantment.getByKey(NamespacedKey.fromString(key));
+            if (enchantment != null) enchantments.put(enchantment, level);
+        }
+        button.with(ButtonProperty.ITEM_ENCHANTMENTS, enchantments);
+
+        byte[] itemBytes = in.readBytes();
+        if (itemBytes != null) button.with(ButtonProperty.ITEM_STACK, ItemStack.deserializeBytes(itemBytes));
+
+        int viewCount = in.readInt();
+        List<InventoryUI.SimpleRequirement> viewRequirements = new ArrayList<>(viewCount);
+        for (int i = 0; i < viewCount; i++) {
+            viewRequirements.add(new InventoryUI.SimpleRequirement(
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    in.readStrings(),
+                    in.readStrings()
+            ));
+        }
+        button.with(ButtonProperty.VIEW_REQUIREMENTS, viewRequirements);
+
+        int commandCount = in.readInt();
+        List<InventoryUI.Command> commands = new ArrayList<>(commandCount);
+        for (int i = 0; i < commandCount; i++) {
+            boolean anyClick = in.readBoolean();
+            ClickType clickType = in.readEnum(ClickType.class);
+            List<String> actions = in.readStrings();
+
+            int requirementCount = in.readInt();
+            List<InventoryUI.ClickRequirement> requirements = new ArrayList<>(requirementCount);
+            for (int r = 0; r < requirementCount; r++) {
+                requirements.add(new InventoryUI.ClickRequirement(
+                        in.readBoolean(),
+                        in.readEnum(ClickType.class),
+                        in.readString(),
+                        in.readString(),
+                        in.readString(),
+                        in.readString(),
+                        in.readStrings(),
+                        in.readStrings()
+                ));
+            }
+            commands.add(new InventoryUI.Command(anyClick, clickType, actions, requirements));
+        }
+        button.with(ButtonProperty.COMMANDS, commands);
+
+        return button
+                .with(ButtonProperty.UPDATE, in.readBoolean())
+                .with(ButtonProperty.PLACEHOLDER, in.readBoolean())
+                .with(ButtonProperty.CUSTOM_VALUES, in.readValues());
+    }
+}
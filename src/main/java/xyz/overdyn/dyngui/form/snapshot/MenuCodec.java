@@ -0,0 +1,205 @@
+package xyz.overdyn.dyngui.form.snapshot;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.form.Button;
+import xyz.overdyn.dyngui.form.ButtonCommand;
+import xyz.overdyn.dyngui.form.Menu;
+import xyz.overdyn.dyngui.form.requirements.ClickRequirement;
+import xyz.overdyn.dyngui.form.requirements.ViewRequirement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshot codec of the {@link Menu} model produced by {@link xyz.overdyn.dyngui.form.GuiForm}.
+ *
+ * <p>The source configuration is not stored: on menus read from a snapshot, {@link Menu#config()}
+ * and {@link Button#itemSection()} throw. Requirements are stored in their configured form and are
+ * compiled again when read.</p>
+ *
+ * <p>Button items are stored as built by the parser, so a menu whose {@code material} contains
+ * placeholders cannot be snapshotted: the material was resolved once at parse time and must be
+ * resolved again on every load.</p>
+ */
+final class MenuCodec implements SnapshotCodec<Menu> {
+
+    static final MenuCodec INSTANCE = new MenuCodec();
+
+    private MenuCodec() {
+    }
+
+    @Override
+    public int model() {
+        return 1;
+    }
+
+    @Override
+    public void write(@NotNull Menu menu, @NotNull SnapshotOutput out) {
+        ConfigurationSection items = menu.config().getConfigurationSection("Items");
+        if (items != null) {
+            for (String key : items.getKeys(false)) {
+                String material = items.getString(key + ".material");
+                if (material != null && material.indexOf('%') >= 0) {
+                    throw new IllegalArgumentException("material of button " + key + " contains placeholders");
+                }
+            }
+        }
+
+        out.writeString(menu.id());
+        out.writeString(menu.title());
+        out.writeInt(menu.size());
+        out.writeEnum(menu.inventoryType());
+        out.writeStrings(menu.openCommands());
+        writeViewRequirements(menu.open_requirement(), out);
+        out.writeInt(menu.update_interval());
+        out.writeInt(menu.refresh_interval());
+        out.writeStrings(menu.close_commands());
+
+        out.writeInt(menu.buttons().size());
+        for (Button button : menu.buttons()) {
+            writeButton(button, out);
+        }
+    }
+
+    @Override
+    public @NotNull Menu read(@NotNull SnapshotInput in) {
+        String id = in.readString();
+        String title = in.readString();
+        int size = in.readInt();
+        InventoryType inventoryType = in.readEnum(InventoryType.class);
+        List<String> openCommands = in.readStrings();
+        List<ViewRequirement> openRequirements = readViewRequirements(in);
+        int updateInterval = in.readInt();
+        int refreshInterval = in.readInt();
+        List<String> closeCommands = in.readStrings();
+
+        int count = in.readInt();
+        List<Button> buttons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            buttons.add(readButton(in));
+        }
+
+        return new Menu(id, title, null, size, inventoryType, openCommands, openRequirements,
+                updateInterval, refreshInterval, closeCommands, buttons);
+    }
+
+    void writeButton(Button button, SnapshotOutput out) {
+        out.writeString(button.id());
+        out.writeInt(button.slot());
+        out.writeString(button.displayName());
+        out.writeStrings(button.lore());
+        out.writeInt(button.priority());
+        out.writeInt(button.amount());
+        out.writeInt(button.customModelData());
+
+        out.writeInt(button.itemFlags().size());
+        for (ItemFlag flag : button.itemFlags()) out.writeEnum(flag);
+
+        out.writeBytes(button.itemStack() == null ? null : button.itemStack().serializeAsBytes());
+        writeViewRequirements(button.viewRequirements(), out);
+
+        out.writeInt(button.buttonCommands().size());
+        for (ButtonCommand command : button.buttonCommands()) {
+            out.writeBoolean(command.anyClick());
+            out.writeEnum(command.clickType());
+            out.writeStrings(command.actions());
+
+            out.writeInt(command.clickRequirements().size());
+            for (ClickRequirement req : command.clickRequirements()) {
+                out.writeBoolean(req.anyClick());
+                out.writeEnum(req.clickType());
+                out.writeString(req.type());
+                out.writeString(req.input());
+                out.writeString(req.output());
+                out.writeString(req.permission());
+                out.writeStrings(req.success());
+                out.writeStrings(req.deny_commands());
+            }
+        }
+
+        out.writeBoolean(button.update());
+        out.writeBoolean(button.placeholder());
+        out.writeValues(button.customValues());
+    }
+
+    private Button readButton(SnapshotInput in) {
+        String id = in.readString();
+        int slot = in.readInt();
+        String displayName = in.readString();
+        List<String> lore = in.readStrings();
+        int priority = in.readInt();
+        int amount = in.readInt();
+        int customModelData = in.readInt();
+
+        int flagCount = in.readInt();
+        List<ItemFlag> itemFlags = new ArrayList<>(flagCount);
+        for (int i = 0; i < flagCount; i++) itemFlags.add(in.readEnum(ItemFlag.class));
+
+        byte[] itemBytes = in.readBytes();
+        ItemStack itemStack = itemBytes == null ? null : ItemStack.deserializeBytes(itemBytes);
+        List<ViewRequirement> viewRequirements = readViewRequirements(in);
+
+        int commandCount = in.readInt();
+        List<ButtonCommand> commands = new ArrayList<>(commandCount);
+        for (int i = 0; i < commandCount; i++) {
+            boolean anyClick = in.readBoolean();
+            ClickType clickType = in.readEnum(ClickType.class);
+            List<String> actions = in.readStrings();
+
+            int requirementCount = in.readInt();
+            List<ClickRequirement> requirements = new ArrayList<>(requirementCount);
+            for (int r = 0; r < requirementCount; r++) {
+                requirements.add(new ClickRequirement(
+                        in.readBoolean(),
+                        in.readEnum(ClickType.class),
+                        in.readString(),
+                        in.readString(),
+                        in.readString(),
+                        in.readString(),
+                        in.readStrings(),
+                        in.readStrings()
+                ));
+            }
+            commands.add(new ButtonCommand(anyClick, clickType, actions, requirements));
+        }
+
+        boolean update = in.readBoolean();
+        boolean placeholder = in.readBoolean();
+
+        return new Button(id, null, slot, displayName, lore, priority, amount, customModelData,
+                itemFlags, itemStack, viewRequirements, commands, update, placeholder, in.readValues());
+    }
+
+    private void writeViewRequirements(List<ViewRequirement> requirements, SnapshotOutput out) {
+        out.writeInt(requirements.size());
+        for (ViewRequirement req : requirements) {
+            out.writeString(req.type());
+            out.writeString(req.input());
+            out.writeString(req.output());
+            out.writeString(req.permission());
+            out.writeStrings(req.success());
+            out.writeStrings(req.deny_commands());
+        }
+    }
+
+    private List<ViewRequirement> readViewRequirements(SnapshotInput in) {
+        int count = in.readInt();
+        List<ViewRequirement> requirements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requirements.add(new ViewRequirement(
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    in.readStrings(),
+                    in.readStrings()
+            ));
+        }
+        return requirements;
+    }
+}
@@ -0,0 +1,266 @@
+package xyz.overdyn.dyngui.form.snapshot;
+
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.form.Menu;
+import xyz.overdyn.dyngui.form.loader.LoadReport;
+import xyz.overdyn.dyngui.form.loader.MenuLoader;
+import xyz.overdyn.dyngui.form.v2.InventoryUI;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads a directory of YAML menus through a precompiled binary snapshot.
+ *
+ * <p>The snapshot file stores the parsed menu model of every YAML file together with the
+ * SHA-256 hash of the file contents. On {@link #load(Path)} the snapshot is memory-mapped,
+ * and every file whose hash is unchanged is decoded straight from the mapped bytes instead
+ * of being parsed as YAML. Only new or modified files are parsed; the snapshot is rewritten
+ * when anything changed.</p>
+ *
+ * <p>Layout (big-endian):</p>
+ * <pre>
+ * int    magic "DGMS"
+ * int    format version
+ * int    model id
+ * int    entry count
+ * entry* { string path, bytes sha256, int offset, int length }
+ * bytes  payloads, offsets relative to the end of the index
+ * </pre>
+ *
+ * <p>A snapshot with another magic, version or model is ignored and rebuilt. Menus holding
+ * values that cannot be encoded (e.g. custom values of unknown types) are still loaded, but
+ * are not stored and therefore parsed on every load.</p>
+ *
+ * <p>Instances must not be used for concurrent loads.</p>
+ *
+ * @param <T> menu model type
+ */
+public final class MenuSnapshotStore<T> {
+
+    private static final int MAGIC = 0x44474D53;
+    private static final int VERSION = 1;
+
+    private final Path file;
+    private final SnapshotCodec<T> codec;
+    private final MenuLoader<T> loader;
+
+    MenuSnapshotStore(@NotNull Path file,
+                      @NotNull SnapshotCodec<T> codec,
+                      @NotNull MenuLoader<T> loader) {
+        this.file = file;
+        this.codec = codec;
+        this.loader = loader;
+    }
+
+    /**
+     * Creates a store for {@link Menu}s parsed by {@link xyz.overdyn.dyngui.form.GuiForm}.
+     *
+     * <p>Menus decoded from the snapshot do not keep their source configuration, see {@link Menu#config()}.
+     * Menus with placeholders in a button {@code material} are parsed on every load.</p>
+     *
+     * @param file snapshot file
+     * @return snapshot store
+     */
+    public static @NotNull MenuSnapshotStore<Menu> menus(@NotNull Path file) {
+        return new MenuSnapshotStore<>(file, MenuCodec.INSTANCE, MenuLoader.menus());
+    }
+
+    /**
+     * Creates a store for {@link InventoryUI}s parsed by {@link xyz.overdyn.dyngui.form.v2.GuiForm}.
+     *
+     * @param file snapshot file
+     * @return snapshot store
+     */
+    public static @NotNull MenuSnapshotStore<InventoryUI> inventories(@NotNull Path file) {
+        return new MenuSnapshotStore<>(file, InventoryUICodec.INSTANCE, MenuLoader.inventories());
+    }
+
+    /**
+     * Loads every {@code .yml} / {@code .yaml} file below a directory.
+     *
+     * <p>Files are processed in parallel by the underlying {@link MenuLoader}; hashing,
+     * snapshot decoding, parsing and encoding of each file all run on its workers.</p>
+     *
+     * @param directory menu directory
+     * @return load report; menus are keyed by their path relative to {@code directory}
+     * @throws IOException if the directory cannot be read
+     */
+    public @NotNull LoadReport<T> load(@NotNull Path directory) throws IOException {
+        Map<String, Entry> previous = readIndex();
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+        AtomicInteger reused = new AtomicInteger();
+
+        LoadReport<T> report = loader.load(directory, (name, source) -> {
+            byte[] hash = sha256(source);
+
+            Entry cached = previous.get(name);
+            if (cached != null && Arrays.equals(cached.hash, hash)) {
+                T menu = decode(name, cached);
+                if (menu != null) {
+                    entries.put(name, cached);
+                    reused.incrementAndGet();
+                    return menu;
+                }
+            }
+
+            T menu = loader.parse(source);
+            byte[] payload = encode(name, menu);
+            if (payload != null) entries.put(name, new Entry(name, hash, ByteBuffer.wrap(payload)));
+            return menu;
+        });
+
+        // Rewrite when a file was added, changed or removed since the snapshot was written.
+        if (entries.size() != reused.get() || previous.size() != reused.get()) {
+            write(new ArrayList<>(new TreeMap<>(entries).values()));
+        }
+
+        Bukkit.getLogger().info("[DynGUI] " + reused.get() + " of " + report.files() + " menu files read from snapshot");
+        return report;
+    }
+
+    /**
+     * Deletes the snapshot file, forcing every menu to be parsed on the next load.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    public void invalidate() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private @Nullable T decode(String name, Entry entry) {
+        try {
+            return codec.read(new SnapshotInput(entry.payload.duplicate()));
+        } catch (RuntimeException e) {
+            Bukkit.getLogger().warning("[DynGUI] Discarding snapshot of " + name + ": " + e);
+            return null;
+        }
+    }
+
+    private byte @Nullable [] encode(String name, T menu) {
+        try {
+            SnapshotOutput out = new SnapshotOutput();
+            codec.write(menu, out);
+            return out.toByteArray();
+        } catch (IllegalArgumentException e) {
+            Bukkit.getLogger().warning("[DynGUI] Menu " + name + " cannot be snapshotted: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Maps the snapshot file and reads its index.
+     *
+     * @return entries by path; empty if there is no usable snapshot
+     */
+    private Map<String, Entry> readIndex() {
+        if (!Files.isRegularFile(file)) return new HashMap<>();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            SnapshotInput in = new SnapshotInput(mapped);
+
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != codec.model()) {
+                return new HashMap<>();
+            }
+
+            int count = in.readInt();
+            String[] names = new String[count];
+            byte[][] hashes = new byte[count][];
+            int[] offsets = new int[count];
+            int[] lengths = new int[count];
+            for (int i = 0; i < count; i++) {
+                names[i] = in.readString();
+                hashes[i] = in.readBytes();
+                offsets[i] = in.readInt();
+                lengths[i] = in.readInt();
+            }
+
+            int base = mapped.position();
+            Map<String, Entry> entries = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                ByteBuffer payload = mapped.duplicate();
+                payload.position(base + offsets[i]).limit(base + offsets[i] + lengths[i]);
+                entries.put(names[i], new Entry(names[i], hashes[i], payload.slice()));
+            }
+            return entries;
+        } catch (IOException | RuntimeException e) {
+            Bukkit.getLogger().warning("[DynGUI] Ignoring unreadable menu snapshot " + file + ": " + e);
+            return new HashMap<>();
+        }
+    }
+
+    private void write(List<Entry> entries) {
+        SnapshotOutput header = new SnapshotOutput();
+        header.writeInt(MAGIC);
+        header.writeInt(VERSION);
+        header.writeInt(codec.model());
+        header.writeInt(entries.size());
+
+        int offset = 0;
+        for (Entry entry : entries) {
+            int length = entry.payload.remaining();
+            header.writeString(entry.name);
+            header.writeBytes(entry.hash);
+            header.writeInt(offset);
+            header.writeInt(length);
+            offset += length;
+        }
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeFully(channel, ByteBuffer.wrap(header.toByteArray()));
+                for (Entry entry : entries) {
+                    writeFully(channel, entry.payload.duplicate());
+                }
+            }
+
+            // Platforms that cannot replace a mapped file keep the old snapshot; it is rebuilt on the next load.
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Bukkit.getLogger().warning("[DynGUI] Failed to write menu snapshot " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Snapshot entry of a single menu file.
+     *
+     * @param name    path relative to the menu directory
+     * @param hash    SHA-256 of the file contents
+     * @param payload encoded menu, positioned at its start
+     */
+    private record Entry(String name, byte[] hash, ByteBuffer payload) {
+    }
+}
@@ -0,0 +1,36 @@
+package xyz.overdyn.dyngui.form.snapshot;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Encodes one parsed menu model to and from its snapshot payload.
+ *
+ * @param <T> menu model type
+ */
+interface SnapshotCodec<T> {
+
+    /**
+     * Returns the model identifier stored in the snapshot header.
+     * A snapshot written for another model is ignored.
+     *
+     * @return model identifier
+     */
+    int model();
+
+    /**
+     * Writes a parsed menu.
+     *
+     * @param value menu to write
+     * @param out   payload output
+     * @throws IllegalArgumentException if the menu holds values that cannot be stored
+     */
+    void write(@NotNull T value, @NotNull SnapshotOutput out);
+
+    /**
+     * Reads a menu written by {@link #write(Object, SnapshotOutput)}.
+     *
+     * @param in payload input
+     * @return decoded menu
+     */
+    @NotNull T read(@NotNull SnapshotInput in);
+}
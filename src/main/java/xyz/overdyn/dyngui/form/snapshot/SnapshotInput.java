@@ -0,0 +1,110 @@
+package xyz.overdyn.dyngui.form.snapshot;
+
+import org.bukkit.configuration.MemoryConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary reader for snapshot payloads, the counterpart of {@link SnapshotOutput}.
+ *
+ * <p>Reads directly from a (usually memory-mapped) {@link ByteBuffer}.</p>
+ */
+final class SnapshotInput {
+
+    private final ByteBuffer buffer;
+
+    SnapshotInput(@NotNull ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    int readInt() {
+        return buffer.getInt();
+    }
+
+    long readLong() {
+        return buffer.getLong();
+    }
+
+    double readDouble() {
+        return buffer.getDouble();
+    }
+
+    boolean readBoolean() {
+        return buffer.get() != 0;
+    }
+
+    byte readByte() {
+        return buffer.get();
+    }
+
+    byte @Nullable [] readBytes() {
+        int length = readInt();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Nullable String readString() {
+        byte[] bytes = readBytes();
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Nullable List<String> readStrings() {
+        int size = readInt();
+        if (size < 0) return null;
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) values.add(readString());
+        return values;
+    }
+
+    <E extends Enum<E>> @Nullable E readEnum(@NotNull Class<E> type) {
+        String name = readString();
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    @Nullable Object readValue() {
+        byte tag = readByte();
+        return switch (tag) {
+            case SnapshotOutput.VALUE_NULL -> null;
+            case SnapshotOutput.VALUE_STRING -> readString();
+            case SnapshotOutput.VALUE_INT -> readInt();
+            case SnapshotOutput.VALUE_LONG -> readLong();
+            case SnapshotOutput.VALUE_DOUBLE -> readDouble();
+            case SnapshotOutput.VALUE_BOOLEAN -> readBoolean();
+            case SnapshotOutput.VALUE_LIST -> {
+                int size = readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) list.add(readValue());
+                yield list;
+            }
+            case SnapshotOutput.VALUE_MAP -> {
+                int size = readInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) map.put(readString(), readValue());
+                yield map;
+            }
+            case SnapshotOutput.VALUE_SECTION -> {
+                MemoryConfiguration section = new MemoryConfiguration();
+                readValues().forEach(section::set);
+                yield section;
+            }
+            default -> throw new IllegalStateException("unknown value tag " + tag);
+        };
+    }
+
+    @NotNull Map<String, Object> readValues() {
+        int size = readInt();
+        Map<String, Object> values = new HashMap<>();
+        for (int i = 0; i < size; i++) values.put(readString(), readValue());
+        return values;
+    }
+}
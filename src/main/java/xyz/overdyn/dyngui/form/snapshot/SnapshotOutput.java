@@ -0,0 +1,158 @@
+package xyz.overdyn.dyngui.form.snapshot;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary writer for snapshot payloads.
+ *
+ * <p>Strings are written as a length-prefixed UTF-8 byte array, where a length of {@code -1}
+ * encodes {@code null}. Lists are written as a count followed by their elements.</p>
+ */
+final class SnapshotOutput {
+
+    static final byte VALUE_NULL = 0;
+    static final byte VALUE_STRING = 1;
+    static final byte VALUE_INT = 2;
+    static final byte VALUE_LONG = 3;
+    static final byte VALUE_DOUBLE = 4;
+    static final byte VALUE_BOOLEAN = 5;
+    static final byte VALUE_LIST = 6;
+    static final byte VALUE_MAP = 7;
+    static final byte VALUE_SECTION = 8;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+    private final DataOutputStream out = new DataOutputStream(buffer);
+
+    void writeInt(int value) {
+        try {
+            out.writeInt(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void writeLong(long value) {
+        try {
+            out.writeLong(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void writeDouble(double value) {
+        try {
+            out.writeDouble(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    void writeByte(int value) {
+        try {
+            out.writeByte(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void writeBytes(byte @Nullable [] bytes) {
+        if (bytes == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(bytes.length);
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void writeString(@Nullable String value) {
+        writeBytes(value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void writeStrings(@Nullable List<String> values) {
+        if (values == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(values.size());
+        for (String value : values) writeString(value);
+    }
+
+    /** Writes an enum constant by name, or {@code null}. */
+    void writeEnum(@Nullable Enum<?> value) {
+        writeString(value == null ? null : value.name());
+    }
+
+    /**
+     * Writes a configuration value.
+     *
+     * @param value value taken from a YAML configuration
+     * @throws IllegalArgumentException if the value type cannot be stored in a snapshot
+     */
+    void writeValue(@Nullable Object value) {
+        if (value == null) {
+            writeByte(VALUE_NULL);
+        } else if (value instanceof String s) {
+            writeByte(VALUE_STRING);
+            writeString(s);
+        } else if (value instanceof Integer i) {
+            writeByte(VALUE_INT);
+            writeInt(i);
+        } else if (value instanceof Long l) {
+            writeByte(VALUE_LONG);
+            writeLong(l);
+        } else if (value instanceof Double d) {
+            writeByte(VALUE_DOUBLE);
+            writeDouble(d);
+        } else if (value instanceof Boolean b) {
+            writeByte(VALUE_BOOLEAN);
+            writeBoolean(b);
+        } else if (value instanceof List<?> list) {
+            writeByte(VALUE_LIST);
+            writeInt(list.size());
+            for (Object element : list) writeValue(element);
+        } else if (value instanceof ConfigurationSection section) {
+            writeByte(VALUE_SECTION);
+            writeValues(section.getValues(false));
+        } else if (value instanceof Map<?, ?> map) {
+            writeByte(VALUE_MAP);
+            writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(String.valueOf(entry.getKey()));
+                writeValue(entry.getValue());
+            }
+        } else {
+            throw new IllegalArgumentException("unsupported value type " + value.getClass().getName());
+        }
+    }
+
+    /** Writes a string-keyed map of configuration values. */
+    void writeValues(@NotNull Map<String, ?> values) {
+        writeInt(values.size());
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            writeString(entry.getKey());
+            writeValue(entry.getValue());
+        }
+    }
+
+    byte @NotNull [] toByteArray() {
+        return buffer.toByteArray();
+    }
+}
@@ -3,16 +3,28 @@ package xyz.overdyn.dyngui.form.v2;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import xyz.overdyn.dyngui.abstracts.AbstractGuiLayer;
+import xyz.overdyn.dyngui.form.MenuTemplate;
+import xyz.overdyn.dyngui.form.SlotVariantTable;
+import xyz.overdyn.dyngui.form.loader.MenuDiff;
+import xyz.overdyn.dyngui.form.loader.ReloadableGui;
+import xyz.overdyn.dyngui.items.GuiItem;
 import xyz.overdyn.dyngui.policy.GuiPolicy;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+public class GuiBuilder extends AbstractGuiLayer implements ReloadableGui<InventoryUI> {
+
+    /** Menu this GUI was loaded from, or {@code null} for manually built GUIs. */
+    private @Nullable InventoryUI source;
+
+    /** Compiled template of {@link #source}, or {@code null} for manually built GUIs. */
+    private @Nullable MenuTemplate<InventoryUI.Button> template;
+
+    /** Per-viewer selection of the template's dynamic slots, or {@code null} for manually built GUIs. */
+    private @Nullable SlotVariantTable<InventoryUI.Button>.Selection selection;
 
-public class GuiBuilder extends AbstractGuiLayer {
     /**
      * Constructs a GUI layer with a custom inventory size.
      *
@@ -47,7 +59,7 @@ public class GuiBuilder extends AbstractGuiLayer {
                 GuiPolicy.Factories.HIGHEST
             );
         } else {
-            var size = inventoryUI.meta(InventoryUI.MenuProperty.SIZE);
+            int size = inventoryUI.metaInt(InventoryUI.MenuProperty.SIZE);
             gui = new GuiBuilder(
                     size == -1 ? 54 : size,
                     LegacyComponentSerializer.legacyAmpersand().deserialize(inventoryUI.meta(InventoryUI.MenuProperty.TITLE)),
@@ -55,36 +67,146 @@ public class GuiBuilder extends AbstractGuiLayer {
             );
         }
 
-        Map<Integer, List<InventoryUI.Button>> slotMap = new HashMap<>();
+        gui.source = inventoryUI;
+        gui.template = inventoryUI.template();
+        gui.selection = gui.template.dynamicTable().newSelection();
 
-        for (InventoryUI.Button button : inventoryUI.meta(InventoryUI.MenuProperty.BUTTONS).values()) {
-            int slot = button.meta(InventoryUI.Button.ButtonProperty.SLOT);
-            slotMap.computeIfAbsent(slot, k -> new ArrayList<>()).add(button);
-        }
+        // View requirements need a viewer, so buttons are selected when the GUI is opened.
+        gui.onOpen(event -> {
+            gui.template.fill(gui.getInventory());
+            gui.refreshButtons();
+            gui.scheduleUpdates();
+        });
 
+        return gui;
+    }
 
-        for (Map.Entry<Integer, List<InventoryUI.Button>> entry : slotMap.entrySet()) {
-            List<InventoryUI.Button> candidates = entry.getValue();
+    /**
+     * Re-evaluates view requirements of the dynamic slots of a loaded menu and re-registers
+     * only the slots whose selected button changed. Static slots are never touched.
+     *
+     * <p>Does nothing for GUIs not created by {@link #loadFrom(InventoryUI)} or without a viewer.</p>
+     */
+    public void refreshButtons() {
+        if (template == null || selection == null || getViewer() == null) return;
 
-            candidates.sort((b1, b2) -> Integer.compare(
-                    b2.meta(InventoryUI.Button.ButtonProperty.PRIORITY),
-                    b1.meta(InventoryUI.Button.ButtonProperty.PRIORITY)
-            ));
+        selection.refresh(getViewer(), (slot, previous, current) -> {
+            if (current == null) {
+                clearSlot(slot);
+                return;
+            }
 
-            InventoryUI.Button selected = null;
-            for (InventoryUI.Button b : candidates) {
-                var requirements = b.meta(InventoryUI.Button.ButtonProperty.VIEW_REQUIREMENTS);
-//                if (requirements == null || requirements.stream().allMatch(InventoryUI.Requirement::test)) {
-//                    selected = b;
-//                    break;
-//                }
+            // Variants that look the same for everybody are copied from the template.
+            ItemStack prepared = template.prepared(current);
+            if (prepared != null) {
+                unregisterItem(slot);
+                getInventory().setItem(slot, prepared);
+                return;
             }
 
-            if (selected != null) {
-                gui.registerItem(selected.meta(InventoryUI.Button.ButtonProperty.GUI_ITEM));
+            GuiItem item = current.meta(InventoryUI.Button.ButtonProperty.GUI_ITEM);
+            if (item == null) {
+                item = new GuiItem(InventoryUI.buildItem(current)).addSlot(slot);
             }
+            registerItem(item);
+        });
+    }
+
+    /**
+     * Returns the menu this GUI was loaded from.
+     *
+     * @return source menu
+     * @throws IllegalStateException if this GUI was not created by {@link #loadFrom(InventoryUI)}
+     */
+    @Override
+    public @NotNull InventoryUI menu() {
+        if (source == null) throw new IllegalStateException("GUI was not loaded from a menu");
+        return source;
+    }
+
+    @Override
+    public @Nullable InventoryUI loadedMenu() {
+        return source;
+    }
+
+    /**
+     * Switches this GUI to a new version of its menu, re-registering only the changed slots.
+     * A changed size or type rebuilds the inventory and reopens it for the viewer.
+     */
+    @Override
+    public void reload(@NotNull InventoryUI updated, @NotNull MenuDiff diff) {
+        if (template == null || selection == null) return;
+
+        MenuTemplate<InventoryUI.Button> updatedTemplate = updated.template();
+        SlotVariantTable<InventoryUI.Button> table = updatedTemplate.dynamicTable();
+        Component title = LegacyComponentSerializer.legacyAmpersand()
+                .deserialize(updated.meta(InventoryUI.MenuProperty.TITLE));
+        this.source = updated;
+        this.template = updatedTemplate;
+
+        if (diff.structureChanged()) {
+            unregisterAllItems();
+            selection = table.newSelection();
+
+            InventoryType type = updated.meta(InventoryUI.MenuProperty.TYPE);
+            if (type != null) {
+                setType(type);
+            } else {
+                int size = updated.metaInt(InventoryUI.MenuProperty.SIZE);
+                setType(null);
+                setSize(size == -1 ? 54 : size);
+            }
+            setTitle(title);
+            rebuildAndReopen();
+            return;
         }
 
-        return gui;
+        if (diff.titleChanged()) {
+            updateTitle(title);
+        }
+
+        selection = table.newSelection(selection, diff.changedSlots());
+
+        // Changed slots outside the dynamic table are static now, or no longer exist.
+        for (int slot : diff.changedSlots()) {
+            if (table.contains(slot)) continue;
+
+            InventoryUI.Button button = updatedTemplate.staticButtonAt(slot);
+            if (button == null) {
+                clearSlot(slot);
+            } else {
+                unregisterItem(slot);
+                getInventory().setItem(slot, updatedTemplate.prepared(button));
+            }
+        }
+
+        refreshButtons();
+    }
+
+    /**
+     * Clears a slot that may hold either a registered item or a template stack.
+     */
+    private void clearSlot(int slot) {
+        unregisterItem(slot);
+        getInventory().clear(slot);
+    }
+
+    /**
+     * Starts the periodic refresh and update tasks of the loaded menu.
+     * Intervals are configured in seconds; tasks are cancelled when the GUI closes.
+     */
+    private void scheduleUpdates() {
+        if (source == null) return;
+
+        int refreshInterval = source.metaInt(InventoryUI.MenuProperty.REFRESH_INTERVAL);
+        if (refreshInterval > 0) {
+            long period = refreshInterval * 20L;
+            scheduler.runTask(this::refreshButtons, period, period);
+        }
+
+        int updateInterval = source.metaInt(InventoryUI.MenuProperty.UPDATE_INTERVAL);
+        if (updateInterval > 0) {
+            enableAutoUpdate(updateInterval * 20L);
+        }
     }
 }
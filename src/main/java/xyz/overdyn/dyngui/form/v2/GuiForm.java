@@ -11,6 +11,7 @@ import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.ItemFlag;
 import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.form.v2.cache.TextureCache;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -18,7 +19,21 @@ import java.util.stream.Collectors;
 public class GuiForm {
 
     @Getter
-    private final InventoryUI menu = new InventoryUI();
+    private final InventoryUI menu;
+
+    public GuiForm() {
+        this(new InventoryUI());
+    }
+
+    /**
+     * Creates a form around an already parsed menu, e.g. one read from a
+     * {@link xyz.overdyn.dyngui.form.snapshot.MenuSnapshotStore}.
+     *
+     * @param menu parsed menu
+     */
+    public GuiForm(@NotNull InventoryUI menu) {
+        this.menu = menu;
+    }
 
     public void loadGui(FileConfiguration config) {
         menuLoad(config);
@@ -27,48 +42,80 @@ public class GuiForm {
 
     public void menuLoad(@NotNull FileConfiguration configuration) {
         try {
-            menu.with(InventoryUI.MenuProperty.MENU_ID, configuration.getString("id", UUID.randomUUID().toString()));
-            menu.with(InventoryUI.MenuProperty.TITLE, configuration.getString("title", "Empty title"));
-            menu.with(InventoryUI.MenuProperty.UPDATE_INTERVAL, configuration.getInt("update_interval", -1));
-            menu.with(InventoryUI.MenuProperty.REFRESH_INTERVAL, configuration.getInt("refresh_interval", -1));
-
-            InventoryType inventoryType = null;
-            if (configuration.contains("inventoryType")) {
-                try {
-                    inventoryType = InventoryType.valueOf(configuration.getString("inventoryType").toUpperCase());
-                    menu.with(InventoryUI.MenuProperty.TYPE, inventoryType);
-                } catch (Exception ignored) {
-                    Bukkit.getLogger().warning("Не удалось определить InventoryType: " + configuration.getString("inventory"));
-                }
+            parseInto(menu, configuration);
+        } catch (Exception e) {
+            Bukkit.getLogger().severe("Error parsing menu: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses a menu into a new {@link InventoryUI} without touching the state of this form.
+     *
+     * <p>Unlike {@link #menuLoad(FileConfiguration)}, errors are thrown to the caller.
+     * Safe to call concurrently for different configurations.</p>
+     *
+     * @param configuration menu configuration
+     * @return parsed menu
+     * @throws IllegalArgumentException if the configuration contains invalid values
+     */
+    public @NotNull InventoryUI parse(@NotNull FileConfiguration configuration) {
+        InventoryUI parsed = new InventoryUI();
+        parseInto(parsed, configuration);
+        return parsed;
+    }
+
+    private void parseInto(@NotNull InventoryUI target, @NotNull FileConfiguration configuration) {
+        target.with(InventoryUI.MenuProperty.MENU_ID, configuration.getString("id", UUID.randomUUID().toString()));
+        target.with(InventoryUI.MenuProperty.TITLE, configuration.getString("title", "Empty title"));
+        target.with(InventoryUI.MenuProperty.UPDATE_INTERVAL, configuration.getInt("update_interval", -1));
+        target.with(InventoryUI.MenuProperty.REFRESH_INTERVAL, configuration.getInt("refresh_interval", -1));
+
+        InventoryType inventoryType = null;
+        if (configuration.contains("inventoryType")) {
+            try {
+                inventoryType = InventoryType.valueOf(configuration.getString("inventoryType").toUpperCase());
+                target.with(InventoryUI.MenuProperty.TYPE, inventoryType);
+            } catch (Exception ignored) {
+                Bukkit.getLogger().warning("Не удалось определить InventoryType: " + configuration.getString("inventory"));
             }
+        }
 
-            if (inventoryType == null) {
-                if (configuration.contains("size")) {
-                    int size = configuration.getInt("size", 6);
-                    if (size < 1) size = 1;
-                    if (size > 6) size = 6;
-                    size = size * 9;
-                    menu.with(InventoryUI.MenuProperty.SIZE, size);
-                } else {
-                    Bukkit.getLogger().warning("size не указаны, меню будет без size!");
-                }
+        if (inventoryType == null) {
+            if (configuration.contains("size")) {
+                int size = configuration.getInt("size", 6);
+                if (size < 1) size = 1;
+                if (size > 6) size = 6;
+                size = size * 9;
+                target.with(InventoryUI.MenuProperty.SIZE, size);
+            } else {
+                Bukkit.getLogger().warning("size не указаны, меню будет без size!");
             }
+        }
 
-            menu.with(InventoryUI.MenuProperty.OPEN_COMMANDS, configuration.getStringList("open_commands"));
-            menu.with(InventoryUI.MenuProperty.CLOSE_COMMANDS, configuration.getStringList("close_commands"));
+        target.with(InventoryUI.MenuProperty.OPEN_COMMANDS, configuration.getStringList("open_commands"));
+        target.with(InventoryUI.MenuProperty.CLOSE_COMMANDS, configuration.getStringList("close_commands"));
 
-            menu.with(InventoryUI.MenuProperty.BUTTONS,
-                parseButtons(configuration).stream()
-                    .collect(Collectors.toMap(
-                        b -> b.meta(InventoryUI.Button.ButtonProperty.ID),
-                        b -> b,
-                        (first, second) -> first
-                    ))
-            );
+        List<InventoryUI.Button> buttons = parseButtons(configuration);
 
-        } catch (Exception e) {
-            Bukkit.getLogger().severe("Error parsing menu: " + e.getMessage());
+        // One entry per occupied slot: a button declared for several slots is stored once per slot.
+        target.with(InventoryUI.MenuProperty.BUTTONS,
+            buttons.stream()
+                .collect(Collectors.toMap(
+                    b -> b.meta(InventoryUI.Button.ButtonProperty.ID) + ":" + b.metaInt(InventoryUI.Button.ButtonProperty.SLOT),
+                    b -> b,
+                    (first, second) -> first,
+                    LinkedHashMap::new
+                ))
+        );
+        target.with(InventoryUI.MenuProperty.SLOT_VARIANTS, InventoryUI.slotVariants(buttons));
+
+        // Warm up skull textures in the background, so the first open does not build them.
+        List<String> textures = new ArrayList<>();
+        for (InventoryUI.Button button : buttons) {
+            String material = button.meta(InventoryUI.Button.ButtonProperty.MATERIAL);
+            if (material != null && material.startsWith("basehead-")) textures.add(material.substring("basehead-".length()));
         }
+        TextureCache.shared().prefetch(textures);
     }
 
     private Map<String, Object> parseCustomValues(ConfigurationSection section) {
@@ -162,7 +209,7 @@ public class GuiForm {
             }
         }
 
-        return List.of();
+        return buttons;
     }
 
     private List<InventoryUI.Command> parseClickCommands0(ConfigurationSection itemSection) {
@@ -1,5 +1,6 @@
 package xyz.overdyn.dyngui.form.v2;
 
+import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Bukkit;
@@ -10,10 +11,18 @@ import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
+import xyz.overdyn.dyngui.form.MenuTemplate;
 import xyz.overdyn.dyngui.form.SkullCreator;
+import xyz.overdyn.dyngui.form.SlotVariantTable;
+import xyz.overdyn.dyngui.form.requirements.CompiledRequirement;
+import xyz.overdyn.dyngui.form.requirements.RequirementCache;
+import xyz.overdyn.dyngui.form.requirements.RequirementCompiler;
+import xyz.overdyn.dyngui.form.v2.property.BooleanProperty;
+import xyz.overdyn.dyngui.form.v2.property.IntProperty;
 import xyz.overdyn.dyngui.form.v2.property.Property;
 import xyz.overdyn.dyngui.form.v2.property.PropertyContainer;
-import xyz.overdyn.dyngui.form.v2.property.SimpleProperty;
+import xyz.overdyn.dyngui.form.v2.property.PropertySchema;
+import xyz.overdyn.dyngui.form.v2.property.PropertyStore;
 import xyz.overdyn.dyngui.items.GuiItem;
 import xyz.overdyn.dyngui.items.ItemWrapper;
 
@@ -25,11 +34,11 @@ import java.util.stream.Collectors;
  */
 public class InventoryUI implements PropertyContainer {
 
-    private final Map<Property<?>, Object> metadata = new HashMap<>();
+    private final PropertyStore properties = new PropertyStore(MenuProperty.SCHEMA);
 
     @Override
-    public Map<Property<?>, Object> metadata() {
-        return metadata;
+    public PropertyStore properties() {
+        return properties;
     }
 
     public <T> InventoryUI with(Property<T> property, T value) {
@@ -37,6 +46,11 @@ public class InventoryUI implements PropertyContainer {
         return this;
     }
 
+    public InventoryUI with(IntProperty property, int value) {
+        properties.setInt(property, value);
+        return this;
+    }
+
     public void addMeta(String keyId, Object value) {
         Map<String, Object> meta = new HashMap<>(meta(MenuProperty.META));
         meta.put(keyId, value);
@@ -72,7 +86,7 @@ public class InventoryUI implements PropertyContainer {
                                 .collect(Collectors.toList())
         );
 
-        itemWrapper.setAmount(button.meta(Button.ButtonProperty.AMOUNT));
+        itemWrapper.setAmount(button.metaInt(Button.ButtonProperty.AMOUNT));
 
         List<ItemFlag> flags = button.meta(Button.ButtonProperty.ITEM_FLAGS);
         if (flags != null) itemWrapper.flags(flags);
@@ -86,18 +100,66 @@ public class InventoryUI implements PropertyContainer {
             itemWrapper.enchantments(enchantmentEntries);
         }
 
-        Integer modelData = button.meta(Button.ButtonProperty.CUSTOM_MODEL_DATA);
-        if (modelData != null && modelData != -1) itemWrapper.customModelData(modelData);
+        int modelData = button.metaInt(Button.ButtonProperty.CUSTOM_MODEL_DATA);
+        if (modelData != -1) itemWrapper.customModelData(modelData);
 
         return itemWrapper;
     }
 
 
+    /**
+     * Builds the per-slot candidate table for the given buttons.
+     *
+     * @param buttons buttons, one entry per occupied slot
+     * @return candidate table
+     */
+    public static SlotVariantTable<Button> slotVariants(Collection<Button> buttons) {
+        return SlotVariantTable.build(
+                buttons,
+                b -> b.metaInt(Button.ButtonProperty.SLOT),
+                b -> b.metaInt(Button.ButtonProperty.PRIORITY),
+                b -> b.meta(Button.ButtonProperty.VIEW_REQUIREMENTS).stream()
+                        .map(SimpleRequirement::compiled)
+                        .toList()
+        );
+    }
+
+    /**
+     * Returns the compiled template of this menu, compiling it on first use.
+     *
+     * <p>Buttons with {@link Button.ButtonProperty#PLACEHOLDER} or {@link Button.ButtonProperty#UPDATE}
+     * are rendered per viewer; all other buttons get a shared prepared item. The template is a
+     * snapshot: buttons changed afterwards require {@code with(MenuProperty.TEMPLATE, null)}.
+     * Main thread only.</p>
+     *
+     * @return compiled template
+     */
+    public MenuTemplate<Button> template() {
+        MenuTemplate<Button> template = meta(MenuProperty.TEMPLATE);
+        if (template == null) {
+            SlotVariantTable<Button> table = meta(MenuProperty.SLOT_VARIANTS);
+            if (table == null) table = slotVariants(meta(MenuProperty.BUTTONS).values());
+
+            template = MenuTemplate.compile(
+                    table,
+                    button -> {
+                        ItemWrapper item = buildItem(button);
+                        item.update();
+                        return item.itemStack();
+                    },
+                    button -> button.metaBoolean(Button.ButtonProperty.PLACEHOLDER)
+                            || button.metaBoolean(Button.ButtonProperty.UPDATE)
+            );
+            with(MenuProperty.TEMPLATE, template);
+        }
+        return template;
+    }
+
     public InventoryUI build() {
         meta(MenuProperty.BUTTONS).forEach((key, value) -> {
             var itemWrapper = buildItem(value);
             var guiItem = new GuiItem(itemWrapper);
-            guiItem.addSlot(value.meta(Button.ButtonProperty.SLOT));
+            guiItem.addSlot(value.metaInt(Button.ButtonProperty.SLOT));
             value.with(Button.ButtonProperty.GUI_ITEM, guiItem);
         });
 
@@ -109,16 +171,23 @@ public class InventoryUI implements PropertyContainer {
     }
         public record SimpleRequirement(String type, String input, String output, String permission,
                                         List<String> success_commands,
-                                        List<String> failure_commands) implements Requirement {
+                                        List<String> failure_commands,
+                                        CompiledRequirement compiled) implements Requirement {
+
+            public SimpleRequirement(String type, String input, String output, String permission,
+                                     List<String> success_commands,
+                                     List<String> failure_commands) {
+                this(type, input, output, permission, success_commands, failure_commands,
+                        RequirementCompiler.compile(type, permission, input, output));
+            }
 
             @Override
             public boolean test(Player player) {
-
-
-                return true;
+                return RequirementCache.test(player, compiled);
             }
         }
 
+    @Getter
     public static class ClickRequirement implements Requirement {
         private final boolean anyClick;
         private final ClickType clickType;
@@ -128,6 +197,7 @@ public class InventoryUI implements PropertyContainer {
         private final String permission;
         private final List<String> successActions;
         private final List<String> failActions;
+        private final CompiledRequirement compiled;
 
         public ClickRequirement(
                 boolean anyClick,
@@ -147,15 +217,21 @@ public class InventoryUI implements PropertyContainer {
             this.permission = permission;
             this.successActions = successActions;
             this.failActions = failActions;
+            this.compiled = RequirementCompiler.compile(type, permission, input, output);
         }
 
+        /**
+         * Click requirements are evaluated uncached: the actions of a previous click often
+         * change exactly what they check, e.g. money or items.
+         */
         @Override
         public boolean test(Player player) {
-            return true;
+            return compiled.test(player);
         }
     }
 
     /** Своя команда кнопки */
+    @Getter
     public static class Command {
         private final boolean anyClick;
         private final ClickType clickType;
@@ -178,11 +254,11 @@ public class InventoryUI implements PropertyContainer {
     /** Своя кнопка с Property-driven API */
     public static class Button implements PropertyContainer {
 
-        private final Map<Property<?>, Object> metadata = new HashMap<>();
+        private final PropertyStore properties = new PropertyStore(ButtonProperty.SCHEMA);
 
         @Override
-        public Map<Property<?>, Object> metadata() {
-            return metadata;
+        public PropertyStore properties() {
+            return properties;
         }
 
         public <T> Button with(Property<T> property, T value) {
@@ -190,6 +266,16 @@ public class InventoryUI implements PropertyContainer {
             return this;
         }
 
+        public Button with(IntProperty property, int value) {
+            properties.setInt(property, value);
+            return this;
+        }
+
+        public Button with(BooleanProperty property, boolean value) {
+            properties.setBoolean(property, value);
+            return this;
+        }
+
         public Button addCommand(Command command) {
             List<Command> commands = new ArrayList<>(meta(ButtonProperty.COMMANDS));
             commands.add(command);
@@ -198,38 +284,44 @@ public class InventoryUI implements PropertyContainer {
         }
 
         public interface ButtonProperty {
-            Property<String> ID = new SimpleProperty<>("button:id", UUID.randomUUID().toString());
-            Property<Map<String, Object>> META = new SimpleProperty<>("button:meta", Map.of());
-            Property<Integer> SLOT = new SimpleProperty<>("button:slot", 0);
-            Property<String> DISPLAY_NAME = new SimpleProperty<>("button:display_name", "Default Button");
-            Property<List<String>> DISPLAY_LORE = new SimpleProperty<>("button:display_lore", List.of());
-            Property<String> MATERIAL = new SimpleProperty<>("button:display_lore", null);
-            Property<Integer> PRIORITY = new SimpleProperty<>("button:priority", 0);
-            Property<Integer> AMOUNT = new SimpleProperty<>("button:amount", 1);
-            Property<Integer> CUSTOM_MODEL_DATA = new SimpleProperty<>("button:custom_model_data", -1);
-            Property<List<ItemFlag>> ITEM_FLAGS = new SimpleProperty<>("button:item_flags", List.of());
-            Property<Map<Enchantment, Integer>> ITEM_ENCHANTMENTS = new SimpleProperty<>("button:enchantments", Map.of());
-            Property<ItemStack> ITEM_STACK = new SimpleProperty<>("button:item_stack", null);
-            Property<GuiItem> GUI_ITEM = new SimpleProperty<>("button:gui_item", null);
-            Property<List<SimpleRequirement>> VIEW_REQUIREMENTS = new SimpleProperty<>("button:view_requirements", List.of());
-            Property<List<Command>> COMMANDS = new SimpleProperty<>("button:commands", List.of());
-            Property<Boolean> UPDATE = new SimpleProperty<>("button:update", false);
-            Property<Boolean> PLACEHOLDER = new SimpleProperty<>("button:placeholder", false);
-            Property<Map<String, Object>> CUSTOM_VALUES = new SimpleProperty<>("button:custom_values", Map.of());
+            PropertySchema SCHEMA = new PropertySchema("button");
+
+            Property<String> ID = SCHEMA.property("button:id", UUID.randomUUID().toString());
+            Property<Map<String, Object>> META = SCHEMA.property("button:meta", Map.of());
+            IntProperty SLOT = SCHEMA.intProperty("button:slot", 0);
+            Property<String> DISPLAY_NAME = SCHEMA.property("button:display_name", "Default Button");
+            Property<List<String>> DISPLAY_LORE = SCHEMA.property("button:display_lore", List.of());
+            Property<String> MATERIAL = SCHEMA.property("button:material", null);
+            IntProperty PRIORITY = SCHEMA.intProperty("button:priority", 0);
+            IntProperty AMOUNT = SCHEMA.intProperty("button:amount", 1);
+            IntProperty CUSTOM_MODEL_DATA = SCHEMA.intProperty("button:custom_model_data", -1);
+            Property<List<ItemFlag>> ITEM_FLAGS = SCHEMA.property("button:item_flags", List.of());
+            Property<Map<Enchantment, Integer>> ITEM_ENCHANTMENTS = SCHEMA.property("button:enchantments", Map.of());
+            Property<ItemStack> ITEM_STACK = SCHEMA.property("button:item_stack", null);
+            Property<GuiItem> GUI_ITEM = SCHEMA.property("button:gui_item", null);
+            Property<List<SimpleRequirement>> VIEW_REQUIREMENTS = SCHEMA.property("button:view_requirements", List.of());
+            Property<List<Command>> COMMANDS = SCHEMA.property("button:commands", List.of());
+            BooleanProperty UPDATE = SCHEMA.booleanProperty("button:update", false);
+            BooleanProperty PLACEHOLDER = SCHEMA.booleanProperty("button:placeholder", false);
+            Property<Map<String, Object>> CUSTOM_VALUES = SCHEMA.property("button:custom_values", Map.of());
         }
     }
 
     public interface MenuProperty {
-        Property<String> MENU_ID = new SimpleProperty<>("menu:id", UUID.randomUUID().toString());
-        Property<String> TITLE = new SimpleProperty<>("menu:title", "Default Menu");
-        Property<Integer> SIZE = new SimpleProperty<>("menu:size", -1);
-        Property<InventoryType> TYPE = new SimpleProperty<>("menu:type", null);
-        Property<Map<String, Object>> META = new SimpleProperty<>("menu:meta", Map.of());
-        Property<Integer> UPDATE_INTERVAL = new SimpleProperty<>("menu:update_interval", -1);
-        Property<Integer> REFRESH_INTERVAL = new SimpleProperty<>("menu:refresh_interval", -1);
-        Property<List<String>> OPEN_COMMANDS = new SimpleProperty<>("menu:open_commands", List.of());
-        Property<List<String>> CLOSE_COMMANDS = new SimpleProperty<>("menu:close_commands", List.of());
-        Property<Integer> PRIORITY = new SimpleProperty<>("menu:priority", -1);
-        Property<Map<String, Button>> BUTTONS = new SimpleProperty<>("menu:buttons", Map.of());
+        PropertySchema SCHEMA = new PropertySchema("menu");
+
+        Property<String> MENU_ID = SCHEMA.property("menu:id", UUID.randomUUID().toString());
+        Property<String> TITLE = SCHEMA.property("menu:title", "Default Menu");
+        IntProperty SIZE = SCHEMA.intProperty("menu:size", -1);
+        Property<InventoryType> TYPE = SCHEMA.property("menu:type", null);
+        Property<Map<String, Object>> META = SCHEMA.property("menu:meta", Map.of());
+        IntProperty UPDATE_INTERVAL = SCHEMA.intProperty("menu:update_interval", -1);
+        IntProperty REFRESH_INTERVAL = SCHEMA.intProperty("menu:refresh_interval", -1);
+        Property<List<String>> OPEN_COMMANDS = SCHEMA.property("menu:open_commands", List.of());
+        Property<List<String>> CLOSE_COMMANDS = SCHEMA.property("menu:close_commands", List.of());
+        IntProperty PRIORITY = SCHEMA.intProperty("menu:priority", -1);
+        Property<Map<String, Button>> BUTTONS = SCHEMA.property("menu:buttons", Map.of());
+        Property<SlotVariantTable<Button>> SLOT_VARIANTS = SCHEMA.property("menu:slot_variants", null);
+        Property<MenuTemplate<Button>> TEMPLATE = SCHEMA.property("menu:template", null);
     }
 }
@@ -0,0 +1,34 @@
+package xyz.overdyn.dyngui.form.v2.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Identifies a player whose head should be resolved, by UUID or by name.
+ *
+ * <p>Names are stored lower-case, since Minecraft names are case-insensitive.</p>
+ *
+ * @param uuid player UUID, or {@code null} if resolved by name
+ * @param name player name, or {@code null} if resolved by UUID
+ */
+public record ProfileKey(@Nullable UUID uuid, @Nullable String name) {
+
+    public ProfileKey {
+        if (uuid == null && (name == null || name.isBlank())) {
+            throw new IllegalArgumentException("Either uuid or name is required");
+        }
+        if (uuid != null) name = null;
+        else name = name.toLowerCase(Locale.ROOT);
+    }
+
+    public static @NotNull ProfileKey of(@NotNull UUID uuid) {
+        return new ProfileKey(uuid, null);
+    }
+
+    public static @NotNull ProfileKey of(@NotNull String name) {
+        return new ProfileKey(null, name);
+    }
+}
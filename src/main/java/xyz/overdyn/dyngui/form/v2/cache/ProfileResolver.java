@@ -0,0 +1,249 @@
+package xyz.overdyn.dyngui.form.v2.cache;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.DynGui;
+import xyz.overdyn.dyngui.abstracts.AbstractGuiLayer;
+import xyz.overdyn.dyngui.form.SkullCreator;
+import xyz.overdyn.dyngui.items.GuiItem;
+import xyz.overdyn.dyngui.scheduler.RegionExecutor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolves player heads off the main thread.
+ *
+ * <p>Skins are looked up through a pluggable {@link ProfileSource}, by default the Paper
+ * profile API. Concurrent requests for the same player share one lookup, and results are
+ * cached for a configurable time, including players without a skin, so a leaderboard
+ * reopened by many viewers resolves every head only once. Failed lookups are not cached.</p>
+ *
+ * <p>GUIs show a placeholder head right away and swap in the skin once it arrives, see
+ * {@link #bind(AbstractGuiLayer, GuiItem, ProfileKey)}. Only the slots of that item are
+ * re-rendered.</p>
+ */
+public final class ProfileResolver {
+
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+
+    private static final ProfileResolver SHARED = new ProfileResolver(ProfileSource.paper(), DEFAULT_TTL, DEFAULT_CAPACITY);
+
+    private final long ttlNanos;
+    private final int capacity;
+    private final Object lock = new Object();
+    private final LinkedHashMap<ProfileKey, Resolved> resolved;
+    private final Map<ProfileKey, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    private volatile ProfileSource source;
+
+    /**
+     * Creates a resolver.
+     *
+     * @param source   skin lookup
+     * @param ttl      how long resolved skins are kept
+     * @param capacity maximum number of resolved players kept
+     */
+    public ProfileResolver(@NotNull ProfileSource source, @NotNull Duration ttl, int capacity) {
+        if (ttl.isNegative() || ttl.isZero()) throw new IllegalArgumentException("TTL must be positive: " + ttl);
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+
+        this.source = source;
+        this.ttlNanos = ttl.toNanos();
+        this.capacity = capacity;
+        this.resolved = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ProfileKey, Resolved> eldest) {
+                return size() > ProfileResolver.this.capacity;
+            }
+        };
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(2, 2, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "DynGui-ProfileResolver-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Idle threads die, so a disabled plugin does not keep them alive.
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns the resolver shared by DynGui, backed by {@link ProfileSource#paper()}.
+     *
+     * @return shared resolver
+     */
+    public static @NotNull ProfileResolver shared() {
+        return SHARED;
+    }
+
+    /**
+     * Replaces the skin lookup. Cached results are kept; call {@link #clear()} to drop them.
+     *
+     * @param source new lookup
+     */
+    public void setSource(@NotNull ProfileSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Resolves the skin of a player.
+     *
+     * @param key player
+     * @return future of the base64 texture, {@code null} if the player has no known skin;
+     * completed on a resolver thread, or immediately if cached
+     */
+    public @NotNull CompletableFuture<String> resolve(@NotNull ProfileKey key) {
+        Resolved cached = lookup(key);
+        if (cached != null) return CompletableFuture.completedFuture(cached.texture());
+
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> pending = inFlight.putIfAbsent(key, future);
+        if (pending != null) return pending;
+
+        ProfileSource lookup = source;
+        executor.execute(() -> {
+            try {
+                String texture = lookup.texture(key);
+                // Cached before leaving the in-flight map, so no request slips in between.
+                synchronized (lock) {
+                    resolved.put(key, new Resolved(texture, System.nanoTime() + ttlNanos));
+                }
+                inFlight.remove(key, future);
+                future.complete(texture);
+            } catch (Throwable e) {
+                inFlight.remove(key, future);
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns a cached skin without resolving it.
+     *
+     * @param key player
+     * @return base64 texture, or {@code null} if not cached or the player has no known skin
+     */
+    public @Nullable String cached(@NotNull ProfileKey key) {
+        Resolved cached = lookup(key);
+        return cached == null ? null : cached.texture();
+    }
+
+    /**
+     * Returns a head of a player without blocking: the skinned head if the skin is cached,
+     * a placeholder head otherwise. A lookup is started for uncached players.
+     *
+     * @param key player
+     * @return new head stack
+     */
+    public @NotNull ItemStack head(@NotNull ProfileKey key) {
+        Resolved cached = lookup(key);
+        if (cached == null) {
+            resolve(key);
+            return SkullCreator.createSkull();
+        }
+        return cached.texture() == null ? SkullCreator.createSkull() : TextureCache.shared().skull(cached.texture());
+    }
+
+    /**
+     * Applies the skin of a player to a head item of a GUI once it is resolved.
+     *
+     * <p>A cached skin is applied immediately. Otherwise the item keeps its current look, usually
+     * a placeholder head, and the skin is applied on the main thread when it arrives. If the GUI
+     * is open, only the slots of the item are re-rendered. Nothing happens if the item was
+     * unregistered in the meantime.</p>
+     *
+     * @param gui  GUI showing the item
+     * @param item head item, must wrap a player head
+     * @param key  player
+     */
+    public void bind(@NotNull AbstractGuiLayer gui, @NotNull GuiItem item, @NotNull ProfileKey key) {
+        Resolved cached = lookup(key);
+        if (cached != null) {
+            apply(gui, item, cached.texture());
+            return;
+        }
+
+        resolve(key).whenComplete((texture, error) -> {
+            if (error != null) {
+                Bukkit.getLogger().warning("[DynGUI] Failed to resolve profile " + key + ": " + error.getMessage());
+                return;
+            }
+            if (texture == null) return;
+
+            JavaPlugin plugin = DynGui.getInstance().getPlugin();
+            if (!plugin.isEnabled()) return;
+            RegionExecutor executor = DynGui.getInstance().getRegionExecutor();
+            Player viewer = gui.getViewer();
+            if (viewer != null) executor.runFor(viewer, () -> apply(gui, item, texture));
+            else executor.runGlobal(() -> apply(gui, item, texture));
+        });
+    }
+
+    private static void apply(AbstractGuiLayer gui, GuiItem item, @Nullable String texture) {
+        if (texture == null || !gui.getItems().contains(item)) return;
+
+        item.getItemWrapper().applySkin(texture);
+        gui.updateItem(item);
+    }
+
+    /**
+     * Removes all cached results. Lookups in flight are not affected.
+     */
+    public void clear() {
+        synchronized (lock) {
+            resolved.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached results, including expired ones not yet evicted.
+     *
+     * @return entry count
+     */
+    public int size() {
+        synchronized (lock) {
+            return resolved.size();
+        }
+    }
+
+    /**
+     * Returns the number of lookups in flight.
+     *
+     * @return pending lookup count
+     */
+    public int pendingCount() {
+        return inFlight.size();
+    }
+
+    private @Nullable Resolved lookup(ProfileKey key) {
+        synchronized (lock) {
+            Resolved cached = resolved.get(key);
+            if (cached == null) return null;
+            if (cached.expiresAt() - System.nanoTime() <= 0) {
+                resolved.remove(key);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * A cached lookup result.
+     *
+     * @param texture   base64 texture, or {@code null} if the player has no known skin
+     * @param expiresAt {@link System#nanoTime()} deadline
+     */
+    private record Resolved(@Nullable String texture, long expiresAt) {
+    }
+}
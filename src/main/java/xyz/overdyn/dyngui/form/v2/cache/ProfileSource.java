@@ -0,0 +1,45 @@
+package xyz.overdyn.dyngui.form.v2.cache;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import com.destroystokyo.paper.profile.ProfileProperty;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Resolves the skin texture of a player for {@link ProfileResolver}.
+ *
+ * <p>Implementations may block; they are only called from resolver threads. Replace the
+ * default source with {@link ProfileResolver#setSource(ProfileSource)}, e.g. with a local
+ * map in tests or a database of known skins.</p>
+ */
+@FunctionalInterface
+public interface ProfileSource {
+
+    /**
+     * Resolves the {@code textures} property of a player.
+     *
+     * @param key player to resolve
+     * @return base64 texture value, or {@code null} if the player has no known skin
+     * @throws Exception if the lookup failed; the request completes exceptionally and is not cached
+     */
+    @Nullable String texture(@NotNull ProfileKey key) throws Exception;
+
+    /**
+     * Returns a source completing profiles through the Paper profile API, which uses the
+     * server's user cache and the Mojang session service.
+     *
+     * @return Paper profile source
+     */
+    static @NotNull ProfileSource paper() {
+        return key -> {
+            PlayerProfile profile = Bukkit.createProfile(key.uuid(), key.name());
+            if (!profile.complete(true)) return null;
+
+            for (ProfileProperty property : profile.getProperties()) {
+                if (property.getName().equals("textures")) return property.getValue();
+            }
+            return null;
+        };
+    }
+}
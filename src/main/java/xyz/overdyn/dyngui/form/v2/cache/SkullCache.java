@@ -2,23 +2,19 @@ package xyz.overdyn.dyngui.form.v2.cache;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import xyz.overdyn.dyngui.form.SkullCreator;
 import xyz.overdyn.dyngui.items.ItemWrapper;
 
-import java.util.HashMap;
-import java.util.Map;
-
+/**
+ * Skull items backed by the shared {@link TextureCache}. Safe to call from any thread.
+ */
 public class SkullCache {
-    private static final Map<String, ItemWrapper> cache = new HashMap<>();
 
     public static ItemWrapper get(String base64) {
-        return cache.computeIfAbsent(base64, key -> {
-            try {
-                return new ItemWrapper(SkullCreator.itemFromBase64(key));
-            } catch (Exception e) {
-                Bukkit.getLogger().warning("Failed to create skull: " + e.getMessage());
-                return new ItemWrapper(Material.PLAYER_HEAD);
-            }
-        }).clone();
+        try {
+            return new ItemWrapper(TextureCache.shared().skull(base64));
+        } catch (Exception e) {
+            Bukkit.getLogger().warning("Failed to create skull: " + e.getMessage());
+            return new ItemWrapper(Material.PLAYER_HEAD);
+        }
     }
 }
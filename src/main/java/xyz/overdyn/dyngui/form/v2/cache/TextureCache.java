@@ -0,0 +1,273 @@
+package xyz.overdyn.dyngui.form.v2.cache;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import com.destroystokyo.paper.profile.ProfileProperty;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, thread-safe cache of skull textures keyed by their base64 value.
+ *
+ * <p>Each entry holds the {@link PlayerProfile} carrying the texture and a prepared
+ * {@link Material#PLAYER_HEAD} stack. Entries are evicted in least-recently-used order
+ * once {@link #capacity()} is exceeded. The cache is shared by {@link SkullCache},
+ * {@link xyz.overdyn.dyngui.form.SkullCreator#itemFromBase64(String)} and
+ * {@link xyz.overdyn.dyngui.items.ItemWrapper#applySkin(String)}.</p>
+ *
+ * <p>Textures used by menus can be {@linkplain #prefetch(Collection) prefetched} off the main
+ * thread when the menus are loaded. With {@link #persistTo(Path)} the keys of the cache are
+ * stored on disk when DynGui is disposed and prefetched again on the next start.</p>
+ */
+public final class TextureCache {
+
+    private static final int DEFAULT_CAPACITY = 2048;
+    private static final String HEADER = "# DynGui texture cache v1";
+
+    private static final TextureCache SHARED = new TextureCache(DEFAULT_CAPACITY);
+
+    private final int capacity;
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, Texture> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private volatile @Nullable Path store;
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity maximum number of textures kept
+     */
+    public TextureCache(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Texture> eldest) {
+                return size() > TextureCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache shared by all DynGui skull helpers.
+     *
+     * @return shared cache
+     */
+    public static @NotNull TextureCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the texture for a base64 value, creating it on a miss.
+     *
+     * @param base64 texture value
+     * @return cached texture
+     */
+    public @NotNull Texture get(@NotNull String base64) {
+        synchronized (lock) {
+            Texture texture = entries.get(base64);
+            if (texture != null) {
+                hits.incrementAndGet();
+                return texture;
+            }
+        }
+
+        misses.incrementAndGet();
+        // Built outside the lock; a concurrent miss for the same key keeps the first entry.
+        Texture created = create(base64);
+        synchronized (lock) {
+            Texture existing = entries.putIfAbsent(base64, created);
+            return existing != null ? existing : created;
+        }
+    }
+
+    /**
+     * Returns a new skull stack with the texture.
+     *
+     * @param base64 texture value
+     * @return copy of the prepared skull, free to modify
+     */
+    public @NotNull ItemStack skull(@NotNull String base64) {
+        return get(base64).skull().clone();
+    }
+
+    /**
+     * Returns the profile carrying the texture.
+     *
+     * <p>The profile is shared; {@link SkullMeta#setPlayerProfile(PlayerProfile)} copies it.</p>
+     *
+     * @param base64 texture value
+     * @return shared profile
+     */
+    public @NotNull PlayerProfile profile(@NotNull String base64) {
+        return get(base64).profile();
+    }
+
+    /**
+     * Creates all missing textures on a background thread.
+     *
+     * @param values texture values, duplicates are ignored
+     * @return future completed when all textures are cached
+     */
+    public @NotNull CompletableFuture<Void> prefetch(@NotNull Collection<String> values) {
+        List<String> missing = new ArrayList<>();
+        synchronized (lock) {
+            for (String value : new LinkedHashSet<>(values)) {
+                if (value != null && !value.isBlank() && !entries.containsKey(value)) missing.add(value);
+            }
+        }
+        if (missing.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        return CompletableFuture.runAsync(() -> {
+            for (String value : missing) {
+                try {
+                    get(value);
+                } catch (RuntimeException e) {
+                    Bukkit.getLogger().warning("[DynGUI] Failed to prefetch skull texture: " + e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Enables the on-disk store: textures listed in the file are prefetched now, and the
+     * current keys are written back by {@link #save()} when DynGui is disposed.
+     *
+     * @param file store file; created on first save
+     * @return future completed when the stored textures are cached
+     */
+    public @NotNull CompletableFuture<Void> persistTo(@NotNull Path file) {
+        this.store = file;
+        if (!Files.isRegularFile(file)) return CompletableFuture.completedFuture(null);
+
+        try {
+            List<String> values = new ArrayList<>();
+            for (String line : Files.readAllLines(file, StandardCharsets.US_ASCII)) {
+                if (!line.isBlank() && !line.startsWith("#")) values.add(line.trim());
+            }
+            return prefetch(values);
+        } catch (IOException e) {
+            Bukkit.getLogger().warning("[DynGUI] Failed to read texture cache " + file + ": " + e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Writes the cached keys to the store enabled by {@link #persistTo(Path)}, least recently
+     * used first. Does nothing if no store is enabled.
+     */
+    public void save() {
+        Path file = store;
+        if (file == null) return;
+
+        List<String> values;
+        synchronized (lock) {
+            values = new ArrayList<>(entries.keySet());
+        }
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.US_ASCII)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (String value : values) {
+                    writer.write(value);
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Bukkit.getLogger().warning("[DynGUI] Failed to write texture cache " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Removes all textures.
+     */
+    public void clear() {
+        synchronized (lock) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached textures.
+     *
+     * @return entry count
+     */
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the maximum number of cached textures.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of lookups served from the cache.
+     *
+     * @return hit count
+     */
+    public long hitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups that had to create a texture.
+     *
+     * @return miss count
+     */
+    public long missCount() {
+        return misses.get();
+    }
+
+    private static Texture create(String base64) {
+        // Stable id per texture, so equal heads stack on the client.
+        UUID uuid = UUID.nameUUIDFromBytes(base64.getBytes(StandardCharsets.UTF_8));
+        PlayerProfile profile = Bukkit.createProfile(uuid);
+        profile.setProperty(new ProfileProperty("textures", base64));
+
+        ItemStack skull = new ItemStack(Material.PLAYER_HEAD);
+        if (skull.getItemMeta() instanceof SkullMeta meta) {
+            meta.setPlayerProfile(profile);
+            skull.setItemMeta(meta);
+        }
+        return new Texture(base64, profile, skull);
+    }
+
+    /**
+     * A cached texture.
+     *
+     * @param base64  texture value
+     * @param profile profile carrying the texture
+     * @param skull   prepared skull; must not be modified, see {@link #skull(String)}
+     */
+    public record Texture(@NotNull String base64, @NotNull PlayerProfile profile, @NotNull ItemStack skull) {
+    }
+}
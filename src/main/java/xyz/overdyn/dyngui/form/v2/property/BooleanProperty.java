@@ -0,0 +1,19 @@
+package xyz.overdyn.dyngui.form.v2.property;
+
+/**
+ * Property stored as a bit of a {@link PropertyStore}.
+ * Created by {@link PropertySchema#booleanProperty(String, boolean)}.
+ */
+public final class BooleanProperty extends SimpleProperty<Boolean> {
+
+    private final boolean defaultBoolean;
+
+    BooleanProperty(String key, boolean defaultValue, PropertySchema schema, int index) {
+        super(key, defaultValue, schema, index);
+        this.defaultBoolean = defaultValue;
+    }
+
+    public boolean defaultBoolean() {
+        return defaultBoolean;
+    }
+}
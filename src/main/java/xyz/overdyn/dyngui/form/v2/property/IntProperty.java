@@ -0,0 +1,19 @@
+package xyz.overdyn.dyngui.form.v2.property;
+
+/**
+ * Property stored unboxed in the {@code int} side array of a {@link PropertyStore}.
+ * Created by {@link PropertySchema#intProperty(String, int)}.
+ */
+public final class IntProperty extends SimpleProperty<Integer> {
+
+    private final int defaultInt;
+
+    IntProperty(String key, int defaultValue, PropertySchema schema, int index) {
+        super(key, defaultValue, schema, index);
+        this.defaultInt = defaultValue;
+    }
+
+    public int defaultInt() {
+        return defaultInt;
+    }
+}
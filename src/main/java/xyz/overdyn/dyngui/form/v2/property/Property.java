@@ -8,6 +8,22 @@ public interface Property<T> {
 
     T defaultValue();
 
+    /**
+     * Schema this property was registered in, or {@code null} for a property created
+     * outside a schema; such properties are stored by key in a fallback map.
+     */
+    default PropertySchema schema() {
+        return null;
+    }
+
+    /**
+     * Dense index of this property within its schema and storage kind, {@code -1} without
+     * a schema.
+     */
+    default int index() {
+        return -1;
+    }
+
     @SuppressWarnings("unchecked")
     default T get(Map<String, Object> source) {
         return (T) source.getOrDefault(key(), defaultValue());
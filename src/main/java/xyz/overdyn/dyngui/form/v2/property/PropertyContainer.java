@@ -4,18 +4,36 @@ import java.util.Map;
 
 public interface PropertyContainer {
 
-    Map<Property<?>, Object> metadata();
+    PropertyStore properties();
+
+    /**
+     * Returns a snapshot of the properties set on this container.
+     *
+     * @deprecated properties are no longer backed by a map; use {@link #properties()}.
+     * The returned map is a read-only copy.
+     */
+    @Deprecated
+    default Map<Property<?>, Object> metadata() {
+        return properties().asMap();
+    }
 
-    @SuppressWarnings("unchecked")
     default <T> T meta(Property<T> property) {
-        return (T) metadata().getOrDefault(property, property.defaultValue());
+        return properties().get(property);
     }
 
     default <T> void meta(Property<T> property, T value) {
-        metadata().put(property, value);
+        properties().set(property, value);
+    }
+
+    default int metaInt(IntProperty property) {
+        return properties().getInt(property);
+    }
+
+    default boolean metaBoolean(BooleanProperty property) {
+        return properties().getBoolean(property);
     }
 
     default boolean has(Property<?> property) {
-        return metadata().containsKey(property);
+        return properties().has(property);
     }
 }
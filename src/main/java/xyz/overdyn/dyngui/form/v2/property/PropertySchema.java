@@ -0,0 +1,102 @@
+package xyz.overdyn.dyngui.form.v2.property;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Set of properties that can be stored in one kind of {@link PropertyContainer}.
+ *
+ * <p>Every property gets a dense index in registration order, separately for object,
+ * {@code int} and {@code boolean} properties, so a {@link PropertyStore} keeps its values
+ * in plain arrays instead of a hash table.</p>
+ *
+ * <p>A schema holds at most {@value #MAX_FLAG_PROPERTIES} {@code int} and as many
+ * {@code boolean} properties, whose set state is tracked in a {@code long} bit mask.</p>
+ */
+public final class PropertySchema {
+
+    /** Maximum number of {@code int} and, separately, {@code boolean} properties. */
+    public static final int MAX_FLAG_PROPERTIES = Long.SIZE;
+
+    private final String name;
+    private final Set<String> keys = new HashSet<>();
+    private final List<Property<?>> properties = new ArrayList<>();
+
+    private int objects;
+    private int ints;
+    private int booleans;
+
+    public PropertySchema(String name) {
+        this.name = name;
+    }
+
+    public synchronized <T> Property<T> property(String key, T defaultValue) {
+        register(key);
+        return add(new SimpleProperty<>(key, defaultValue, this, objects++));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the key is taken or the schema already has
+     *                                  {@value #MAX_FLAG_PROPERTIES} int properties
+     */
+    public synchronized IntProperty intProperty(String key, int defaultValue) {
+        checkCapacity(key, "int", ints);
+        register(key);
+        return add(new IntProperty(key, defaultValue, this, ints++));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the key is taken or the schema already has
+     *                                  {@value #MAX_FLAG_PROPERTIES} boolean properties
+     */
+    public synchronized BooleanProperty booleanProperty(String key, boolean defaultValue) {
+        checkCapacity(key, "boolean", booleans);
+        register(key);
+        return add(new BooleanProperty(key, defaultValue, this, booleans++));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    synchronized int objectCount() {
+        return objects;
+    }
+
+    synchronized int intCount() {
+        return ints;
+    }
+
+    synchronized int booleanCount() {
+        return booleans;
+    }
+
+    synchronized List<Property<?>> registered() {
+        return List.copyOf(properties);
+    }
+
+    private <P extends Property<?>> P add(P property) {
+        properties.add(property);
+        return property;
+    }
+
+    private void checkCapacity(String key, String kind, int count) {
+        if (count >= MAX_FLAG_PROPERTIES) {
+            throw new IllegalArgumentException("Cannot register " + kind + " property '" + key + "': schema " + name
+                    + " already has " + MAX_FLAG_PROPERTIES + " " + kind + " properties");
+        }
+    }
+
+    private void register(String key) {
+        if (!keys.add(key)) {
+            throw new IllegalArgumentException("Duplicate property key '" + key + "' in schema " + name);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,152 @@
+package xyz.overdyn.dyngui.form.v2.property;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Array-backed property values of one {@link PropertyContainer}.
+ *
+ * <p>Object properties live in an {@code Object[]}, {@link IntProperty} values in an
+ * {@code int[]} and {@link BooleanProperty} values in a bit set, all indexed by
+ * {@link Property#index()}. Unset properties return their default value. Arrays are sized
+ * by the schema at creation and grow if properties are registered later.</p>
+ *
+ * <p>Properties created without a schema ({@link SimpleProperty#SimpleProperty(String, Object)})
+ * are kept by key in a map, as before.</p>
+ *
+ * <p>Not thread-safe, like the maps it replaces.</p>
+ */
+public final class PropertyStore {
+
+    /** Marks an object property explicitly set to {@code null}. */
+    private static final Object NULL = new Object();
+
+    private final PropertySchema schema;
+
+    private Object[] values;
+    private int[] ints;
+    private long intsSet;
+    private long booleans;
+    private long booleansSet;
+
+    /** Values of properties without a schema, by key. */
+    private Map<String, Object> unbound;
+
+    public PropertyStore(PropertySchema schema) {
+        this.schema = schema;
+        this.values = new Object[schema.objectCount()];
+        this.ints = new int[schema.intCount()];
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Property<T> property) {
+        if (property.schema() == null) {
+            return unbound == null ? property.defaultValue() : (T) unbound.getOrDefault(property.key(), property.defaultValue());
+        }
+        check(property);
+        if (property instanceof IntProperty p) return (T) (Integer) getInt(p);
+        if (property instanceof BooleanProperty p) return (T) (Boolean) getBoolean(p);
+
+        int index = property.index();
+        Object value = index < values.length ? values[index] : null;
+        if (value == null) return property.defaultValue();
+        return value == NULL ? null : (T) value;
+    }
+
+    public <T> void set(Property<T> property, T value) {
+        if (property.schema() == null) {
+            if (unbound == null) unbound = new HashMap<>();
+            unbound.put(property.key(), value);
+            return;
+        }
+        check(property);
+        if (property instanceof IntProperty p) {
+            if (value == null) remove(p);
+            else setInt(p, (Integer) value);
+            return;
+        }
+        if (property instanceof BooleanProperty p) {
+            if (value == null) remove(p);
+            else setBoolean(p, (Boolean) value);
+            return;
+        }
+
+        int index = property.index();
+        if (index >= values.length) values = Arrays.copyOf(values, schema.objectCount());
+        values[index] = value == null ? NULL : value;
+    }
+
+    public int getInt(IntProperty property) {
+        check(property);
+        int index = property.index();
+        return (intsSet & (1L << index)) != 0 ? ints[index] : property.defaultInt();
+    }
+
+    public void setInt(IntProperty property, int value) {
+        check(property);
+        int index = property.index();
+        if (index >= ints.length) ints = Arrays.copyOf(ints, schema.intCount());
+        ints[index] = value;
+        intsSet |= 1L << index;
+    }
+
+    public boolean getBoolean(BooleanProperty property) {
+        check(property);
+        long bit = 1L << property.index();
+        return (booleansSet & bit) != 0 ? (booleans & bit) != 0 : property.defaultBoolean();
+    }
+
+    public void setBoolean(BooleanProperty property, boolean value) {
+        check(property);
+        long bit = 1L << property.index();
+        booleans = value ? booleans | bit : booleans & ~bit;
+        booleansSet |= bit;
+    }
+
+    public boolean has(Property<?> property) {
+        if (property.schema() == null) return unbound != null && unbound.containsKey(property.key());
+        check(property);
+        int index = property.index();
+        if (property instanceof IntProperty) return (intsSet & (1L << index)) != 0;
+        if (property instanceof BooleanProperty) return (booleansSet & (1L << index)) != 0;
+        return index < values.length && values[index] != null;
+    }
+
+    public void remove(Property<?> property) {
+        if (property.schema() == null) {
+            if (unbound != null) unbound.remove(property.key());
+            return;
+        }
+        check(property);
+        int index = property.index();
+        if (property instanceof IntProperty) {
+            intsSet &= ~(1L << index);
+        } else if (property instanceof BooleanProperty) {
+            booleansSet &= ~(1L << index);
+        } else if (index < values.length) {
+            values[index] = null;
+        }
+    }
+
+    /**
+     * Copies the set schema properties into a map; properties without a schema are left out.
+     *
+     * @return read-only copy, in registration order
+     */
+    public Map<Property<?>, Object> asMap() {
+        Map<Property<?>, Object> map = new LinkedHashMap<>();
+        for (Property<?> property : schema.registered()) {
+            if (has(property)) map.put(property, get(property));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private void check(Property<?> property) {
+        if (property.schema() != schema) {
+            throw new IllegalArgumentException("Property " + property.key() + " does not belong to schema " + schema);
+        }
+    }
+}
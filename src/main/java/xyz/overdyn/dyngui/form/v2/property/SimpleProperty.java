@@ -1,6 +1,57 @@
 package xyz.overdyn.dyngui.form.v2.property;
 
-public record SimpleProperty<T>(
-        String key,
-        T defaultValue
-) implements Property<T> {}
+/**
+ * Property stored as an object reference. Created by {@link PropertySchema#property(String, Object)}.
+ *
+ * <p>This used to be a record created directly; {@link #SimpleProperty(String, Object)}
+ * still works but creates a property without a schema, which misses the array storage.</p>
+ */
+public class SimpleProperty<T> implements Property<T> {
+
+    private final String key;
+    private final T defaultValue;
+    private final PropertySchema schema;
+    private final int index;
+
+    /**
+     * Creates a property outside any schema, stored by key in a fallback map.
+     *
+     * @deprecated register properties with {@link PropertySchema#property(String, Object)}
+     */
+    @Deprecated
+    public SimpleProperty(String key, T defaultValue) {
+        this(key, defaultValue, null, -1);
+    }
+
+    SimpleProperty(String key, T defaultValue, PropertySchema schema, int index) {
+        this.key = key;
+        this.defaultValue = defaultValue;
+        this.schema = schema;
+        this.index = index;
+    }
+
+    @Override
+    public String key() {
+        return key;
+    }
+
+    @Override
+    public T defaultValue() {
+        return defaultValue;
+    }
+
+    @Override
+    public PropertySchema schema() {
+        return schema;
+    }
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -1,10 +1,7 @@
 package xyz.overdyn.dyngui.items;
 
-import com.destroystokyo.paper.profile.PlayerProfile;
-import com.destroystokyo.paper.profile.ProfileProperty;
 import com.google.common.base.Preconditions;
 import net.kyori.adventure.text.Component;
-import org.bukkit.Bukkit;
 import org.bukkit.Color;
 import org.bukkit.Material;
 import org.bukkit.enchantments.Enchantment;
@@ -17,10 +14,10 @@ import org.bukkit.inventory.meta.SkullMeta;
 import org.bukkit.profile.PlayerTextures;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.form.v2.cache.TextureCache;
 import xyz.overdyn.dyngui.placeholder.Placeholder;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
@@ -35,13 +32,6 @@ import java.util.function.Consumer;
 @SuppressWarnings({"unused", "UnusedReturnValue"})
 public class ItemWrapper implements Cloneable {
 
-    /**
-     * Cache for PlayerProfile objects keyed by Base64 skin string.
-     * This prevents creating multiple profiles for the same skin,
-     * improving performance and reducing server load.
-     */
-    private static final Map<String, PlayerProfile> SKIN_CACHE = new ConcurrentHashMap<>();
-
     /**
      * Underlying {@link ItemStack} instance that is being wrapped and manipulated.
      * All changes applied by this wrapper are eventually written into this stack
@@ -306,7 +296,7 @@ public class ItemWrapper implements Cloneable {
 
     /**
      * Applies a custom player skin to the item if it is a player head.
-     * Uses PlayerProfile and ProfileProperty. Results are cached to improve performance.
+     * Profiles are shared through the bounded {@link TextureCache}.
      *
      * @param base64Skin Base64 encoded skin texture string
      * @return this ItemWrapper for fluent chaining
@@ -317,15 +307,7 @@ public class ItemWrapper implements Cloneable {
         var meta = itemStack.getItemMeta();
         if (!(meta instanceof SkullMeta skullMeta)) return this;
 
-        var profile = SKIN_CACHE.computeIfAbsent(base64Skin, skin -> {
-            UUID uuid = UUID.nameUUIDFromBytes(skin.getBytes());
-            var newProfile = Bukkit.createProfile(uuid);
-
-            newProfile.setProperty(new ProfileProperty("textures", skin));
-            return newProfile;
-        });
-
-        skullMeta.setPlayerProfile(profile);
+        skullMeta.setPlayerProfile(TextureCache.shared().profile(base64Skin));
         itemStack.setItemMeta(skullMeta);
 
         return this;
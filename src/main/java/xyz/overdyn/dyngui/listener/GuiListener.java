@@ -4,8 +4,11 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.inventory.*;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerCommandSendEvent;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
@@ -13,6 +16,7 @@ import org.jetbrains.annotations.Nullable;
 import xyz.overdyn.dyngui.DynGui;
 import xyz.overdyn.dyngui.abstracts.AbstractGui;
 import xyz.overdyn.dyngui.dupe.ItemMarker;
+import xyz.overdyn.dyngui.form.requirements.RequirementCache;
 
 public class GuiListener implements Listener {
 
@@ -63,8 +67,8 @@ public class GuiListener implements Listener {
 
     @EventHandler
     public void onLogin(@NotNull final PlayerJoinEvent event) {
-        DynGui.getInstance().getPlugin().getServer().getScheduler().runTaskLater(
-                DynGui.getInstance().getPlugin(),
+        DynGui.getInstance().getRegionExecutor().runFor(
+                event.getPlayer(),
                 () -> {
                     for (final ItemStack itemStack : event.getPlayer().getInventory().getContents()) {
                         if (itemStack == null) continue;
@@ -73,10 +77,30 @@ public class GuiListener implements Listener {
                         event.getPlayer().getInventory().remove(itemStack);
                     }
                 },
-                10L
+                10L,
+                0L
         );
     }
 
+    @EventHandler
+    public void onQuit(@NotNull final PlayerQuitEvent event) {
+        RequirementCache.invalidate(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onWorldChange(@NotNull final PlayerChangedWorldEvent event) {
+        RequirementCache.invalidate(event.getPlayer());
+    }
+
+    /**
+     * The command tree is re-sent whenever permissions are recalculated
+     * ({@code Player#updateCommands()}), so cached requirement results are stale.
+     */
+    @EventHandler
+    public void onCommandsSent(@NotNull final PlayerCommandSendEvent event) {
+        RequirementCache.invalidate(event.getPlayer());
+    }
+
     @Nullable
     private static AbstractGui getHolder(Inventory inventory) {
         if (inventory == null) return null;
@@ -6,11 +6,13 @@ import xyz.overdyn.dyngui.abstracts.AbstractGui;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @UtilityClass
 public class SessionManager {
 
-    public final Map<Player, AbstractGui> sessions = new HashMap<>();
+    // GUIs of different regions register and unregister concurrently on Folia.
+    public final Map<Player, AbstractGui> sessions = new ConcurrentHashMap<>();
 
     public void register(Player player, AbstractGui gui) {
         sessions.put(player, gui);
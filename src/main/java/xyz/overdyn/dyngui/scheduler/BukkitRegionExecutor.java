@@ -0,0 +1,50 @@
+package xyz.overdyn.dyngui.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link RegionExecutor} of single-threaded servers: the main thread owns every entity.
+ */
+public final class BukkitRegionExecutor implements RegionExecutor {
+
+    private final JavaPlugin plugin;
+    private final BukkitScheduler scheduler = Bukkit.getScheduler();
+
+    /**
+     * Creates an executor.
+     *
+     * @param plugin plugin owning the tasks
+     */
+    public BukkitRegionExecutor(@NotNull JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public @NotNull BukkitTask runGlobal(@NotNull Runnable task, long delay, long period) {
+        if (period > 0) return scheduler.runTaskTimer(plugin, task, delay, period);
+        if (delay > 0) return scheduler.runTaskLater(plugin, task, delay);
+        return scheduler.runTask(plugin, task);
+    }
+
+    @Override
+    public @NotNull BukkitTask runFor(@NotNull Entity entity, @NotNull Runnable task, long delay, long period) {
+        return runGlobal(task, delay, period);
+    }
+
+    @Override
+    public @NotNull BukkitTask runAsync(@NotNull Runnable task, long delay, long period) {
+        if (period > 0) return scheduler.runTaskTimerAsynchronously(plugin, task, delay, period);
+        if (delay > 0) return scheduler.runTaskLaterAsynchronously(plugin, task, delay);
+        return scheduler.runTaskAsynchronously(plugin, task);
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(@NotNull Entity entity) {
+        return Bukkit.isPrimaryThread();
+    }
+}
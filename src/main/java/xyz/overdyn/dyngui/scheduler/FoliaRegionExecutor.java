@@ -0,0 +1,265 @@
+package xyz.overdyn.dyngui.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * {@link RegionExecutor} of Folia servers.
+ *
+ * <p>Entity tasks go to the entity's scheduler, shared tasks to the global region scheduler
+ * and asynchronous tasks to the async scheduler. The Folia API is not part of the API DynGui
+ * compiles against, so its methods are looked up once through method handles. Scheduled
+ * tasks are exposed as {@link BukkitTask}s, so {@link TaskScheduler} keeps its API.</p>
+ */
+public final class FoliaRegionExecutor implements RegionExecutor {
+
+    private static final String SCHEDULER_PACKAGE = "io.papermc.paper.threadedregions.scheduler.";
+    private static final long MILLIS_PER_TICK = 50L;
+
+    private static final AtomicInteger IDS = new AtomicInteger();
+
+    private final JavaPlugin plugin;
+    private final Handles handles;
+
+    /**
+     * Resolves the Folia scheduler API.
+     *
+     * @param plugin plugin owning the tasks
+     * @throws IllegalStateException if the server is not Folia
+     */
+    public FoliaRegionExecutor(@NotNull JavaPlugin plugin) {
+        this.plugin = plugin;
+        try {
+            this.handles = Handles.resolve();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException("Folia scheduler API is unavailable", e);
+        }
+    }
+
+    /**
+     * Tells whether the server runs Folia.
+     *
+     * @return true on Folia
+     */
+    public static boolean isFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public @NotNull BukkitTask runGlobal(@NotNull Runnable task, long delay, long period) {
+        FoliaTask wrapper = new FoliaTask(true);
+        Consumer<Object> body = wrapper.body(task);
+        wrapper.bind(invoke(() -> {
+            Object scheduler = handles.globalScheduler.invoke(Bukkit.getServer());
+            if (period > 0) return handles.globalAtFixedRate.invoke(scheduler, plugin, body, Math.max(1L, delay), period);
+            if (delay > 0) return handles.globalDelayed.invoke(scheduler, plugin, body, delay);
+            return handles.globalRun.invoke(scheduler, plugin, body);
+        }));
+        return wrapper;
+    }
+
+    @Override
+    public @NotNull BukkitTask runFor(@NotNull Entity entity, @NotNull Runnable task, long delay, long period) {
+        FoliaTask wrapper = new FoliaTask(true);
+        Consumer<Object> body = wrapper.body(task);
+        Runnable retired = wrapper::cancel;
+        // Null when the entity is already removed; the task is then reported as cancelled.
+        wrapper.bind(invoke(() -> {
+            Object scheduler = handles.entityScheduler.invoke(entity);
+            if (period > 0) {
+                return handles.entityAtFixedRate.invoke(scheduler, plugin, body, retired, Math.max(1L, delay), period);
+            }
+            if (delay > 0) return handles.entityDelayed.invoke(scheduler, plugin, body, retired, delay);
+            return handles.entityRun.invoke(scheduler, plugin, body, retired);
+        }));
+        return wrapper;
+    }
+
+    @Override
+    public @NotNull BukkitTask runAsync(@NotNull Runnable task, long delay, long period) {
+        FoliaTask wrapper = new FoliaTask(false);
+        Consumer<Object> body = wrapper.body(task);
+        wrapper.bind(invoke(() -> {
+            Object scheduler = handles.asyncScheduler.invoke(Bukkit.getServer());
+            if (period > 0) {
+                return handles.asyncAtFixedRate.invoke(scheduler, plugin, body,
+                        delay * MILLIS_PER_TICK, period * MILLIS_PER_TICK, TimeUnit.MILLISECONDS);
+            }
+            if (delay > 0) {
+                return handles.asyncDelayed.invoke(scheduler, plugin, body, delay * MILLIS_PER_TICK, TimeUnit.MILLISECONDS);
+            }
+            return handles.asyncRun.invoke(scheduler, plugin, body);
+        }));
+        return wrapper;
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(@NotNull Entity entity) {
+        try {
+            return (boolean) handles.ownedByCurrentRegion.invoke(Bukkit.getServer(), entity);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to query region ownership", e);
+        }
+    }
+
+    private static @Nullable Object invoke(Call call) {
+        try {
+            return call.invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to schedule Folia task", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        @Nullable Object invoke() throws Throwable;
+    }
+
+    /**
+     * {@link BukkitTask} view of a Folia {@code ScheduledTask}.
+     */
+    private final class FoliaTask implements BukkitTask {
+
+        private final int id = IDS.incrementAndGet();
+        private final boolean sync;
+
+        private volatile @Nullable Object scheduled;
+        private volatile boolean cancelled;
+
+        private FoliaTask(boolean sync) {
+            this.sync = sync;
+        }
+
+        Consumer<Object> body(Runnable task) {
+            return scheduledTask -> {
+                if (!cancelled) task.run();
+            };
+        }
+
+        void bind(@Nullable Object scheduledTask) {
+            this.scheduled = scheduledTask;
+            if (scheduledTask == null) cancelled = true;
+            else if (cancelled) cancel();
+        }
+
+        @Override
+        public int getTaskId() {
+            return id;
+        }
+
+        @Override
+        public @NotNull Plugin getOwner() {
+            return plugin;
+        }
+
+        @Override
+        public boolean isSync() {
+            return sync;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            if (cancelled) return true;
+
+            Object task = scheduled;
+            if (task == null) return false;
+            try {
+                return (boolean) handles.taskIsCancelled.invoke(task);
+            } catch (Throwable e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+
+            Object task = scheduled;
+            if (task == null) return;
+            try {
+                handles.taskCancel.invoke(task);
+            } catch (Throwable e) {
+                Bukkit.getLogger().warning("[DynGUI] Failed to cancel Folia task: " + e);
+            }
+        }
+    }
+
+    /**
+     * Resolved handles; all non-null.
+     */
+    private record Handles(MethodHandle globalScheduler,
+                           MethodHandle globalRun,
+                           MethodHandle globalDelayed,
+                           MethodHandle globalAtFixedRate,
+                           MethodHandle entityScheduler,
+                           MethodHandle entityRun,
+                           MethodHandle entityDelayed,
+                           MethodHandle entityAtFixedRate,
+                           MethodHandle asyncScheduler,
+                           MethodHandle asyncRun,
+                           MethodHandle asyncDelayed,
+                           MethodHandle asyncAtFixedRate,
+                           MethodHandle ownedByCurrentRegion,
+                           MethodHandle taskCancel,
+                           MethodHandle taskIsCancelled) {
+
+        static Handles resolve() throws ReflectiveOperationException {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+            Class<?> server = Server.class;
+            Class<?> global = Class.forName(SCHEDULER_PACKAGE + "GlobalRegionScheduler");
+            Class<?> entity = Class.forName(SCHEDULER_PACKAGE + "EntityScheduler");
+            Class<?> async = Class.forName(SCHEDULER_PACKAGE + "AsyncScheduler");
+            Class<?> task = Class.forName(SCHEDULER_PACKAGE + "ScheduledTask");
+
+            return new Handles(
+                    lookup.findVirtual(server, "getGlobalRegionScheduler", MethodType.methodType(global)),
+                    lookup.findVirtual(global, "run",
+                            MethodType.methodType(task, Plugin.class, Consumer.class)),
+                    lookup.findVirtual(global, "runDelayed",
+                            MethodType.methodType(task, Plugin.class, Consumer.class, long.class)),
+                    lookup.findVirtual(global, "runAtFixedRate",
+                            MethodType.methodType(task, Plugin.class, Consumer.class, long.class, long.class)),
+                    lookup.findVirtual(Entity.class, "getScheduler", MethodType.methodType(entity)),
+                    lookup.findVirtual(entity, "run",
+                            MethodType.methodType(task, Plugin.class, Consumer.class, Runnable.class)),
+                    lookup.findVirtual(entity, "runDelayed",
+                            MethodType.methodType(task, Plugin.class, Consumer.class, Runnable.class, long.class)),
+                    lookup.findVirtual(entity, "runAtFixedRate",
+                            MethodType.methodType(task, Plugin.class, Consumer.class, Runnable.class, long.class, long.class)),
+                    lookup.findVirtual(server, "getAsyncScheduler", MethodType.methodType(async)),
+                    lookup.findVirtual(async, "runNow",
+                            MethodType.methodType(task, Plugin.class, Consumer.class)),
+                    lookup.findVirtual(async, "runDelayed",
+                            MethodType.methodType(task, Plugin.class, Consumer.class, long.class, TimeUnit.class)),
+                    lookup.findVirtual(async, "runAtFixedRate",
+                            MethodType.methodType(task, Plugin.class, Consumer.class, long.class, long.class, TimeUnit.class)),
+                    lookup.findVirtual(server, "isOwnedByCurrentRegion",
+                            MethodType.methodType(boolean.class, Entity.class)),
+                    lookup.findVirtual(task, "cancel", MethodType.methodType(
+                            Class.forName(SCHEDULER_PACKAGE + "ScheduledTask$CancelledState"))),
+                    lookup.findVirtual(task, "isCancelled", MethodType.methodType(boolean.class))
+            );
+        }
+    }
+}
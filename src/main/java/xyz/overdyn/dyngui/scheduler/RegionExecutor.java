@@ -0,0 +1,104 @@
+package xyz.overdyn.dyngui.scheduler;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runs tasks on the thread the server allows them to run on.
+ *
+ * <p>On a regular server every synchronous task runs on the main thread through the
+ * {@link org.bukkit.scheduler.BukkitScheduler}. On Folia the world is split into regions ticked
+ * by different threads: a task working with an entity, such as a GUI viewer, runs on that
+ * entity's scheduler, and shared work runs on the global region scheduler. The backend is
+ * chosen at runtime by {@link #detect(JavaPlugin)}; tests can supply their own executor.</p>
+ *
+ * <p>Delays and periods are given in ticks. A delay of 0 without a period runs the task on the
+ * next tick; a period of 0 runs it once.</p>
+ */
+public interface RegionExecutor {
+
+    /**
+     * Returns the executor matching the running server.
+     *
+     * @param plugin plugin owning the tasks
+     * @return Folia executor on Folia, Bukkit executor otherwise
+     */
+    static @NotNull RegionExecutor detect(@NotNull JavaPlugin plugin) {
+        return FoliaRegionExecutor.isFolia() ? new FoliaRegionExecutor(plugin) : new BukkitRegionExecutor(plugin);
+    }
+
+    /**
+     * Runs shared work, not bound to any entity.
+     *
+     * @param task   runnable to execute
+     * @param delay  delay in ticks
+     * @param period repeat period in ticks, 0 to run once
+     * @return created task
+     */
+    @NotNull BukkitTask runGlobal(@NotNull Runnable task, long delay, long period);
+
+    /**
+     * Runs work bound to an entity. The task is dropped, and reported as cancelled, once the
+     * entity is removed, e.g. when a player quits.
+     *
+     * @param entity entity the task works with
+     * @param task   runnable to execute
+     * @param delay  delay in ticks
+     * @param period repeat period in ticks, 0 to run once
+     * @return created task
+     */
+    @NotNull BukkitTask runFor(@NotNull Entity entity, @NotNull Runnable task, long delay, long period);
+
+    /**
+     * Runs work off the server threads.
+     *
+     * @param task   runnable to execute
+     * @param delay  delay in ticks
+     * @param period repeat period in ticks, 0 to run once
+     * @return created task
+     */
+    @NotNull BukkitTask runAsync(@NotNull Runnable task, long delay, long period);
+
+    /**
+     * Tells whether the current thread may work with an entity right now.
+     *
+     * @param entity entity
+     * @return true if the entity is owned by the current thread
+     */
+    boolean isOwnedByCurrentThread(@NotNull Entity entity);
+
+    /**
+     * Runs shared work on the next tick.
+     *
+     * @param task runnable to execute
+     * @return created task
+     */
+    default @NotNull BukkitTask runGlobal(@NotNull Runnable task) {
+        return runGlobal(task, 0L, 0L);
+    }
+
+    /**
+     * Runs work bound to an entity on the next tick.
+     *
+     * @param entity entity the task works with
+     * @param task   runnable to execute
+     * @return created task
+     */
+    default @NotNull BukkitTask runFor(@NotNull Entity entity, @NotNull Runnable task) {
+        return runFor(entity, task, 0L, 0L);
+    }
+
+    /**
+     * Runs work bound to an entity right away if the current thread owns it, otherwise on
+     * the entity's next tick.
+     *
+     * @param entity entity the task works with
+     * @param task   runnable to execute
+     */
+    default void execute(@NotNull Entity entity, @NotNull Runnable task) {
+        if (isOwnedByCurrentThread(entity)) task.run();
+        else runFor(entity, task);
+    }
+}
@@ -1,8 +1,6 @@
 package xyz.overdyn.dyngui.scheduler;
 
-import org.bukkit.Bukkit;
-import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.entity.Entity;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 import xyz.overdyn.dyngui.DynGui;
@@ -11,50 +9,57 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class TaskSchedulerImpl implements TaskScheduler {
 
-    private final JavaPlugin PLUGIN;
-    private final BukkitScheduler SCHEDULER = Bukkit.getScheduler();
+    /** Tracked tasks kept before cancelled ones are pruned on the next registration. */
+    private static final int PRUNE_THRESHOLD = 16;
+
+    private final RegionExecutor executor;
+    private final Supplier<? extends Entity> owner;
     private final Set<BukkitTask> tasks = Collections.synchronizedSet(new HashSet<>());
 
     public TaskSchedulerImpl(DynGui dynGui) {
-        this.PLUGIN = dynGui.getPlugin();
+        this(dynGui.getRegionExecutor(), () -> null);
+    }
 
-        SCHEDULER.runTaskTimer(PLUGIN, this::cleanup, 100L, 100L);
+    /**
+     * Creates a scheduler running synchronous tasks for an owner entity, e.g. the viewer of
+     * a GUI. While there is no owner, they run as shared work.
+     *
+     * @param executor backend running the tasks
+     * @param owner    supplies the current owner, or {@code null}
+     */
+    public TaskSchedulerImpl(@NotNull RegionExecutor executor, @NotNull Supplier<? extends Entity> owner) {
+        this.executor = executor;
+        this.owner = owner;
     }
 
     private void register(BukkitTask task) {
-        if (task != null) tasks.add(task);
+        if (task == null) return;
+        synchronized (tasks) {
+            // Pruned here instead of by a timer, which would outlive the scheduler.
+            if (tasks.size() >= PRUNE_THRESHOLD) cleanup();
+            tasks.add(task);
+        }
     }
 
     private BukkitTask trackTask(@NotNull Runnable task, long delay, long period, boolean store) {
-        if (period > 0) {
-            BukkitTask t = SCHEDULER.runTaskTimer(PLUGIN, task, delay, period);
-            if (store) register(t);
-            return t;
-        } else if (delay > 0) {
-            BukkitTask t = SCHEDULER.runTaskLater(PLUGIN, task, delay);
-            if (store) register(t);
-            return t;
-        } else {
-            // Одноразовая задача без delay
-            return SCHEDULER.runTask(PLUGIN, task);
-        }
+        Entity entity = owner.get();
+        BukkitTask t = entity != null
+                ? executor.runFor(entity, task, delay, period)
+                : executor.runGlobal(task, delay, period);
+
+        // Одноразовая задача без delay не отслеживается
+        if (store && (period > 0 || delay > 0)) register(t);
+        return t;
     }
 
     private BukkitTask trackTaskAsync(@NotNull Runnable task, long delay, long period, boolean store) {
-        if (period > 0) {
-            BukkitTask t = SCHEDULER.runTaskTimerAsynchronously(PLUGIN, task, delay, period);
-            if (store) register(t);
-            return t;
-        } else if (delay > 0) {
-            BukkitTask t = SCHEDULER.runTaskLaterAsynchronously(PLUGIN, task, delay);
-            if (store) register(t);
-            return t;
-        } else {
-            return SCHEDULER.runTaskAsynchronously(PLUGIN, task);
-        }
+        BukkitTask t = executor.runAsync(task, delay, period);
+        if (store && (period > 0 || delay > 0)) register(t);
+        return t;
     }
 
     @Override
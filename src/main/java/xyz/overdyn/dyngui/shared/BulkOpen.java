@@ -0,0 +1,314 @@
+package xyz.overdyn.dyngui.shared;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.DynGui;
+import xyz.overdyn.dyngui.abstracts.AbstractGui;
+import xyz.overdyn.dyngui.scheduler.RegionExecutor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Opens a menu for many players, spread over ticks under a time budget.
+ *
+ * <p>Opening a menu for hundreds of players in one tick, e.g. when an event starts, builds
+ * and renders every inventory at once. A bulk open works through the players in order and
+ * stops for the tick once its budget is spent, continuing on the next tick; at least one
+ * player is served per tick. Players who went offline meanwhile are skipped.</p>
+ *
+ * <p>Each menu is opened on its player's thread. On Folia, players of other regions are
+ * handed to their region, and the budget is charged with the average time an open took
+ * so far, so a tick hands out about as much work as it would have done itself.</p>
+ *
+ * <p>The shared parts of the menu should be rendered once rather than per player: open a
+ * {@link SharedBoard} with {@link #board(SharedBoard)}, or build the GUIs from a
+ * {@link xyz.overdyn.dyngui.form.MenuTemplate} in {@link #menu(Function)}.</p>
+ *
+ * <pre>{@code
+ * BulkOpen.of(Bukkit.getOnlinePlayers())
+ *         .board(lobby)
+ *         .budgetMillis(4)
+ *         .onComplete(result -> getLogger().info("Opened for " + result.opened()))
+ *         .start();
+ * }</pre>
+ *
+ * <p><b>Threading:</b> start from any thread; the queue is worked off on the global region
+ * and the completion callback runs there, or on the starting thread if every player was
+ * served right away.</p>
+ */
+public final class BulkOpen {
+
+    private static final long DEFAULT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final ArrayDeque<Player> queue;
+    private @Nullable Consumer<Player> opener;
+    private long budgetNanos = DEFAULT_BUDGET_NANOS;
+    private @Nullable Consumer<Result> completion;
+
+    private volatile @Nullable BukkitTask task;
+    private boolean started;
+    private volatile boolean cancelled;
+    private volatile boolean finished;
+    private final AtomicInteger opened = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private int ticks;
+
+    /** Opens handed to other regions that did not finish yet; touched by the serving tick only. */
+    private final List<Pending> pending = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /** Time spent opening menus and number of opens measured, for the per-open estimate. */
+    private final AtomicLong openNanos = new AtomicLong();
+    private final AtomicInteger openCount = new AtomicInteger();
+
+    private BulkOpen(Collection<? extends Player> players) {
+        this.queue = new ArrayDeque<>(players);
+    }
+
+    /**
+     * Prepares a bulk open for players.
+     *
+     * @param players players, in the order they are served
+     * @return bulk open, not yet started
+     */
+    public static @NotNull BulkOpen of(@NotNull Collection<? extends Player> players) {
+        return new BulkOpen(players);
+    }
+
+    /**
+     * Opens a GUI built per player.
+     *
+     * @param factory creates the GUI of a player; called on the player's thread
+     * @return this bulk open
+     */
+    public @NotNull BulkOpen menu(@NotNull Function<? super Player, ? extends AbstractGui> factory) {
+        return opener(player -> factory.apply(player).open(player));
+    }
+
+    /**
+     * Opens a shared board, rendered once for all players.
+     *
+     * @param board board to open
+     * @return this bulk open
+     */
+    public @NotNull BulkOpen board(@NotNull SharedBoard board) {
+        return opener(board::open);
+    }
+
+    /**
+     * Opens with a custom action per player.
+     *
+     * @param opener opens the menu for a player; called on the player's thread
+     * @return this bulk open
+     */
+    public @NotNull BulkOpen opener(@NotNull Consumer<Player> opener) {
+        this.opener = opener;
+        return this;
+    }
+
+    /**
+     * Sets the time that may be spent per tick.
+     *
+     * @param millis budget in milliseconds
+     * @return this bulk open
+     */
+    public @NotNull BulkOpen budgetMillis(double millis) {
+        if (millis <= 0) throw new IllegalArgumentException("Budget must be positive: " + millis);
+        this.budgetNanos = (long) (millis * 1_000_000);
+        return this;
+    }
+
+    /**
+     * Sets the callback run once every player was served.
+     *
+     * @param completion completion callback
+     * @return this bulk open
+     */
+    public @NotNull BulkOpen onComplete(@NotNull Consumer<Result> completion) {
+        this.completion = completion;
+        return this;
+    }
+
+    /**
+     * Serves the first players right away and the rest on the following ticks.
+     *
+     * @return this bulk open
+     * @throws IllegalStateException if already started or no menu is set
+     */
+    public @NotNull BulkOpen start() {
+        if (started) throw new IllegalStateException("Bulk open already started");
+        if (opener == null) throw new IllegalStateException("No menu to open");
+        started = true;
+
+        if (runTick()) return this;
+
+        BukkitTask scheduled = DynGui.getInstance().getRegionExecutor().runGlobal(() -> {
+            if (!finished && runTick()) stopTask();
+        }, 1L, 1L);
+        task = scheduled;
+        // The first tick may have finished before the task was stored.
+        if (finished || cancelled) stopTask();
+        return this;
+    }
+
+    /**
+     * Stops serving players. The completion callback is not run.
+     */
+    public void cancel() {
+        cancelled = true;
+        stopTask();
+        synchronized (queue) {
+            queue.clear();
+        }
+    }
+
+    /**
+     * Returns the number of players not served yet, including those whose menu is being
+     * opened on another region.
+     *
+     * @return remaining players
+     */
+    public int remaining() {
+        synchronized (queue) {
+            return queue.size() + inFlight.get();
+        }
+    }
+
+    private void stopTask() {
+        BukkitTask scheduled = task;
+        if (scheduled != null) {
+            scheduled.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Serves players until the budget of this tick is spent.
+     *
+     * @return true if all players were served
+     */
+    private boolean runTick() {
+        RegionExecutor executor = DynGui.getInstance().getRegionExecutor();
+        long start = System.nanoTime();
+        long charged = 0L;
+        ticks++;
+        settlePending();
+
+        boolean first = true;
+        while (!cancelled && (first || System.nanoTime() - start + charged < budgetNanos)) {
+            Player player;
+            synchronized (queue) {
+                player = queue.pollFirst();
+            }
+            if (player == null) break;
+            first = false;
+
+            if (executor.isOwnedByCurrentThread(player)) {
+                serve(player);
+                continue;
+            }
+
+            Pending open = new Pending();
+            inFlight.incrementAndGet();
+            open.task = executor.runFor(player, () -> {
+                if (!open.claimed.compareAndSet(false, true)) return;
+                try {
+                    serve(player);
+                } finally {
+                    inFlight.decrementAndGet();
+                    open.done = true;
+                }
+            });
+            pending.add(open);
+            charged += estimatedOpenNanos();
+        }
+
+        if (remaining() > 0 || !pending.isEmpty()) return false;
+        finished = true;
+        if (completion != null && !cancelled) {
+            completion.accept(new Result(opened.get(), skipped.get(), failed.get(), ticks));
+        }
+        return true;
+    }
+
+    /**
+     * Drops finished opens; opens whose player left before the region ran them count as skipped.
+     */
+    private void settlePending() {
+        pending.removeIf(open -> {
+            if (open.done) return true;
+            if (!open.task.isCancelled() || !open.claimed.compareAndSet(false, true)) return false;
+            inFlight.decrementAndGet();
+            skipped.incrementAndGet();
+            return true;
+        });
+    }
+
+    /**
+     * Average time of an open so far; the whole budget until one was measured.
+     */
+    private long estimatedOpenNanos() {
+        int count = openCount.get();
+        return count == 0 ? budgetNanos : openNanos.get() / count;
+    }
+
+    /**
+     * Opens the menu for a player. Runs on the player's thread.
+     */
+    private void serve(Player player) {
+        if (cancelled) return;
+        if (!player.isOnline()) {
+            skipped.incrementAndGet();
+            return;
+        }
+
+        long begin = System.nanoTime();
+        try {
+            Objects.requireNonNull(opener).accept(player);
+            opened.incrementAndGet();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            Bukkit.getLogger().warning("[DynGUI] Failed to open menu for " + player.getName() + ": " + e);
+        } finally {
+            openNanos.addAndGet(System.nanoTime() - begin);
+            openCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Open handed to another region.
+     */
+    private static final class Pending {
+
+        private BukkitTask task;
+
+        /** Set by whoever settles the open first: the region running it or the tick skipping it. */
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile boolean done;
+    }
+
+    /**
+     * Outcome of a bulk open.
+     *
+     * @param opened  players the menu was opened for
+     * @param skipped players who were offline or left before they were served
+     * @param failed  players whose open threw
+     * @param ticks   ticks the open was spread over
+     */
+    public record Result(int opened, int skipped, int failed, int ticks) {
+    }
+}
@@ -0,0 +1,302 @@
+package xyz.overdyn.dyngui.shared;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.DynGui;
+import xyz.overdyn.dyngui.items.GuiItem;
+import xyz.overdyn.dyngui.policy.GuiPolicy;
+import xyz.overdyn.dyngui.scheduler.RegionExecutor;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Layout shown to many players at once, e.g. an auction house or a team vault.
+ *
+ * <p>{@link xyz.overdyn.dyngui.abstracts.AbstractGui} serves a single viewer, so a board
+ * opens one {@link SharedView} per player. The board items are rendered once, without a
+ * viewer, and the rendered stacks are copied into every view. Changes are collected and
+ * applied on the next tick, so any number of {@link #update(GuiItem)} calls within one tick
+ * cost one render per changed item, however many players watch.</p>
+ *
+ * <p>Viewer-specific items are set on the view as {@linkplain SharedView#setOverlay(GuiItem)
+ * overlays}, which cover board slots for that viewer only. A click runs the handler of the
+ * overlay or board item in the slot with the event of the clicking viewer, so
+ * {@link org.bukkit.event.inventory.InventoryClickEvent#getWhoClicked()} tells who acted.</p>
+ *
+ * <p>Board items are rendered without a viewer; placeholders depending on the viewer belong
+ * in overlays.</p>
+ *
+ * <p><b>Threading:</b> board methods may be called from any thread. Open a view on the
+ * player's thread and change its overlays on the viewer's thread; rendered stacks, titles
+ * and closes are handed to each viewer's thread by the board.</p>
+ */
+public final class SharedBoard {
+
+    private final int size;
+    private final @Nullable InventoryType type;
+    private final GuiPolicy policy;
+    private volatile @NotNull Component title;
+
+    /** Board item of each slot. */
+    private final GuiItem[] layout;
+
+    /** Rendered stack of each slot, shared by all views. */
+    private final ItemStack[] rendered;
+
+    /** Slots to render on the next flush. */
+    private final BitSet dirty = new BitSet();
+
+    private final Map<Player, SharedView> views = new LinkedHashMap<>();
+
+    private boolean flushScheduled;
+
+    /**
+     * Creates a chest board.
+     *
+     * @param size   inventory size (must be divisible by 9)
+     * @param title  title of the views
+     * @param policy policy of the views
+     */
+    public SharedBoard(int size, @NotNull Component title, @NotNull GuiPolicy policy) {
+        this(size, null, title, policy);
+    }
+
+    /**
+     * Creates a board based on a specific {@link InventoryType}.
+     *
+     * @param type   inventory type
+     * @param title  title of the views
+     * @param policy policy of the views
+     */
+    public SharedBoard(@NotNull InventoryType type, @NotNull Component title, @NotNull GuiPolicy policy) {
+        this(type.getDefaultSize(), type, title, policy);
+    }
+
+    private SharedBoard(int size, @Nullable InventoryType type, @NotNull Component title, @NotNull GuiPolicy policy) {
+        this.size = size;
+        this.type = type;
+        this.title = title;
+        this.policy = policy;
+        this.layout = new GuiItem[size];
+        this.rendered = new ItemStack[size];
+    }
+
+    /**
+     * Places an item on the board. Items occupying its slots are removed from the board.
+     *
+     * @param item item bound to its current slots
+     * @throws IllegalArgumentException if a slot is outside the board
+     */
+    public synchronized void setItem(@NotNull GuiItem item) {
+        for (int slot : item.getSlots()) {
+            if (slot < 0 || slot >= size) throw new IllegalArgumentException("Slot outside the board: " + slot);
+        }
+        for (int slot : item.getSlots()) {
+            GuiItem existing = layout[slot];
+            if (existing != null && existing != item) removeItem(existing);
+        }
+        for (int slot : item.getSlots()) {
+            layout[slot] = item;
+            markDirty(slot);
+        }
+    }
+
+    /**
+     * Removes an item from the board.
+     *
+     * @param item board item
+     */
+    public synchronized void removeItem(@NotNull GuiItem item) {
+        for (int slot = 0; slot < size; slot++) {
+            if (layout[slot] != item) continue;
+            layout[slot] = null;
+            markDirty(slot);
+        }
+    }
+
+    /**
+     * Removes the item of a slot from all of its slots.
+     *
+     * @param slot board slot
+     */
+    public synchronized void removeItem(int slot) {
+        GuiItem item = getItem(slot);
+        if (item != null) removeItem(item);
+    }
+
+    /**
+     * Returns the board item of a slot.
+     *
+     * @param slot board slot
+     * @return item, or {@code null} if the slot is empty
+     */
+    public synchronized @Nullable GuiItem getItem(int slot) {
+        return slot >= 0 && slot < size ? layout[slot] : null;
+    }
+
+    /**
+     * Re-renders a board item for all viewers on the next tick.
+     *
+     * @param item board item
+     */
+    public synchronized void update(@NotNull GuiItem item) {
+        for (int slot = 0; slot < size; slot++) {
+            if (layout[slot] == item) markDirty(slot);
+        }
+    }
+
+    /**
+     * Re-renders all board items for all viewers on the next tick.
+     */
+    public synchronized void updateAll() {
+        for (int slot = 0; slot < size; slot++) {
+            if (layout[slot] != null) markDirty(slot);
+        }
+    }
+
+    /**
+     * Opens the board for a player, or returns the view the player already has open.
+     * Must be called on the player's thread.
+     *
+     * @param player viewer
+     * @return view of the player
+     */
+    public @NotNull SharedView open(@NotNull Player player) {
+        SharedView existing = view(player);
+        if (existing != null && existing.isOpen()) return existing;
+
+        // Render pending changes now, so the new viewer does not see them a tick late.
+        flush();
+
+        SharedView view = type != null
+                ? new SharedView(this, type, title, policy)
+                : new SharedView(this, size, title, policy);
+        synchronized (this) {
+            view.getInventory().setContents(rendered);
+            views.put(player, view);
+        }
+        view.open(player);
+        return view;
+    }
+
+    /**
+     * Returns the view of a player.
+     *
+     * @param player viewer
+     * @return view, or {@code null} if the player does not view the board
+     */
+    public synchronized @Nullable SharedView view(@NotNull Player player) {
+        return views.get(player);
+    }
+
+    /**
+     * Returns the views of all viewers.
+     *
+     * @return unmodifiable snapshot of the views
+     */
+    public synchronized @NotNull Collection<SharedView> views() {
+        return List.copyOf(views.values());
+    }
+
+    /**
+     * Closes the board for all viewers, each on the viewer's thread.
+     */
+    public void closeAll() {
+        forEachView(SharedView::close);
+    }
+
+    /**
+     * Returns the title new views are opened with.
+     *
+     * @return title
+     */
+    public @NotNull Component getTitle() {
+        return title;
+    }
+
+    /**
+     * Sets the title and sends it to all viewers on the next tick.
+     *
+     * @param title new title
+     */
+    public void setTitle(@NotNull Component title) {
+        this.title = title;
+        forEachView(view -> view.requestTitle(title));
+    }
+
+    /**
+     * Returns the inventory size of the views.
+     *
+     * @return size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the rendered board stack of a slot.
+     */
+    synchronized @Nullable ItemStack rendered(int slot) {
+        return rendered[slot];
+    }
+
+    synchronized void viewClosed(@NotNull Player player, @NotNull SharedView view) {
+        views.remove(player, view);
+    }
+
+    /**
+     * Runs an action for every view on the thread of its viewer.
+     */
+    private void forEachView(@NotNull Consumer<SharedView> action) {
+        Map<Player, SharedView> targets;
+        synchronized (this) {
+            targets = new LinkedHashMap<>(views);
+        }
+        RegionExecutor executor = DynGui.getInstance().getRegionExecutor();
+        targets.forEach((player, view) -> executor.execute(player, () -> action.accept(view)));
+    }
+
+    private void markDirty(int slot) {
+        dirty.set(slot);
+        if (flushScheduled || views.isEmpty()) return;
+
+        JavaPlugin plugin = DynGui.getInstance().getPlugin();
+        if (!plugin.isEnabled()) return;
+
+        flushScheduled = true;
+        DynGui.getInstance().getRegionExecutor().runGlobal(this::flush);
+    }
+
+    /**
+     * Renders every changed item once and copies the stacks into all views, each on the
+     * viewer's thread.
+     */
+    private void flush() {
+        int[] slots;
+        ItemStack[] stacks;
+        synchronized (this) {
+            flushScheduled = false;
+            if (dirty.isEmpty()) return;
+
+            slots = dirty.stream().toArray();
+            stacks = new ItemStack[slots.length];
+            Map<GuiItem, ItemStack> renders = new IdentityHashMap<>();
+            for (int i = 0; i < slots.length; i++) {
+                GuiItem item = layout[slots[i]];
+                rendered[slots[i]] = item == null ? null : renders.computeIfAbsent(item, key -> key.render(null).clone());
+                stacks[i] = rendered[slots[i]];
+            }
+            dirty.clear();
+        }
+
+        forEachView(view -> {
+            for (int i = 0; i < slots.length; i++) view.showBoard(slots[i], stacks[i]);
+        });
+    }
+}
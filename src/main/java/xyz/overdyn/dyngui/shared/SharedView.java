@@ -0,0 +1,157 @@
+package xyz.overdyn.dyngui.shared;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.abstracts.AbstractGuiController;
+import xyz.overdyn.dyngui.items.GuiItem;
+import xyz.overdyn.dyngui.policy.GuiPolicy;
+
+/**
+ * One player's view of a {@link SharedBoard}.
+ *
+ * <p>Shows the board stacks rendered for everybody, except in slots covered by an overlay:
+ * items of this viewer only, rendered for this viewer. Clicks run the handler of the overlay
+ * or, if there is none, of the board item in the slot.</p>
+ *
+ * <p>A view is created by {@link SharedBoard#open(Player)} and discarded when closed.</p>
+ */
+public final class SharedView extends AbstractGuiController {
+
+    private final SharedBoard board;
+
+    /** Overlay item of each slot. */
+    private final GuiItem[] overlays;
+
+    {
+        onClose(event -> board.viewClosed((Player) event.getPlayer(), this));
+    }
+
+    SharedView(@NotNull SharedBoard board, int size, @NotNull Component title, @NotNull GuiPolicy policy) {
+        super(size, title, policy);
+        this.board = board;
+        this.overlays = new GuiItem[board.getSize()];
+        routeClicks();
+    }
+
+    SharedView(@NotNull SharedBoard board, @NotNull InventoryType type, @NotNull Component title, @NotNull GuiPolicy policy) {
+        super(type, title, policy);
+        this.board = board;
+        this.overlays = new GuiItem[board.getSize()];
+        routeClicks();
+    }
+
+    /**
+     * Renders the overlays for the viewer before the inventory is shown.
+     *
+     * @param entity viewer entity (must be a {@link Player})
+     */
+    @Override
+    public void open(@NotNull HumanEntity entity) {
+        if (entity instanceof Player player) {
+            for (int slot = 0; slot < overlays.length; slot++) {
+                GuiItem overlay = overlays[slot];
+                if (overlay != null) getInventory().setItem(slot, overlay.render(player));
+            }
+        }
+        super.open(entity);
+    }
+
+    /**
+     * Returns the board this view shows.
+     *
+     * @return board
+     */
+    public @NotNull SharedBoard board() {
+        return board;
+    }
+
+    /**
+     * Covers board slots with an item shown to this viewer only. Overlays occupying its
+     * slots are removed.
+     *
+     * @param item overlay bound to its current slots
+     * @throws IllegalArgumentException if a slot is outside the board
+     */
+    public void setOverlay(@NotNull GuiItem item) {
+        for (int slot : item.getSlots()) {
+            if (slot < 0 || slot >= overlays.length) {
+                throw new IllegalArgumentException("Slot outside the board: " + slot);
+            }
+        }
+        for (int slot : item.getSlots()) {
+            GuiItem existing = overlays[slot];
+            if (existing != null && existing != item) removeOverlay(existing);
+        }
+
+        ItemStack stack = item.render(getViewer());
+        for (int slot : item.getSlots()) {
+            overlays[slot] = item;
+            getInventory().setItem(slot, stack);
+        }
+    }
+
+    /**
+     * Removes an overlay, uncovering the board slots below it.
+     *
+     * @param item overlay
+     */
+    public void removeOverlay(@NotNull GuiItem item) {
+        for (int slot = 0; slot < overlays.length; slot++) {
+            if (overlays[slot] != item) continue;
+            overlays[slot] = null;
+            getInventory().setItem(slot, board.rendered(slot));
+        }
+    }
+
+    /**
+     * Re-renders an overlay for the viewer.
+     *
+     * @param item overlay
+     */
+    public void updateOverlay(@NotNull GuiItem item) {
+        ItemStack stack = null;
+        for (int slot = 0; slot < overlays.length; slot++) {
+            if (overlays[slot] != item) continue;
+            if (stack == null) stack = item.render(getViewer());
+            getInventory().setItem(slot, stack);
+        }
+    }
+
+    /**
+     * Returns the overlay of a slot.
+     *
+     * @param slot slot
+     * @return overlay, or {@code null} if the slot shows the board
+     */
+    public @Nullable GuiItem getOverlay(int slot) {
+        return slot >= 0 && slot < overlays.length ? overlays[slot] : null;
+    }
+
+    /**
+     * Shows a board stack unless the slot is covered by an overlay.
+     */
+    void showBoard(int slot, @Nullable ItemStack stack) {
+        if (overlays[slot] == null) getInventory().setItem(slot, stack);
+    }
+
+    /**
+     * Binds one fixed handler per slot, resolving the overlay or board item on click.
+     */
+    private void routeClicks() {
+        for (int slot = 0; slot < overlays.length; slot++) {
+            int target = slot;
+            setSlotHandler(slot, event -> click(target, event));
+        }
+    }
+
+    private void click(int slot, InventoryClickEvent event) {
+        GuiItem item = overlays[slot] != null ? overlays[slot] : board.getItem(slot);
+        if (item != null) item.handleClick(event);
+    }
+}
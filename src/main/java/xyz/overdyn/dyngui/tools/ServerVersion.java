@@ -1,5 +1,7 @@
 package xyz.overdyn.dyngui.tools;
 
+import org.bukkit.Bukkit;
+
 /**
  * Enum representing Minecraft server versions with their protocol numbers and NMS versions.
  */
@@ -126,4 +128,27 @@ public enum ServerVersion {
         
         return ERROR;
     }
+
+    /**
+     * Detects the version of the running server.
+     *
+     * @return the detected ServerVersion or ERROR if unknown
+     */
+    public static ServerVersion detect() {
+        try {
+            String packageName = Bukkit.getServer().getClass().getPackage().getName();
+            String nmsVersion = packageName.substring(packageName.lastIndexOf('.') + 1);
+
+            if (nmsVersion.startsWith("v1_")) {
+                ServerVersion version = fromNmsVersion(nmsVersion);
+                if (!version.isError()) {
+                    return version;
+                }
+            }
+
+            return fromBukkitVersion(Bukkit.getBukkitVersion());
+        } catch (Exception e) {
+            return ERROR;
+        }
+    }
 }
\ No newline at end of file
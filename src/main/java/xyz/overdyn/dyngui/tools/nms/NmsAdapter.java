@@ -0,0 +1,72 @@
+package xyz.overdyn.dyngui.tools.nms;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.tools.ServerVersion;
+
+/**
+ * Access to server internals that the Bukkit API does not expose.
+ *
+ * <p>The adapter is chosen once, on first use, by {@link #get()}: a precompiled adapter for
+ * the running {@link ServerVersion} is used if one is on the classpath, otherwise the
+ * {@link ReflectionNmsAdapter}, which resolves its method handles once at startup.</p>
+ *
+ * <p>A precompiled adapter is a class named {@code xyz.overdyn.dyngui.tools.nms.<nms version>.NmsAdapterImpl}
+ * (e.g. {@code ...nms.v1_18_R2.NmsAdapterImpl}) with a public no-argument constructor.</p>
+ */
+public interface NmsAdapter {
+
+    /**
+     * Returns the adapter of the running server.
+     *
+     * @return adapter, never {@code null}; check {@link #isAvailable()}
+     */
+    static @NotNull NmsAdapter get() {
+        return Holder.ADAPTER;
+    }
+
+    /**
+     * Tells whether this adapter works on the running server.
+     *
+     * @return true if the internals it needs were found
+     */
+    boolean isAvailable();
+
+    /**
+     * Re-sends the open screen packet of the player's current container with a new title.
+     * The client keeps the contents and only replaces the title.
+     *
+     * @param player player with an open container
+     * @param title  new title
+     * @throws Throwable if the packet could not be sent
+     */
+    void sendOpenScreen(@NotNull Player player, @NotNull Component title) throws Throwable;
+
+    /**
+     * Selects the adapter once per class loader.
+     */
+    final class Holder {
+
+        private static final NmsAdapter ADAPTER = select(ServerVersion.detect());
+
+        private Holder() {
+        }
+
+        private static NmsAdapter select(ServerVersion version) {
+            if (!version.isError()) {
+                String name = NmsAdapter.class.getPackageName() + "." + version.getNmsVersion() + ".NmsAdapterImpl";
+                try {
+                    NmsAdapter adapter = (NmsAdapter) Class.forName(name).getConstructor().newInstance();
+                    if (adapter.isAvailable()) return adapter;
+                } catch (ClassNotFoundException ignored) {
+                    // no precompiled adapter for this version
+                } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+                    Bukkit.getLogger().warning("[DynGUI] Failed to load NMS adapter " + name + ": " + e);
+                }
+            }
+            return new ReflectionNmsAdapter(version);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package xyz.overdyn.dyngui.tools.nms;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.tools.ServerVersion;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Fallback {@link NmsAdapter} working on Mojang-mapped servers through method handles.
+ *
+ * <p>All classes, fields and methods are looked up once, when the adapter is created;
+ * afterwards every call is a plain handle invocation. If any of them is missing the adapter
+ * is {@linkplain #isAvailable() unavailable}.</p>
+ */
+public final class ReflectionNmsAdapter implements NmsAdapter {
+
+    private final @Nullable Handles handles;
+
+    /**
+     * Resolves the handles for a server version.
+     *
+     * @param version running server version
+     */
+    public ReflectionNmsAdapter(@NotNull ServerVersion version) {
+        Handles resolved = null;
+        if (version.isSupported()) {
+            try {
+                resolved = Handles.resolve();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                Bukkit.getLogger().warning("[DynGUI] Inventory title updates are unavailable: " + e);
+            }
+        }
+        this.handles = resolved;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return handles != null;
+    }
+
+    @Override
+    public void sendOpenScreen(@NotNull Player player, @NotNull Component title) throws Throwable {
+        Handles h = handles;
+        if (h == null) throw new IllegalStateException("NMS adapter is unavailable");
+
+        Object serverPlayer = h.getHandle.invoke(player);
+        Object containerMenu = h.containerMenu.invoke(serverPlayer);
+        int containerId = (int) h.containerId.invoke(containerMenu);
+        Object menuType = h.menuType.invoke(containerMenu);
+
+        Object packet = h.openScreenPacket.invoke(containerId, menuType, h.toVanilla(title));
+        h.send.invoke(h.connection.invoke(serverPlayer), packet);
+    }
+
+    /**
+     * Resolved handles; all non-null.
+     */
+    private record Handles(MethodHandle getHandle,
+                           MethodHandle containerMenu,
+                           MethodHandle containerId,
+                           MethodHandle menuType,
+                           MethodHandle openScreenPacket,
+                           MethodHandle connection,
+                           MethodHandle send,
+                           @Nullable MethodHandle asVanilla,
+                           @Nullable MethodHandle literal) {
+
+        static Handles resolve() throws ReflectiveOperationException {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+            String craftPackage = Bukkit.getServer().getClass().getPackageName();
+            Class<?> craftPlayer = Class.forName(craftPackage + ".entity.CraftPlayer");
+            Class<?> serverPlayer = Class.forName("net.minecraft.server.level.ServerPlayer");
+            Class<?> containerMenu = Class.forName("net.minecraft.world.inventory.AbstractContainerMenu");
+            Class<?> menuType = Class.forName("net.minecraft.world.inventory.MenuType");
+            Class<?> component = Class.forName("net.minecraft.network.chat.Component");
+            Class<?> packet = Class.forName("net.minecraft.network.protocol.Packet");
+            Class<?> openScreen = Class.forName("net.minecraft.network.protocol.game.ClientboundOpenScreenPacket");
+
+            Class<?> listener = serverPlayer.getField("connection").getType();
+
+            return new Handles(
+                    lookup.unreflect(craftPlayer.getMethod("getHandle")),
+                    lookup.unreflectGetter(serverPlayer.getField("containerMenu")),
+                    lookup.unreflectGetter(containerMenu.getField("containerId")),
+                    lookup.unreflect(containerMenu.getMethod("getType")),
+                    lookup.findConstructor(openScreen, MethodType.methodType(void.class, int.class, menuType, component)),
+                    lookup.unreflectGetter(serverPlayer.getField("connection")),
+                    lookup.unreflect(listener.getMethod("send", packet)),
+                    asVanilla(lookup, craftPackage),
+                    literal(lookup, component)
+            );
+        }
+
+        Object toVanilla(Component title) throws Throwable {
+            if (asVanilla != null) return asVanilla.invoke(title);
+            if (literal != null) return literal.invoke(PlainTextComponentSerializer.plainText().serialize(title));
+            throw new IllegalStateException("No component converter available");
+        }
+
+        private static @Nullable MethodHandle asVanilla(MethodHandles.Lookup lookup, String craftPackage) {
+            try {
+                Class<?> paperAdventure = Class.forName("io.papermc.paper.adventure.PaperAdventure");
+                return lookup.unreflect(paperAdventure.getMethod("asVanilla", Component.class));
+            } catch (ReflectiveOperationException | LinkageError e) {
+                try {
+                    Class<?> craftChatMessage = Class.forName(craftPackage + ".util.CraftChatMessage");
+                    return lookup.unreflect(craftChatMessage.getMethod("fromAdventure", Component.class));
+                } catch (ReflectiveOperationException | LinkageError e2) {
+                    return null;
+                }
+            }
+        }
+
+        private static @Nullable MethodHandle literal(MethodHandles.Lookup lookup, Class<?> component) {
+            try {
+                return lookup.unreflect(component.getMethod("literal", String.class));
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package xyz.overdyn.dyngui;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.scheduler.RegionExecutor;
+import xyz.overdyn.dyngui.scheduler.TaskScheduler;
+import xyz.overdyn.dyngui.scheduler.TaskSchedulerImpl;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * {@link DynGui} for tests running without a server, backed by a given executor.
+ */
+public final class TestDynGui implements DynGui {
+
+    private final RegionExecutor executor;
+
+    private TestDynGui(RegionExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Installs a test instance as the global DynGui.
+     */
+    public static void install(@NotNull RegionExecutor executor) {
+        DynGui.Holder.INSTANCE = new TestDynGui(executor);
+    }
+
+    public static void uninstall() {
+        DynGui.Holder.INSTANCE = null;
+    }
+
+    /**
+     * Creates a player stub answering only identity, its name and whether it is online.
+     */
+    public static @NotNull Player player(@NotNull String name, boolean online) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[]{Player.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getName", "toString" -> name;
+                    case "isOnline" -> online;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    @Override
+    public @NotNull JavaPlugin getPlugin() {
+        throw new UnsupportedOperationException("No plugin in tests");
+    }
+
+    @Override
+    public TaskScheduler createTaskScheduler() {
+        return new TaskSchedulerImpl(executor, () -> null);
+    }
+
+    @Override
+    public @NotNull RegionExecutor getRegionExecutor() {
+        return executor;
+    }
+
+    @Override
+    public void dispose() {
+        uninstall();
+    }
+
+    @Override
+    public boolean isSupportedPlaceholder() {
+        return false;
+    }
+}
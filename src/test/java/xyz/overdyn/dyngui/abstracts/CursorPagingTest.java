@@ -0,0 +1,138 @@
+package xyz.overdyn.dyngui.abstracts;
+
+import org.junit.jupiter.api.Test;
+import xyz.overdyn.dyngui.content.CursorSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPagingTest {
+
+    private static final int SEEDS = 50;
+    private static final int FLIPS = 500;
+
+    private record Entry(int key) {
+    }
+
+    @Test
+    void pagesMatchSortedListModelWhileSourceChanges() {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            run(seed);
+        }
+    }
+
+    private void run(long seed) {
+        Random random = new Random(seed);
+        int perPage = 1 + random.nextInt(7);
+        TreeMap<Integer, Entry> map = new TreeMap<>();
+        for (int i = random.nextInt(40); i > 0; i--) put(map, random);
+
+        AbstractGuiContent.CursorPaging<Integer, Entry> paging =
+                new AbstractGuiContent.CursorPaging<>(CursorSource.of(map, Entry::key));
+
+        // Viewer state, as kept by AbstractGuiContent: open page index and its entries.
+        int current = -1;
+        List<Entry> shown = List.of();
+
+        for (int flip = 0; flip < FLIPS; flip++) {
+            String context = "seed " + seed + ", flip " + flip + ", page " + current + ", shown " + shown;
+            List<Entry> model = new ArrayList<>(map.values());
+
+            int pageCount = paging.pageCount(current, shown, perPage);
+            assertEquals(expectedPageCount(model, current, shown, perPage), pageCount, context);
+            assertEquals(expectedAtStart(model, shown), paging.atStart(shown), context);
+
+            if (pageCount > 0) {
+                int target = target(random, current, pageCount);
+                List<Entry> page = paging.page(current, shown, target, perPage);
+                assertEquals(expectedPage(model, current, shown, target, perPage), page,
+                        context + ", target " + target);
+
+                shown = page;
+                current = target;
+                if (current > 0 && paging.atStart(shown)) current = 0;
+            }
+
+            // Concurrent changes between page flips, sometimes to the entries on the open page.
+            for (int i = random.nextInt(4); i > 0; i--) {
+                if (random.nextBoolean() || map.isEmpty()) {
+                    put(map, random);
+                } else if (!shown.isEmpty() && random.nextInt(3) == 0) {
+                    map.remove(shown.get(random.nextInt(shown.size())).key());
+                } else {
+                    map.remove(new ArrayList<>(map.keySet()).get(random.nextInt(map.size())));
+                }
+            }
+        }
+    }
+
+    private static int target(Random random, int current, int pageCount) {
+        int target = switch (random.nextInt(5)) {
+            case 0 -> current + 1;
+            case 1 -> current - 1;
+            case 2 -> current;
+            case 3 -> 0;
+            default -> random.nextInt(pageCount);
+        };
+        return Math.max(0, Math.min(pageCount - 1, target));
+    }
+
+    private static void put(TreeMap<Integer, Entry> map, Random random) {
+        int key = random.nextInt(200);
+        map.put(key, new Entry(key));
+    }
+
+    private static int expectedPageCount(List<Entry> model, int current, List<Entry> shown, int perPage) {
+        if (current < 0 || shown.isEmpty()) return model.isEmpty() ? 0 : model.size() > perPage ? 2 : 1;
+        return current + (countUpTo(model, last(shown)) < model.size() ? 2 : 1);
+    }
+
+    private static boolean expectedAtStart(List<Entry> model, List<Entry> shown) {
+        return shown.isEmpty() || countBelow(model, shown.get(0).key()) == 0;
+    }
+
+    private static List<Entry> expectedPage(List<Entry> model, int current, List<Entry> shown,
+                                            int target, int perPage) {
+        if (current < 0 || shown.isEmpty() || target == 0) return window(model, target * perPage, perPage);
+
+        // Forward: whole pages after the last shown key.
+        if (target > current) {
+            return window(model, countUpTo(model, last(shown)) + (target - current - 1) * perPage, perPage);
+        }
+
+        // Backward: whole pages before the first shown key, or the first page when they run out.
+        int before = countBelow(model, shown.get(0).key());
+        if (target < current) {
+            int steps = current - target;
+            return before >= steps * perPage
+                    ? window(model, before - steps * perPage, perPage)
+                    : window(model, 0, perPage);
+        }
+        return window(model, before, perPage);
+    }
+
+    private static List<Entry> window(List<Entry> model, int offset, int perPage) {
+        int from = Math.min(offset, model.size());
+        return model.subList(from, Math.min(from + perPage, model.size()));
+    }
+
+    private static int last(List<Entry> shown) {
+        return shown.get(shown.size() - 1).key();
+    }
+
+    private static int countBelow(List<Entry> model, int key) {
+        int count = 0;
+        while (count < model.size() && model.get(count).key() < key) count++;
+        return count;
+    }
+
+    private static int countUpTo(List<Entry> model, int key) {
+        int count = 0;
+        while (count < model.size() && model.get(count).key() <= key) count++;
+        return count;
+    }
+}
@@ -0,0 +1,101 @@
+package xyz.overdyn.dyngui.content;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentViewTest {
+
+    private static final int SEEDS = 50;
+    private static final int QUERIES = 200;
+    private static final String[] WORDS = {
+            "iron", "iron_sword", "gold", "golden", "diamond", "apple", "Ápple", "bow", "b"
+    };
+
+    private record Entry(int id, int price, int amount, String name) {
+    }
+
+    // Same instances on every query, so the snapshot reuses its cached indexes.
+    private static final List<Comparator<Entry>> ORDERS = List.of(
+            Comparator.comparingInt(Entry::price),
+            Comparator.comparingInt(Entry::amount).reversed(),
+            Comparator.comparing(Entry::name)
+    );
+    private static final List<Predicate<Entry>> FILTERS = List.of(
+            entry -> entry.price() % 2 == 0,
+            entry -> entry.amount() > 32,
+            entry -> entry.name().contains("o")
+    );
+
+    @Test
+    void computeMatchesListModel() {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            Random random = new Random(seed);
+            List<Entry> entries = entries(random);
+            ContentView.Snapshot<Entry> snapshot = ContentView.Snapshot.read(ContentSource.of(entries), Entry::name);
+
+            for (int q = 0; q < QUERIES; q++) {
+                Comparator<Entry> order = random.nextInt(4) == 0 ? null : ORDERS.get(random.nextInt(ORDERS.size()));
+                List<Predicate<? super Entry>> predicates = new ArrayList<>();
+                for (Predicate<Entry> filter : FILTERS) {
+                    if (random.nextInt(3) == 0) predicates.add(filter);
+                }
+                String query = random.nextInt(3) == 0 ? "" : text(random, true);
+                String[] words = ContentView.words(query);
+
+                assertEquals(expected(entries, order, predicates, words),
+                        snapshot.compute(order, predicates, words),
+                        "seed " + seed + ", query " + q + " '" + query + "'");
+            }
+        }
+    }
+
+    private static List<Entry> expected(List<Entry> entries, Comparator<Entry> order,
+                                        List<Predicate<? super Entry>> predicates, String[] words) {
+        List<Entry> result = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (predicates.stream().allMatch(predicate -> predicate.test(entry))
+                    && Arrays.stream(words).allMatch(word -> hasWordStartingWith(entry.name(), word))) {
+                result.add(entry);
+            }
+        }
+        // List.sort is stable, like the view: equal entries keep the base order.
+        if (order != null) result.sort(order);
+        return result;
+    }
+
+    private static boolean hasWordStartingWith(String text, String prefix) {
+        return Arrays.stream(ContentView.words(text)).anyMatch(word -> word.startsWith(prefix));
+    }
+
+    private static List<Entry> entries(Random random) {
+        int count = random.nextInt(60);
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(new Entry(i, random.nextInt(10), random.nextInt(64), text(random, false)));
+        }
+        return entries;
+    }
+
+    /**
+     * Random words joined by separators; with {@code prefixes}, words are cut to a random prefix.
+     */
+    private static String text(Random random, boolean prefixes) {
+        int count = 1 + random.nextInt(3);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) text.append(random.nextBoolean() ? " " : "-");
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (prefixes) word = word.substring(0, 1 + random.nextInt(word.length()));
+            text.append(random.nextBoolean() ? word.toUpperCase() : word);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package xyz.overdyn.dyngui.content;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderedContentTest {
+
+    private static final int SEEDS = 20;
+    private static final int OPERATIONS = 2_000;
+
+    /** Positions reported to the listener, in order. */
+    private final List<Integer> fired = new ArrayList<>();
+
+    @Test
+    void matchesListModelUnderRandomChanges() {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            run(seed);
+        }
+    }
+
+    private void run(long seed) {
+        Random random = new Random(seed);
+        OrderedContent<Integer, String> content = new OrderedContent<>();
+        // Model: keys in content order; the entry of key k at version v is "k:v".
+        List<Integer> keys = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        fired.clear();
+        content.addListener(fired::add);
+        int nextKey = 0;
+
+        for (int op = 0; op < OPERATIONS; op++) {
+            String context = "seed " + seed + ", operation " + op;
+            int roll = random.nextInt(100);
+
+            if (roll < 45 || keys.isEmpty()) {
+                int index = random.nextInt(keys.size() + 1);
+                int key = nextKey++;
+                content.insert(index, key, key + ":0");
+                keys.add(index, key);
+                values.add(index, key + ":0");
+                assertEquals(index, lastFired(), context);
+            } else if (roll < 75) {
+                // Sometimes a key that was never added or is already removed.
+                int key = random.nextInt(nextKey + 5);
+                int expected = keys.indexOf(key);
+                assertEquals(expected, content.remove(key), context);
+                if (expected >= 0) {
+                    keys.remove(expected);
+                    values.remove(expected);
+                    assertEquals(expected, lastFired(), context);
+                }
+            } else if (roll < 98) {
+                int key = random.nextInt(nextKey + 5);
+                int expected = keys.indexOf(key);
+                String value = key + ":" + op;
+                assertEquals(expected, content.update(key, value), context);
+                if (expected >= 0) {
+                    values.set(expected, value);
+                    assertEquals(expected, lastFired(), context);
+                }
+            } else {
+                content.clear();
+                keys.clear();
+                values.clear();
+            }
+
+            verify(content, keys, values, random, context);
+        }
+    }
+
+    private void verify(OrderedContent<Integer, String> content, List<Integer> keys, List<String> values,
+                        Random random, String context) {
+        int size = keys.size();
+        assertEquals(size, content.count(), context);
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, content.indexOf(keys.get(i)), context);
+            assertEquals(values.get(i), content.get(i), context);
+            assertEquals(values.get(i), content.get(keys.get(i)), context);
+        }
+        assertEquals(-1, content.indexOf(-1), context);
+        assertNull(content.get(Integer.valueOf(-1)), context);
+        assertThrows(IndexOutOfBoundsException.class, () -> content.get(size), context);
+
+        int offset = random.nextInt(size + 3);
+        int limit = 1 + random.nextInt(10);
+        int from = Math.min(offset, size);
+        int to = Math.min(offset + limit, size);
+        assertEquals(values.subList(from, to), content.fetch(offset, limit), context);
+        assertEquals(values, content.fetch(0, size + 1), context);
+    }
+
+    private int lastFired() {
+        return fired.get(fired.size() - 1);
+    }
+}
@@ -0,0 +1,62 @@
+package xyz.overdyn.dyngui.form.requirements.expression;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpressionParserTest {
+
+    private static boolean evaluate(String source) {
+        SymbolTable symbols = new SymbolTable();
+        Expression expression = Expressions.parse(source, symbols);
+        EvaluationContext context = new EvaluationContext(symbols.placeholders());
+        context.reset(null);
+        try {
+            return expression.bool(context);
+        } finally {
+            context.release();
+        }
+    }
+
+    @Test
+    void versionIsBareword() {
+        assertTrue(evaluate("1.20.4 == 1.20.4"));
+        assertFalse(evaluate("1.20.4 == 1.20.5"));
+        assertEquals(Expression.Kind.STRING, Expressions.parse("1.20.4", new SymbolTable()).kind());
+    }
+
+    @Test
+    void versionsAreOrdered() {
+        assertTrue(evaluate("1.20.4 >= 1.20.4"));
+        assertTrue(evaluate("1.20.4 >= 1.18.2"));
+        assertTrue(evaluate("1.20.10 > 1.20.9"));
+        assertFalse(evaluate("1.9.4 > 1.20.1"));
+        assertFalse(evaluate("abc < 1.20.1"));
+    }
+
+    @Test
+    void versionPlaceholderCompiles() {
+        SymbolTable symbols = new SymbolTable();
+        assertDoesNotThrow(() -> Expressions.parse("%server_version% >= 1.20.4", symbols));
+        assertArrayEquals(new String[]{"%server_version%"}, symbols.placeholders());
+    }
+
+    @Test
+    void hyphenInsideBarewordIsText() {
+        assertTrue(evaluate("my-world == my-world"));
+        assertFalse(evaluate("my-world == my"));
+        assertTrue(evaluate("1.20.4-pre1 == '1.20.4-pre1'"));
+
+        SymbolTable symbols = new SymbolTable();
+        Expression expression = Expressions.parse("%player_world% == my-world", symbols);
+        assertEquals(Expression.Kind.BOOLEAN, expression.kind());
+        assertArrayEquals(new String[]{"%player_world%"}, symbols.placeholders());
+    }
+
+    @Test
+    void hyphenBetweenNumbersIsSubtraction() {
+        assertTrue(evaluate("10-4 == 6"));
+        assertTrue(evaluate("10 - 4 == 6"));
+        assertTrue(evaluate("-3 < 0"));
+    }
+}
@@ -0,0 +1,194 @@
+package xyz.overdyn.dyngui.scheduler;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multi-region {@link RegionExecutor} for tests, modelled on Folia.
+ *
+ * <p>Shared work runs on a thread named {@code global}, every region on its own thread named
+ * {@code region-<name>} and async work on {@code async} threads. Entities are placed into
+ * regions with {@link #place(Entity, String)}; a removed entity drops its pending tasks. A
+ * tick lasts {@value #TICK_MILLIS} ms.</p>
+ */
+public final class FakeRegionExecutor implements RegionExecutor {
+
+    public static final long TICK_MILLIS = 1L;
+
+    private static final AtomicInteger IDS = new AtomicInteger();
+
+    private final ScheduledExecutorService global = single("global");
+    private final ScheduledExecutorService async = Executors.newScheduledThreadPool(2, named("async"));
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+    private final Map<Entity, Region> placement = new ConcurrentHashMap<>();
+    private final Set<Entity> removed = ConcurrentHashMap.newKeySet();
+
+    private volatile Thread globalThread;
+
+    public FakeRegionExecutor() {
+        try {
+            global.submit(() -> globalThread = Thread.currentThread()).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Places an entity into a region, creating the region on first use.
+     */
+    public void place(@NotNull Entity entity, @NotNull String region) {
+        placement.put(entity, regions.computeIfAbsent(region, Region::new));
+        removed.remove(entity);
+    }
+
+    /**
+     * Removes an entity from the world, like a player quitting.
+     */
+    public void remove(@NotNull Entity entity) {
+        removed.add(entity);
+    }
+
+    /**
+     * Tells whether the current thread is the global region thread.
+     */
+    public boolean onGlobalThread() {
+        return Thread.currentThread() == globalThread;
+    }
+
+    /**
+     * Runs a task on the global thread and waits for it.
+     */
+    public <T> T callGlobal(@NotNull Callable<T> task) throws Exception {
+        return global.submit(task).get(5, TimeUnit.SECONDS);
+    }
+
+    public void shutdown() {
+        global.shutdownNow();
+        async.shutdownNow();
+        regions.values().forEach(region -> region.executor.shutdownNow());
+    }
+
+    @Override
+    public @NotNull BukkitTask runGlobal(@NotNull Runnable task, long delay, long period) {
+        return schedule(global, task, delay, period, true, null);
+    }
+
+    @Override
+    public @NotNull BukkitTask runFor(@NotNull Entity entity, @NotNull Runnable task, long delay, long period) {
+        Region region = region(entity);
+        FakeTask fake = schedule(region.executor, task, delay, period, true, entity);
+        if (removed.contains(entity)) fake.cancel();
+        return fake;
+    }
+
+    @Override
+    public @NotNull BukkitTask runAsync(@NotNull Runnable task, long delay, long period) {
+        return schedule(async, task, delay, period, false, null);
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(@NotNull Entity entity) {
+        return !removed.contains(entity) && Thread.currentThread() == region(entity).thread;
+    }
+
+    private Region region(Entity entity) {
+        Region region = placement.get(entity);
+        if (region == null) throw new IllegalStateException("Entity is not placed in a region: " + entity);
+        return region;
+    }
+
+    private FakeTask schedule(ScheduledExecutorService executor, Runnable task, long delay, long period,
+                              boolean sync, Entity entity) {
+        FakeTask fake = new FakeTask(sync);
+        Runnable body = () -> {
+            if (fake.cancelled) return;
+            if (entity != null && removed.contains(entity)) {
+                fake.cancel();
+                return;
+            }
+            task.run();
+        };
+
+        long delayMillis = Math.max(1L, delay) * TICK_MILLIS;
+        fake.future = period > 0
+                ? executor.scheduleAtFixedRate(body, delayMillis, period * TICK_MILLIS, TimeUnit.MILLISECONDS)
+                : executor.schedule(body, delayMillis, TimeUnit.MILLISECONDS);
+        return fake;
+    }
+
+    private static ScheduledExecutorService single(String name) {
+        return Executors.newSingleThreadScheduledExecutor(named(name));
+    }
+
+    private static ThreadFactory named(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Region {
+
+        private final ScheduledExecutorService executor;
+        private volatile Thread thread;
+
+        private Region(String name) {
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread created = new Thread(runnable, "region-" + name);
+                created.setDaemon(true);
+                thread = created;
+                return created;
+            });
+            // Starts the thread, so ownership can be checked before the first task.
+            executor.execute(() -> {
+            });
+        }
+    }
+
+    private static final class FakeTask implements BukkitTask {
+
+        private final int id = IDS.incrementAndGet();
+        private final boolean sync;
+        private volatile ScheduledFuture<?> future;
+        private volatile boolean cancelled;
+
+        private FakeTask(boolean sync) {
+            this.sync = sync;
+        }
+
+        @Override
+        public int getTaskId() {
+            return id;
+        }
+
+        @Override
+        public @NotNull Plugin getOwner() {
+            throw new UnsupportedOperationException("Fake tasks have no plugin");
+        }
+
+        @Override
+        public boolean isSync() {
+            return sync;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            ScheduledFuture<?> scheduled = future;
+            if (scheduled != null) scheduled.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package xyz.overdyn.dyngui.scheduler;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import xyz.overdyn.dyngui.DynGui;
+import xyz.overdyn.dyngui.TestDynGui;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSchedulerImplTest {
+
+    private final FakeRegionExecutor executor = new FakeRegionExecutor();
+    private final Player alice = TestDynGui.player("alice", true);
+    private final Player bob = TestDynGui.player("bob", true);
+
+    {
+        executor.place(alice, "a");
+        executor.place(bob, "b");
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static String threadOf(TaskScheduler scheduler) throws Exception {
+        CompletableFuture<String> thread = new CompletableFuture<>();
+        scheduler.runTask(() -> thread.complete(Thread.currentThread().getName()));
+        return thread.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void guiTasksRunOnTheViewersRegion() throws Exception {
+        assertEquals("region-a", threadOf(new TaskSchedulerImpl(executor, () -> alice)));
+        assertEquals("region-b", threadOf(new TaskSchedulerImpl(executor, () -> bob)));
+    }
+
+    @Test
+    void tasksWithoutViewerRunOnTheGlobalRegion() throws Exception {
+        assertEquals("global", threadOf(new TaskSchedulerImpl(executor, () -> null)));
+    }
+
+    @Test
+    void tasksFollowTheCurrentViewer() throws Exception {
+        AtomicReference<Player> viewer = new AtomicReference<>(alice);
+        TaskScheduler scheduler = new TaskSchedulerImpl(executor, viewer::get);
+
+        assertEquals("region-a", threadOf(scheduler));
+        viewer.set(bob);
+        assertEquals("region-b", threadOf(scheduler));
+    }
+
+    @Test
+    void asyncTasksRunOffTheRegions() throws Exception {
+        CompletableFuture<String> thread = new CompletableFuture<>();
+        new TaskSchedulerImpl(executor, () -> alice).runTaskAsync(() -> thread.complete(Thread.currentThread().getName()));
+        assertEquals("async", thread.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void cancelAllStopsRepeatingTasks() throws Exception {
+        TaskScheduler scheduler = new TaskSchedulerImpl(executor, () -> alice);
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(3);
+        scheduler.runTask(() -> {
+            runs.incrementAndGet();
+            started.countDown();
+        }, 1L, 1L);
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        scheduler.cancelAll();
+        // Let a run that was already executing finish.
+        Thread.sleep(20 * FakeRegionExecutor.TICK_MILLIS);
+        int afterCancel = runs.get();
+        Thread.sleep(50 * FakeRegionExecutor.TICK_MILLIS);
+
+        assertEquals(afterCancel, runs.get());
+        assertTrue(scheduler.getTasks().isEmpty());
+    }
+
+    @Test
+    void executeRunsInlineOnlyOnTheOwningRegion() throws Exception {
+        CompletableFuture<String> other = new CompletableFuture<>();
+        CompletableFuture<Boolean> inline = new CompletableFuture<>();
+
+        executor.runFor(alice, () -> {
+            boolean[] ran = new boolean[1];
+            executor.execute(alice, () -> ran[0] = true);
+            inline.complete(ran[0]);
+            executor.execute(bob, () -> other.complete(Thread.currentThread().getName()));
+        });
+
+        assertTrue(inline.get(5, TimeUnit.SECONDS));
+        assertEquals("region-b", other.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void tasksOfRemovedEntitiesAreDropped() throws Exception {
+        executor.remove(alice);
+        AtomicInteger runs = new AtomicInteger();
+        var task = new TaskSchedulerImpl(executor, () -> alice).runTask(runs::incrementAndGet);
+
+        Thread.sleep(20 * FakeRegionExecutor.TICK_MILLIS);
+        assertTrue(task.isCancelled());
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void defaultSchedulerOfCustomDynGuiKeepsTheViewer() throws Exception {
+        TaskScheduler scheduler = new DefaultsOnly(executor).createTaskScheduler(() -> bob);
+        assertEquals("region-b", threadOf(scheduler));
+    }
+
+    /**
+     * Third-party implementation relying on the interface defaults.
+     */
+    private record DefaultsOnly(RegionExecutor executor) implements DynGui {
+
+        @Override
+        public @NotNull JavaPlugin getPlugin() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TaskScheduler createTaskScheduler() {
+            return new TaskSchedulerImpl(executor, () -> null);
+        }
+
+        @Override
+        public @NotNull RegionExecutor getRegionExecutor() {
+            return executor;
+        }
+
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public boolean isSupportedPlaceholder() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package xyz.overdyn.dyngui.shared;
+
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import xyz.overdyn.dyngui.TestDynGui;
+import xyz.overdyn.dyngui.scheduler.FakeRegionExecutor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkOpenTest {
+
+    private final FakeRegionExecutor executor = new FakeRegionExecutor();
+    private final Player alice = TestDynGui.player("alice", true);
+    private final Player bob = TestDynGui.player("bob", true);
+    private final Player carol = TestDynGui.player("carol", false);
+    private final Player dave = TestDynGui.player("dave", true);
+
+    /** Thread each player's menu was opened on. */
+    private final Map<Player, String> openedOn = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void install() {
+        executor.place(alice, "a");
+        executor.place(bob, "b");
+        executor.place(carol, "c");
+        executor.place(dave, "a");
+        TestDynGui.install(executor);
+    }
+
+    @AfterEach
+    void uninstall() {
+        TestDynGui.uninstall();
+        executor.shutdown();
+    }
+
+    private BulkOpen bulk(List<Player> players, CompletableFuture<BulkOpen.Result> result, CompletableFuture<String> completedOn) {
+        return BulkOpen.of(players)
+                .opener(player -> {
+                    assertTrue(executor.isOwnedByCurrentThread(player), "opened off the player's region");
+                    openedOn.put(player, Thread.currentThread().getName());
+                })
+                .onComplete(done -> {
+                    completedOn.complete(Thread.currentThread().getName());
+                    result.complete(done);
+                });
+    }
+
+    @Test
+    void opensEveryMenuOnItsPlayersRegion() throws Exception {
+        executor.remove(dave);
+        CompletableFuture<BulkOpen.Result> result = new CompletableFuture<>();
+        CompletableFuture<String> completedOn = new CompletableFuture<>();
+
+        executor.callGlobal(() -> bulk(List.of(alice, bob, carol, dave), result, completedOn).start());
+
+        BulkOpen.Result done = result.get(5, TimeUnit.SECONDS);
+        assertEquals("global", completedOn.get());
+        assertEquals(Map.of(alice, "region-a", bob, "region-b"), openedOn);
+        assertEquals(2, done.opened());
+        // Carol is offline, dave left before his region ran the open.
+        assertEquals(2, done.skipped());
+        assertEquals(0, done.failed());
+    }
+
+    @Test
+    void playersOfTheStartingRegionAreOpenedRightAway() throws Exception {
+        CompletableFuture<BulkOpen.Result> result = new CompletableFuture<>();
+        CompletableFuture<String> completedOn = new CompletableFuture<>();
+        CompletableFuture<Boolean> openedBeforeReturn = new CompletableFuture<>();
+
+        executor.runFor(alice, () -> {
+            bulk(List.of(alice, bob), result, completedOn).start();
+            openedBeforeReturn.complete(openedOn.containsKey(alice));
+        });
+
+        assertTrue(openedBeforeReturn.get(5, TimeUnit.SECONDS));
+        assertEquals(2, result.get(5, TimeUnit.SECONDS).opened());
+        assertEquals("global", completedOn.get());
+        assertEquals("region-b", openedOn.get(bob));
+    }
+}